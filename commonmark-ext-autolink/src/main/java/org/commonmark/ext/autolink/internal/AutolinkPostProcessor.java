@@ -23,7 +23,7 @@ public class AutolinkPostProcessor implements PostProcessor {
     }
 
     private void linkify(Text originalTextNode) {
-        String literal = originalTextNode.getLiteral();
+        CharSequence literal = originalTextNode.getLiteralSequence();
 
         Node lastNode = originalTextNode;
         List<SourceSpan> sourceSpans = originalTextNode.getSourceSpans();
@@ -40,7 +40,7 @@ public class AutolinkPostProcessor implements PostProcessor {
 
             Text textNode = createTextNode(literal, span, sourceSpan);
             if (span instanceof LinkSpan) {
-                String destination = getDestination((LinkSpan) span, textNode.getLiteral());
+                String destination = getDestination((LinkSpan) span, textNode.getLiteralSequence().toString());
 
                 Link linkNode = new Link(destination, null);
                 linkNode.appendChild(textNode);
@@ -55,11 +55,11 @@ public class AutolinkPostProcessor implements PostProcessor {
         originalTextNode.unlink();
     }
 
-    private static Text createTextNode(String literal, Span span, SourceSpan sourceSpan) {
+    private static Text createTextNode(CharSequence literal, Span span, SourceSpan sourceSpan) {
         int beginIndex = span.getBeginIndex();
         int endIndex = span.getEndIndex();
-        String text = literal.substring(beginIndex, endIndex);
-        Text textNode = new Text(text);
+        Text textNode = new Text();
+        textNode.setLiteralSequence(literal.subSequence(beginIndex, endIndex));
         if (sourceSpan != null) {
             int length = endIndex - beginIndex;
             textNode.addSourceSpan(SourceSpan.of(sourceSpan.getLineIndex(), beginIndex, length));
@@ -0,0 +1,32 @@
+package org.commonmark.ext.gfm.strikethrough.internal;
+
+import org.commonmark.ext.gfm.strikethrough.Strikethrough;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeInput;
+import org.commonmark.serialization.NodeOutput;
+
+/**
+ * Serialization of {@link Strikethrough} nodes.
+ */
+public class StrikethroughNodeCodec implements NodeCodec<Strikethrough> {
+
+    @Override
+    public Class<Strikethrough> getNodeType() {
+        return Strikethrough.class;
+    }
+
+    @Override
+    public String getName() {
+        return Strikethrough.class.getName();
+    }
+
+    @Override
+    public void write(Strikethrough node, NodeOutput output) {
+        // No fields
+    }
+
+    @Override
+    public Strikethrough read(NodeInput input) {
+        return new Strikethrough();
+    }
+}
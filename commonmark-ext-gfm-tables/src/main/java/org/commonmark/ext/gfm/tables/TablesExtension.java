@@ -3,6 +3,7 @@ package org.commonmark.ext.gfm.tables;
 import org.commonmark.Extension;
 import org.commonmark.ext.gfm.tables.internal.TableBlockParser;
 import org.commonmark.ext.gfm.tables.internal.TableHtmlNodeRenderer;
+import org.commonmark.ext.gfm.tables.internal.TableNodeCodecs;
 import org.commonmark.ext.gfm.tables.internal.TableTextContentNodeRenderer;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
@@ -12,6 +13,8 @@ import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.renderer.text.TextContentNodeRendererContext;
 import org.commonmark.renderer.text.TextContentNodeRendererFactory;
 import org.commonmark.renderer.text.TextContentRenderer;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeSerializer;
 
 /**
  * Extension for GFM tables using "|" pipes (GitHub Flavored Markdown).
@@ -27,7 +30,7 @@ import org.commonmark.renderer.text.TextContentRenderer;
  * @see <a href="https://github.github.com/gfm/#tables-extension-">Tables (extension) in GitHub Flavored Markdown Spec</a>
  */
 public class TablesExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension,
-        TextContentRenderer.TextContentRendererExtension {
+        TextContentRenderer.TextContentRendererExtension, NodeSerializer.NodeSerializerExtension {
 
     private TablesExtension() {
     }
@@ -60,4 +63,11 @@ public class TablesExtension implements Parser.ParserExtension, HtmlRenderer.Htm
             }
         });
     }
+
+    @Override
+    public void extend(NodeSerializer.Builder serializerBuilder) {
+        for (NodeCodec<?> codec : TableNodeCodecs.create()) {
+            serializerBuilder.codec(codec);
+        }
+    }
 }
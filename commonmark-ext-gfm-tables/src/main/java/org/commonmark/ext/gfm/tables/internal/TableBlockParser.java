@@ -11,9 +11,12 @@ import org.commonmark.parser.SourceLines;
 import org.commonmark.parser.block.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
-public class TableBlockParser extends AbstractBlockParser {
+public class TableBlockParser extends AbstractBlockParser implements BlockParserWithInlines {
 
     private final TableBlock block = new TableBlock();
     private final List<SourceLine> rowLines = new ArrayList<>();
@@ -262,7 +265,12 @@ public class TableBlockParser extends AbstractBlockParser {
         }
     }
 
-    public static class Factory extends AbstractBlockParserFactory {
+    public static class Factory extends AbstractBlockParserFactory implements TriggerCharacters {
+
+        @Override
+        public Set<Character> getTriggerCharacters() {
+            return new HashSet<>(Arrays.asList('|', '-', ':'));
+        }
 
         @Override
         public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
@@ -0,0 +1,131 @@
+package org.commonmark.ext.gfm.tables.internal;
+
+import org.commonmark.ext.gfm.tables.*;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeInput;
+import org.commonmark.serialization.NodeOutput;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Serialization of the table nodes.
+ */
+public class TableNodeCodecs {
+
+    public static List<NodeCodec<?>> create() {
+        return Arrays.<NodeCodec<?>>asList(
+                new NodeCodec<TableBlock>() {
+                    @Override
+                    public Class<TableBlock> getNodeType() {
+                        return TableBlock.class;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return TableBlock.class.getName();
+                    }
+
+                    @Override
+                    public void write(TableBlock node, NodeOutput output) {
+                    }
+
+                    @Override
+                    public TableBlock read(NodeInput input) {
+                        return new TableBlock();
+                    }
+                },
+                new NodeCodec<TableHead>() {
+                    @Override
+                    public Class<TableHead> getNodeType() {
+                        return TableHead.class;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return TableHead.class.getName();
+                    }
+
+                    @Override
+                    public void write(TableHead node, NodeOutput output) {
+                    }
+
+                    @Override
+                    public TableHead read(NodeInput input) {
+                        return new TableHead();
+                    }
+                },
+                new NodeCodec<TableBody>() {
+                    @Override
+                    public Class<TableBody> getNodeType() {
+                        return TableBody.class;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return TableBody.class.getName();
+                    }
+
+                    @Override
+                    public void write(TableBody node, NodeOutput output) {
+                    }
+
+                    @Override
+                    public TableBody read(NodeInput input) {
+                        return new TableBody();
+                    }
+                },
+                new NodeCodec<TableRow>() {
+                    @Override
+                    public Class<TableRow> getNodeType() {
+                        return TableRow.class;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return TableRow.class.getName();
+                    }
+
+                    @Override
+                    public void write(TableRow node, NodeOutput output) {
+                    }
+
+                    @Override
+                    public TableRow read(NodeInput input) {
+                        return new TableRow();
+                    }
+                },
+                new TableCellCodec());
+    }
+
+    private static class TableCellCodec implements NodeCodec<TableCell> {
+
+        @Override
+        public Class<TableCell> getNodeType() {
+            return TableCell.class;
+        }
+
+        @Override
+        public String getName() {
+            return TableCell.class.getName();
+        }
+
+        @Override
+        public void write(TableCell node, NodeOutput output) {
+            output.writeBoolean(node.isHeader());
+            TableCell.Alignment alignment = node.getAlignment();
+            output.writeString(alignment != null ? alignment.name() : null);
+        }
+
+        @Override
+        public TableCell read(NodeInput input) {
+            TableCell tableCell = new TableCell();
+            tableCell.setHeader(input.readBoolean());
+            String alignment = input.readString();
+            if (alignment != null) {
+                tableCell.setAlignment(TableCell.Alignment.valueOf(alignment));
+            }
+            return tableCell;
+        }
+    }
+}
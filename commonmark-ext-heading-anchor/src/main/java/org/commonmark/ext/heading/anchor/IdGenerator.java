@@ -80,6 +80,15 @@ public class IdGenerator {
         }
     }
 
+    /**
+     * Forget the previously generated IDs, e.g. to use this generator for another document.
+     *
+     * @since 0.22.0
+     */
+    public void reset() {
+        identityMap.clear();
+    }
+
     private static Pattern compileAllowedCharactersPattern() {
         String regex = "[\\w\\-_]+";
         try {
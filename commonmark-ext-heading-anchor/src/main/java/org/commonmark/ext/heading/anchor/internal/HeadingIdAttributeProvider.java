@@ -1,6 +1,7 @@
 package org.commonmark.ext.heading.anchor.internal;
 
 import org.commonmark.ext.heading.anchor.IdGenerator;
+import org.commonmark.renderer.Resettable;
 import org.commonmark.renderer.html.AttributeProvider;
 import org.commonmark.node.*;
 
@@ -8,7 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-public class HeadingIdAttributeProvider implements AttributeProvider {
+public class HeadingIdAttributeProvider implements AttributeProvider, Resettable {
 
     private final IdGenerator idGenerator;
 
@@ -52,4 +53,9 @@ public class HeadingIdAttributeProvider implements AttributeProvider {
             attributes.put("id", idGenerator.generateId(finalString));
         }
     }
+
+    @Override
+    public void reset() {
+        idGenerator.reset();
+    }
 }
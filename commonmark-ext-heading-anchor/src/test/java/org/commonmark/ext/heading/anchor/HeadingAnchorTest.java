@@ -3,12 +3,15 @@ package org.commonmark.ext.heading.anchor;
 import org.commonmark.Extension;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.html.HtmlRendererSession;
 import org.commonmark.testutil.RenderingTestCase;
 import org.junit.Test;
 
 import java.util.Collections;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
+
 public class HeadingAnchorTest extends RenderingTestCase {
 
     private static final Set<Extension> EXTENSIONS = Collections.singleton(HeadingAnchorExtension.create());
@@ -90,6 +93,15 @@ public class HeadingAnchorTest extends RenderingTestCase {
         assertRendering("# Product\u036D\u036B", "<h1 id=\"product\u036D\u036B\">Product\u036D\u036B</h1>\n");
     }
 
+    @Test
+    public void sessionStartsIdsFromScratchForEachDocument() {
+        HtmlRendererSession session = RENDERER.newSession();
+        for (int i = 0; i < 2; i++) {
+            assertEquals("<h1 id=\"heading\">Heading</h1>\n<h1 id=\"heading-1\">Heading</h1>\n",
+                    session.render(PARSER.parse("# Heading\n# Heading")));
+        }
+    }
+
     @Override
     protected String render(String source) {
         return RENDERER.render(PARSER.parse(source));
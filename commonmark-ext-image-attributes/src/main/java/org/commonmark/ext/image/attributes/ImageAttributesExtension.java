@@ -3,11 +3,13 @@ package org.commonmark.ext.image.attributes;
 import org.commonmark.Extension;
 import org.commonmark.ext.image.attributes.internal.ImageAttributesAttributeProvider;
 import org.commonmark.ext.image.attributes.internal.ImageAttributesDelimiterProcessor;
+import org.commonmark.ext.image.attributes.internal.ImageAttributesNodeCodec;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.AttributeProvider;
 import org.commonmark.renderer.html.AttributeProviderContext;
 import org.commonmark.renderer.html.AttributeProviderFactory;
 import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.serialization.NodeSerializer;
 
 /**
  * Extension for adding attributes to image nodes.
@@ -19,7 +21,8 @@ import org.commonmark.renderer.html.HtmlRenderer;
  *
  * @since 0.15.0
  */
-public class ImageAttributesExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension {
+public class ImageAttributesExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension,
+        NodeSerializer.NodeSerializerExtension {
 
     private ImageAttributesExtension() {
     }
@@ -42,4 +45,9 @@ public class ImageAttributesExtension implements Parser.ParserExtension, HtmlRen
             }
         });
     }
+
+    @Override
+    public void extend(NodeSerializer.Builder serializerBuilder) {
+        serializerBuilder.codec(new ImageAttributesNodeCodec());
+    }
 }
@@ -0,0 +1,46 @@
+package org.commonmark.ext.image.attributes.internal;
+
+import org.commonmark.ext.image.attributes.ImageAttributes;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeInput;
+import org.commonmark.serialization.NodeOutput;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Serialization of {@link ImageAttributes} nodes.
+ */
+public class ImageAttributesNodeCodec implements NodeCodec<ImageAttributes> {
+
+    @Override
+    public Class<ImageAttributes> getNodeType() {
+        return ImageAttributes.class;
+    }
+
+    @Override
+    public String getName() {
+        return ImageAttributes.class.getName();
+    }
+
+    @Override
+    public void write(ImageAttributes node, NodeOutput output) {
+        Map<String, String> attributes = node.getAttributes();
+        output.writeInt(attributes.size());
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            output.writeString(entry.getKey());
+            output.writeString(entry.getValue());
+        }
+    }
+
+    @Override
+    public ImageAttributes read(NodeInput input) {
+        int size = input.readInt();
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = input.readString();
+            attributes.put(key, input.readString());
+        }
+        return new ImageAttributes(attributes);
+    }
+}
@@ -3,6 +3,7 @@ package org.commonmark.ext.ins;
 import org.commonmark.Extension;
 import org.commonmark.ext.ins.internal.InsDelimiterProcessor;
 import org.commonmark.ext.ins.internal.InsHtmlNodeRenderer;
+import org.commonmark.ext.ins.internal.InsNodeCodec;
 import org.commonmark.ext.ins.internal.InsTextContentNodeRenderer;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
@@ -12,6 +13,7 @@ import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.renderer.text.TextContentNodeRendererContext;
 import org.commonmark.renderer.text.TextContentNodeRendererFactory;
 import org.commonmark.renderer.text.TextContentRenderer;
+import org.commonmark.serialization.NodeSerializer;
 
 /**
  * Extension for ins using ++
@@ -26,7 +28,7 @@ import org.commonmark.renderer.text.TextContentRenderer;
  */
 public class InsExtension implements Parser.ParserExtension,
         HtmlRenderer.HtmlRendererExtension,
-        TextContentRenderer.TextContentRendererExtension {
+        TextContentRenderer.TextContentRendererExtension, NodeSerializer.NodeSerializerExtension {
 
     private InsExtension() {
     }
@@ -59,4 +61,9 @@ public class InsExtension implements Parser.ParserExtension,
             }
         });
     }
+
+    @Override
+    public void extend(NodeSerializer.Builder serializerBuilder) {
+        serializerBuilder.codec(new InsNodeCodec());
+    }
 }
@@ -0,0 +1,32 @@
+package org.commonmark.ext.ins.internal;
+
+import org.commonmark.ext.ins.Ins;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeInput;
+import org.commonmark.serialization.NodeOutput;
+
+/**
+ * Serialization of {@link Ins} nodes.
+ */
+public class InsNodeCodec implements NodeCodec<Ins> {
+
+    @Override
+    public Class<Ins> getNodeType() {
+        return Ins.class;
+    }
+
+    @Override
+    public String getName() {
+        return Ins.class.getName();
+    }
+
+    @Override
+    public void write(Ins node, NodeOutput output) {
+        // No fields
+    }
+
+    @Override
+    public Ins read(NodeInput input) {
+        return new Ins();
+    }
+}
@@ -2,12 +2,14 @@ package org.commonmark.ext.task.list.items;
 
 import org.commonmark.Extension;
 import org.commonmark.ext.task.list.items.internal.TaskListItemHtmlNodeRenderer;
+import org.commonmark.ext.task.list.items.internal.TaskListItemMarkerNodeCodec;
 import org.commonmark.ext.task.list.items.internal.TaskListItemPostProcessor;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.NodeRenderer;
 import org.commonmark.renderer.html.HtmlNodeRendererContext;
 import org.commonmark.renderer.html.HtmlNodeRendererFactory;
 import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.serialization.NodeSerializer;
 
 /**
  * Extension for adding task list items.
@@ -19,7 +21,8 @@ import org.commonmark.renderer.html.HtmlRenderer;
  *
  * @since 0.15.0
  */
-public class TaskListItemsExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension {
+public class TaskListItemsExtension implements Parser.ParserExtension, HtmlRenderer.HtmlRendererExtension,
+        NodeSerializer.NodeSerializerExtension {
 
     private TaskListItemsExtension() {
     }
@@ -42,4 +45,9 @@ public class TaskListItemsExtension implements Parser.ParserExtension, HtmlRende
             }
         });
     }
+
+    @Override
+    public void extend(NodeSerializer.Builder serializerBuilder) {
+        serializerBuilder.codec(new TaskListItemMarkerNodeCodec());
+    }
 }
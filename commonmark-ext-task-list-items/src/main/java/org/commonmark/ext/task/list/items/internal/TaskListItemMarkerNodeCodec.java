@@ -0,0 +1,32 @@
+package org.commonmark.ext.task.list.items.internal;
+
+import org.commonmark.ext.task.list.items.TaskListItemMarker;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeInput;
+import org.commonmark.serialization.NodeOutput;
+
+/**
+ * Serialization of {@link TaskListItemMarker} nodes.
+ */
+public class TaskListItemMarkerNodeCodec implements NodeCodec<TaskListItemMarker> {
+
+    @Override
+    public Class<TaskListItemMarker> getNodeType() {
+        return TaskListItemMarker.class;
+    }
+
+    @Override
+    public String getName() {
+        return TaskListItemMarker.class.getName();
+    }
+
+    @Override
+    public void write(TaskListItemMarker node, NodeOutput output) {
+        output.writeBoolean(node.isChecked());
+    }
+
+    @Override
+    public TaskListItemMarker read(NodeInput input) {
+        return new TaskListItemMarker(input.readBoolean());
+    }
+}
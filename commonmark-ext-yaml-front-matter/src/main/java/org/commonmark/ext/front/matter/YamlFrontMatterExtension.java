@@ -2,8 +2,11 @@ package org.commonmark.ext.front.matter;
 
 import org.commonmark.Extension;
 import org.commonmark.ext.front.matter.internal.YamlFrontMatterBlockParser;
+import org.commonmark.ext.front.matter.internal.YamlFrontMatterNodeCodecs;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeSerializer;
 
 /**
  * Extension for YAML-like metadata.
@@ -16,7 +19,7 @@ import org.commonmark.renderer.html.HtmlRenderer;
  * The parsed metadata is turned into {@link YamlFrontMatterNode}. You can access the metadata using {@link YamlFrontMatterVisitor}.
  * </p>
  */
-public class YamlFrontMatterExtension implements Parser.ParserExtension {
+public class YamlFrontMatterExtension implements Parser.ParserExtension, NodeSerializer.NodeSerializerExtension {
 
     private YamlFrontMatterExtension() {
     }
@@ -29,4 +32,11 @@ public class YamlFrontMatterExtension implements Parser.ParserExtension {
     public static Extension create() {
         return new YamlFrontMatterExtension();
     }
+
+    @Override
+    public void extend(NodeSerializer.Builder serializerBuilder) {
+        for (NodeCodec<?> codec : YamlFrontMatterNodeCodecs.create()) {
+            serializerBuilder.codec(codec);
+        }
+    }
 }
@@ -4,12 +4,13 @@ import org.commonmark.ext.front.matter.YamlFrontMatterBlock;
 import org.commonmark.ext.front.matter.YamlFrontMatterNode;
 import org.commonmark.internal.DocumentBlockParser;
 import org.commonmark.node.Block;
-import org.commonmark.parser.InlineParser;
 import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.block.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -91,10 +92,6 @@ public class YamlFrontMatterBlockParser extends AbstractBlockParser {
         }
     }
 
-    @Override
-    public void parseInlines(InlineParser inlineParser) {
-    }
-
     private static String parseString(String s) {
         // Limited parsing of https://yaml.org/spec/1.2.2/#73-flow-scalar-styles
         // We assume input is well-formed and otherwise treat it as a plain string. In a real
@@ -113,7 +110,13 @@ public class YamlFrontMatterBlockParser extends AbstractBlockParser {
         }
     }
 
-    public static class Factory extends AbstractBlockParserFactory {
+    public static class Factory extends AbstractBlockParserFactory implements TriggerCharacters {
+
+        @Override
+        public Set<Character> getTriggerCharacters() {
+            return Collections.singleton('-');
+        }
+
         @Override
         public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
             CharSequence line = state.getLine().getContent();
@@ -0,0 +1,76 @@
+package org.commonmark.ext.front.matter.internal;
+
+import org.commonmark.ext.front.matter.YamlFrontMatterBlock;
+import org.commonmark.ext.front.matter.YamlFrontMatterNode;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeInput;
+import org.commonmark.serialization.NodeOutput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Serialization of the front matter nodes.
+ */
+public class YamlFrontMatterNodeCodecs {
+
+    public static List<NodeCodec<?>> create() {
+        return Arrays.<NodeCodec<?>>asList(
+                new NodeCodec<YamlFrontMatterBlock>() {
+                    @Override
+                    public Class<YamlFrontMatterBlock> getNodeType() {
+                        return YamlFrontMatterBlock.class;
+                    }
+
+                    @Override
+                    public String getName() {
+                        return YamlFrontMatterBlock.class.getName();
+                    }
+
+                    @Override
+                    public void write(YamlFrontMatterBlock node, NodeOutput output) {
+                    }
+
+                    @Override
+                    public YamlFrontMatterBlock read(NodeInput input) {
+                        return new YamlFrontMatterBlock();
+                    }
+                },
+                new YamlFrontMatterNodeCodec());
+    }
+
+    private static class YamlFrontMatterNodeCodec implements NodeCodec<YamlFrontMatterNode> {
+
+        @Override
+        public Class<YamlFrontMatterNode> getNodeType() {
+            return YamlFrontMatterNode.class;
+        }
+
+        @Override
+        public String getName() {
+            return YamlFrontMatterNode.class.getName();
+        }
+
+        @Override
+        public void write(YamlFrontMatterNode node, NodeOutput output) {
+            output.writeString(node.getKey());
+            List<String> values = node.getValues();
+            output.writeInt(values.size());
+            for (String value : values) {
+                output.writeString(value);
+            }
+        }
+
+        @Override
+        public YamlFrontMatterNode read(NodeInput input) {
+            String key = input.readString();
+            int size = input.readInt();
+            List<String> values = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                values.add(input.readString());
+            }
+            return new YamlFrontMatterNode(key, values);
+        }
+    }
+}
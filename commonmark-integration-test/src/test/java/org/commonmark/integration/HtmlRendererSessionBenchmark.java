@@ -0,0 +1,95 @@
+package org.commonmark.integration;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.autolink.AutolinkExtension;
+import org.commonmark.ext.front.matter.YamlFrontMatterExtension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.ext.image.attributes.ImageAttributesExtension;
+import org.commonmark.ext.ins.InsExtension;
+import org.commonmark.ext.task.list.items.TaskListItemsExtension;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.renderer.html.HtmlRendererSession;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares rendering lots of small documents (spec examples) with all extensions enabled with
+ * {@link HtmlRenderer#render} and with a {@link HtmlRendererSession} per thread. The score is in documents per
+ * second.
+ */
+@State(Scope.Thread)
+@Fork(2)
+@Threads(4)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class HtmlRendererSessionBenchmark {
+
+    private static final int DOCUMENTS_PER_INVOCATION = 500;
+    private static final List<Extension> EXTENSIONS = Arrays.asList(
+            AutolinkExtension.create(),
+            ImageAttributesExtension.create(),
+            InsExtension.create(),
+            StrikethroughExtension.create(),
+            TablesExtension.create(),
+            TaskListItemsExtension.create(),
+            YamlFrontMatterExtension.create());
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().extensions(EXTENSIONS).build();
+    private static final List<Node> DOCUMENTS = parseDocuments();
+
+    private HtmlRendererSession session;
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(HtmlRendererSessionBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        session = RENDERER.newSession();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTS_PER_INVOCATION)
+    public long render() {
+        long length = 0;
+        for (Node document : DOCUMENTS) {
+            length += RENDERER.render(document).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DOCUMENTS_PER_INVOCATION)
+    public long renderWithSession() {
+        long length = 0;
+        for (Node document : DOCUMENTS) {
+            length += session.render(document).length();
+        }
+        return length;
+    }
+
+    private static List<Node> parseDocuments() {
+        Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+        List<String> examples = ExampleReader.readExampleSources(TestResources.getSpec());
+        List<Node> documents = new ArrayList<>();
+        for (String example : examples.subList(0, DOCUMENTS_PER_INVOCATION)) {
+            documents.add(parser.parse(example));
+        }
+        return documents;
+    }
+}
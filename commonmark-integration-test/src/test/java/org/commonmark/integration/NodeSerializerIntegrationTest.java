@@ -0,0 +1,61 @@
+package org.commonmark.integration;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.serialization.NodeSerializer;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the nodes of all extensions survive serializing and deserializing.
+ */
+public class NodeSerializerIntegrationTest {
+
+    private static final Parser PARSER = Parser.builder()
+            .extensions(SpecIntegrationTest.EXTENSIONS)
+            .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+            .build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().extensions(SpecIntegrationTest.EXTENSIONS).build();
+    private static final NodeSerializer SERIALIZER = NodeSerializer.builder().extensions(SpecIntegrationTest.EXTENSIONS).build();
+
+    @Test
+    public void extensionNodes() {
+        assertRoundTrip("---\n" +
+                "title: Test\n" +
+                "tags:\n" +
+                "  - one\n" +
+                "  - two\n" +
+                "---\n" +
+                "\n" +
+                "~~strikethrough~~ ++inserted++ https://example.com ![image](/url){width=100 height=50}\n" +
+                "\n" +
+                "- [ ] open\n" +
+                "- [x] done\n" +
+                "\n" +
+                "| Left | Center | Right | None |\n" +
+                "| :--- | :----: | ----: | ---- |\n" +
+                "| a    | *b*    | c     | d    |\n");
+    }
+
+    @Test
+    public void specExamples() {
+        for (String example : ExampleReader.readExampleSources(TestResources.getSpec())) {
+            assertRoundTrip(example);
+        }
+    }
+
+    private static void assertRoundTrip(String source) {
+        Node document = PARSER.parse(source);
+        byte[] bytes = SERIALIZER.serialize(document);
+        Node deserialized = SERIALIZER.deserialize(bytes);
+        // Before rendering, because rendering removes ImageAttributes nodes from the document
+        assertArrayEquals(source, bytes, SERIALIZER.serialize(deserialized));
+        assertEquals(source, RENDERER.render(document), RENDERER.render(deserialized));
+    }
+}
@@ -0,0 +1,144 @@
+package org.commonmark.flat;
+
+import org.commonmark.node.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A position in a {@link FlatDocument}, for navigating its nodes and reading their fields without creating node
+ * objects. The move methods return false and stay at the current node if there's no node to move to. Example that
+ * visits the children of the current node:
+ * <pre><code>
+ * if (cursor.moveToFirstChild()) {
+ *     do {
+ *         // ...
+ *     } while (cursor.moveToNext());
+ *     cursor.moveToParent();
+ * }
+ * </code></pre>
+ * A cursor is not thread-safe, but there can be any number of cursors for the same document.
+ *
+ * @since 0.22.0
+ */
+public final class FlatCursor {
+
+    private final FlatDocument document;
+    private int index = 0;
+
+    FlatCursor(FlatDocument document) {
+        this.document = document;
+    }
+
+    /**
+     * @return the index of the current node, see {@link FlatDocument}
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Move to the node with the index.
+     *
+     * @param index the index, from 0 to {@link FlatDocument#getNodeCount()} (exclusive)
+     */
+    public void moveTo(int index) {
+        if (index < 0 || index >= document.getNodeCount()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + document.getNodeCount());
+        }
+        this.index = index;
+    }
+
+    /**
+     * @return whether there's a parent node (not the case for the root node)
+     */
+    public boolean moveToParent() {
+        return moveToIfExists(document.getParent(index));
+    }
+
+    /**
+     * @return whether the node has children
+     */
+    public boolean moveToFirstChild() {
+        return moveToIfExists(document.getFirstChild(index));
+    }
+
+    /**
+     * @return whether there's a next sibling node
+     */
+    public boolean moveToNext() {
+        return moveToIfExists(document.getNext(index));
+    }
+
+    /**
+     * @return the type of the node, e.g. {@code Link.class}
+     */
+    public Class<? extends Node> getNodeType() {
+        return document.getNodeType(index);
+    }
+
+    /**
+     * @return the literal of a node that has one ({@link Text}, {@link Code}, {@link HtmlInline},
+     * {@link FencedCodeBlock}, {@link IndentedCodeBlock} or {@link HtmlBlock}), null for other nodes. The literal is
+     * not copied out of the document.
+     */
+    public CharSequence getLiteral() {
+        return document.getLiteral(index);
+    }
+
+    /**
+     * @return the destination of a {@link Link}, {@link Image} or {@link LinkReferenceDefinition}, null for other nodes
+     */
+    public String getDestination() {
+        return document.getDestination(index);
+    }
+
+    /**
+     * @return the title of a {@link Link}, {@link Image} or {@link LinkReferenceDefinition}, null if there's none or
+     * for other nodes
+     */
+    public String getTitle() {
+        return document.getTitle(index);
+    }
+
+    /**
+     * @return the level of a {@link Heading}, 0 for other nodes
+     */
+    public int getLevel() {
+        return document.getLevel(index);
+    }
+
+    /**
+     * @return the source spans of the node, see {@link Node#getSourceSpans()}
+     */
+    public List<SourceSpan> getSourceSpans() {
+        int count = document.getSourceSpanCount(index);
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        List<SourceSpan> sourceSpans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sourceSpans.add(document.getSourceSpan(index, i));
+        }
+        return sourceSpans;
+    }
+
+    /**
+     * Create the node with its descendants, e.g. for reading fields that there's no method for in this class or for
+     * rendering a part of the document. Each call creates new nodes. The node has no parent.
+     *
+     * @return the node
+     */
+    public Node toNode() {
+        return document.toNode(index);
+    }
+
+    private boolean moveToIfExists(int index) {
+        if (index == FlatDocument.NONE) {
+            return false;
+        }
+        this.index = index;
+        return true;
+    }
+}
@@ -0,0 +1,532 @@
+package org.commonmark.flat;
+
+import org.commonmark.internal.serialization.CoreNodeCodecs;
+import org.commonmark.node.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A parsed document in a flat representation that needs a lot less memory than a tree of {@link Node} objects, e.g.
+ * for keeping many documents around for analysis (counting links, extracting headings). Example:
+ * <pre><code>
+ * FlatDocument document = parser.parseFlat("input text");
+ * FlatCursor cursor = document.cursor();
+ * for (int i = 0; i &lt; document.getNodeCount(); i++) {
+ *     cursor.moveTo(i);
+ *     if (cursor.getNodeType() == Link.class) {
+ *         links.add(cursor.getDestination());
+ *     }
+ * }
+ * </code></pre>
+ * The nodes are numbered in document order, the same order in which a {@link Visitor} visits them, with the root node
+ * at index 0. The structure and fields of the nodes are kept in arrays of primitive values, and all the text (literals,
+ * link destinations, etc) in one byte array, with one byte per character for most text. A {@link FlatCursor} is for
+ * navigating the nodes and reading their fields; fields that it doesn't have a method for can be read by materializing
+ * the node with {@link FlatCursor#toNode()}.
+ * <p>
+ * Use {@link #toNode()} to get the tree of nodes back, e.g. for rendering:
+ * <pre><code>
+ * String html = renderer.render(document.toNode());
+ * </code></pre>
+ * Only the core node types are supported, so this is not for documents that contain nodes of extensions. A flat
+ * document can't be modified, so it can be shared between threads.
+ *
+ * @since 0.22.0
+ */
+public final class FlatDocument {
+
+    static final int NONE = -1;
+
+    // Per node (by index)
+    private final byte[] types;
+    private final int[] parents;
+    private final int[] firstChildren;
+    private final int[] nexts;
+    // Index of the first field in fields
+    private final int[] fieldStarts;
+    // Index of the first span in spans, one more entry than nodes for the end of the last node's spans. Null if no
+    // node has spans.
+    private final int[] spanStarts;
+
+    // Fields of the nodes, depending on the type. A string is two fields: its start in text and its length, see
+    // Flattener#addString.
+    private final int[] fields;
+    // Line index, column index and length of each span
+    private final int[] spans;
+    private final byte[] text;
+
+    private FlatDocument(Flattener flattener) {
+        this.types = flattener.types;
+        this.parents = flattener.parents;
+        this.firstChildren = flattener.firstChildren;
+        this.nexts = flattener.nexts;
+        this.fieldStarts = flattener.fieldStarts;
+        this.fields = trim(flattener.fields, flattener.fieldCount);
+        this.spanStarts = flattener.spanStarts;
+        this.spans = flattener.spans;
+        this.text = flattener.textLength == flattener.text.length
+                ? flattener.text : Arrays.copyOf(flattener.text, flattener.textLength);
+    }
+
+    /**
+     * Create a flat document from a node and its descendants. The node is not modified.
+     *
+     * @param node the root node, usually a {@link Document} - must not be null
+     * @return the flat document
+     * @throws IllegalArgumentException if there's a node that's not of a core node type
+     */
+    public static FlatDocument of(Node node) {
+        if (node == null) {
+            throw new NullPointerException("node must not be null");
+        }
+        Flattener flattener = new Flattener(node);
+        flattener.flatten(node);
+        return new FlatDocument(flattener);
+    }
+
+    /**
+     * @return the number of nodes, including the root node
+     */
+    public int getNodeCount() {
+        return types.length;
+    }
+
+    /**
+     * @return a new cursor at the root node
+     */
+    public FlatCursor cursor() {
+        return new FlatCursor(this);
+    }
+
+    /**
+     * Create the tree of nodes, same as the one that the document was created from. Each call creates new nodes.
+     *
+     * @return the root node
+     */
+    public Node toNode() {
+        return toNode(0);
+    }
+
+    Class<? extends Node> getNodeType(int index) {
+        return CoreNodeCodecs.getType(types[index]);
+    }
+
+    int getParent(int index) {
+        return parents[index];
+    }
+
+    int getFirstChild(int index) {
+        return firstChildren[index];
+    }
+
+    int getNext(int index) {
+        return nexts[index];
+    }
+
+    CharSequence getLiteral(int index) {
+        Class<? extends Node> type = getNodeType(index);
+        if (type == FencedCodeBlock.class) {
+            return getSlice(index, 5);
+        } else if (type == Text.class || type == Code.class || type == HtmlInline.class
+                || type == IndentedCodeBlock.class || type == HtmlBlock.class) {
+            return getSlice(index, 0);
+        }
+        return null;
+    }
+
+    String getDestination(int index) {
+        Class<? extends Node> type = getNodeType(index);
+        if (type == Link.class || type == Image.class) {
+            return getString(index, 0);
+        } else if (type == LinkReferenceDefinition.class) {
+            return getString(index, 2);
+        }
+        return null;
+    }
+
+    String getTitle(int index) {
+        Class<? extends Node> type = getNodeType(index);
+        if (type == Link.class || type == Image.class) {
+            return getString(index, 2);
+        } else if (type == LinkReferenceDefinition.class) {
+            return getString(index, 4);
+        }
+        return null;
+    }
+
+    int getLevel(int index) {
+        return getNodeType(index) == Heading.class ? fields[fieldStarts[index]] : 0;
+    }
+
+    int getSourceSpanCount(int index) {
+        return spanStarts != null ? spanStarts[index + 1] - spanStarts[index] : 0;
+    }
+
+    SourceSpan getSourceSpan(int index, int spanIndex) {
+        int i = (spanStarts[index] + spanIndex) * 3;
+        return SourceSpan.of(spans[i], spans[i + 1], spans[i + 2]);
+    }
+
+    /**
+     * Create the subtree of the node at the index.
+     */
+    Node toNode(int index) {
+        // The subtree ends where the next sibling of the node or of its closest ancestor that has one starts
+        int end = types.length;
+        for (int i = index; i != NONE; i = parents[i]) {
+            if (nexts[i] != NONE) {
+                end = nexts[i];
+                break;
+            }
+        }
+
+        // In document order, the parent of a node is always created before it
+        Node[] nodes = new Node[end - index];
+        for (int i = index; i < end; i++) {
+            Node node = createNode(i);
+            int spanCount = getSourceSpanCount(i);
+            for (int s = 0; s < spanCount; s++) {
+                node.addSourceSpan(getSourceSpan(i, s));
+            }
+            nodes[i - index] = node;
+            if (i != index) {
+                nodes[parents[i] - index].appendChild(node);
+            }
+        }
+        return nodes[0];
+    }
+
+    private Node createNode(int index) {
+        Class<? extends Node> type = getNodeType(index);
+        int f = fieldStarts[index];
+        if (type == Document.class) {
+            return new Document();
+        } else if (type == BlockQuote.class) {
+            return new BlockQuote();
+        } else if (type == BulletList.class) {
+            BulletList bulletList = new BulletList();
+            bulletList.setTight(fields[f] != 0);
+            bulletList.setBulletMarker((char) fields[f + 1]);
+            return bulletList;
+        } else if (type == OrderedList.class) {
+            OrderedList orderedList = new OrderedList();
+            orderedList.setTight(fields[f] != 0);
+            orderedList.setStartNumber(fields[f + 1]);
+            orderedList.setDelimiter((char) fields[f + 2]);
+            return orderedList;
+        } else if (type == ListItem.class) {
+            return new ListItem();
+        } else if (type == FencedCodeBlock.class) {
+            FencedCodeBlock fencedCodeBlock = new FencedCodeBlock();
+            fencedCodeBlock.setFenceChar((char) fields[f]);
+            fencedCodeBlock.setFenceLength(fields[f + 1]);
+            fencedCodeBlock.setFenceIndent(fields[f + 2]);
+            fencedCodeBlock.setInfo(getString(index, 3));
+            fencedCodeBlock.setLiteralSequence(getSlice(index, 5));
+            return fencedCodeBlock;
+        } else if (type == IndentedCodeBlock.class) {
+            IndentedCodeBlock indentedCodeBlock = new IndentedCodeBlock();
+            indentedCodeBlock.setLiteralSequence(getSlice(index, 0));
+            return indentedCodeBlock;
+        } else if (type == HtmlBlock.class) {
+            HtmlBlock htmlBlock = new HtmlBlock();
+            htmlBlock.setLiteralSequence(getSlice(index, 0));
+            return htmlBlock;
+        } else if (type == Heading.class) {
+            Heading heading = new Heading();
+            heading.setLevel(fields[f]);
+            return heading;
+        } else if (type == Paragraph.class) {
+            return new Paragraph();
+        } else if (type == ThematicBreak.class) {
+            return new ThematicBreak();
+        } else if (type == LinkReferenceDefinition.class) {
+            return new LinkReferenceDefinition(getString(index, 0), getString(index, 2), getString(index, 4));
+        } else if (type == Text.class) {
+            Text textNode = new Text();
+            textNode.setLiteralSequence(getSlice(index, 0));
+            return textNode;
+        } else if (type == Code.class) {
+            Code code = new Code();
+            code.setLiteralSequence(getSlice(index, 0));
+            return code;
+        } else if (type == Emphasis.class) {
+            return new Emphasis(getString(index, 0));
+        } else if (type == StrongEmphasis.class) {
+            return new StrongEmphasis(getString(index, 0));
+        } else if (type == Link.class) {
+            return new Link(getString(index, 0), getString(index, 2));
+        } else if (type == Image.class) {
+            return new Image(getString(index, 0), getString(index, 2));
+        } else if (type == HtmlInline.class) {
+            HtmlInline htmlInline = new HtmlInline();
+            htmlInline.setLiteralSequence(getSlice(index, 0));
+            return htmlInline;
+        } else if (type == SoftLineBreak.class) {
+            return new SoftLineBreak();
+        } else {
+            return new HardLineBreak();
+        }
+    }
+
+    private CharSequence getSlice(int index, int field) {
+        int i = fieldStarts[index] + field;
+        int start = fields[i];
+        int length = fields[i + 1];
+        if (length >= 0) {
+            return new Latin1Slice(text, start, start + length);
+        }
+        return decode(start, length);
+    }
+
+    private String getString(int index, int field) {
+        int i = fieldStarts[index] + field;
+        int start = fields[i];
+        int length = fields[i + 1];
+        if (length >= 0) {
+            return new String(text, start, length, StandardCharsets.ISO_8859_1);
+        }
+        return decode(start, length);
+    }
+
+    private String decode(int start, int length) {
+        if (length == NONE) {
+            return null;
+        }
+        return new String(text, start, UTF_8_LENGTH_OFFSET - length, StandardCharsets.UTF_8);
+    }
+
+    private static int[] trim(int[] array, int length) {
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    // The length of a string that's encoded as UTF-8 is stored as UTF_8_LENGTH_OFFSET minus its length in bytes, so it's
+    // always below NONE
+    private static final int UTF_8_LENGTH_OFFSET = -2;
+
+    /**
+     * Collects the nodes of a tree into arrays. The tree is counted first, so that the arrays can be allocated with
+     * (mostly) the right size.
+     */
+    private static class Flattener {
+
+        private final byte[] types;
+        private final int[] parents;
+        private final int[] firstChildren;
+        private final int[] nexts;
+        private final int[] fieldStarts;
+        private final int[] spanStarts;
+        private int nodeCount = 0;
+
+        private int[] fields;
+        private int fieldCount = 0;
+        private final int[] spans;
+        private int spanCount = 0;
+        private byte[] text;
+        private int textLength = 0;
+
+        Flattener(Node root) {
+            int nodes = 0;
+            int sourceSpans = 0;
+            int chars = 0;
+            for (Node node = root; node != null; node = nextInDocument(node, root)) {
+                nodes++;
+                sourceSpans += node.getSourceSpans().size();
+                chars += literalLength(node);
+            }
+            types = new byte[nodes];
+            parents = new int[nodes];
+            firstChildren = new int[nodes];
+            nexts = new int[nodes];
+            fieldStarts = new int[nodes];
+            spanStarts = sourceSpans != 0 ? new int[nodes + 1] : null;
+            spans = sourceSpans != 0 ? new int[sourceSpans * 3] : null;
+            // Most nodes have no fields, the ones with literals two
+            fields = new int[Math.max(nodes, 16)];
+            // Literals make up most of the text, one byte per char unless there are chars outside of ISO-8859-1
+            text = new byte[chars + 256];
+        }
+
+        void flatten(Node root) {
+            // Iterative, so that deeply nested documents don't overflow the stack
+            int parent = NONE;
+            int previous = NONE;
+            Node node = root;
+            while (node != null) {
+                int index = add(node, parent);
+                if (previous != NONE) {
+                    nexts[previous] = index;
+                } else if (parent != NONE) {
+                    firstChildren[parent] = index;
+                }
+
+                if (node.getFirstChild() != null) {
+                    parent = index;
+                    previous = NONE;
+                    node = node.getFirstChild();
+                    continue;
+                }
+                previous = index;
+                while (node != root && node.getNext() == null) {
+                    node = node.getParent();
+                    previous = parent;
+                    parent = parents[parent];
+                }
+                node = node != root ? node.getNext() : null;
+            }
+        }
+
+        private int add(Node node, int parent) {
+            Class<? extends Node> type = node.getClass();
+            int id = CoreNodeCodecs.getId(type);
+            if (id == -1) {
+                throw new IllegalArgumentException("Node type " + type.getName() + " is not supported, only core node types are");
+            }
+
+            int index = nodeCount++;
+            types[index] = (byte) id;
+            parents[index] = parent;
+            firstChildren[index] = NONE;
+            nexts[index] = NONE;
+            fieldStarts[index] = fieldCount;
+
+            addFields(node);
+            if (spans != null) {
+                spanStarts[index] = spanCount;
+                for (SourceSpan sourceSpan : node.getSourceSpans()) {
+                    spans[spanCount * 3] = sourceSpan.getLineIndex();
+                    spans[spanCount * 3 + 1] = sourceSpan.getColumnIndex();
+                    spans[spanCount * 3 + 2] = sourceSpan.getLength();
+                    spanCount++;
+                }
+                spanStarts[index + 1] = spanCount;
+            }
+            return index;
+        }
+
+        private void addFields(Node node) {
+            // Same order as read by FlatDocument
+            if (node instanceof BulletList) {
+                BulletList bulletList = (BulletList) node;
+                addField(bulletList.isTight() ? 1 : 0);
+                addField(bulletList.getBulletMarker());
+            } else if (node instanceof OrderedList) {
+                OrderedList orderedList = (OrderedList) node;
+                addField(orderedList.isTight() ? 1 : 0);
+                addField(orderedList.getStartNumber());
+                addField(orderedList.getDelimiter());
+            } else if (node instanceof FencedCodeBlock) {
+                FencedCodeBlock fencedCodeBlock = (FencedCodeBlock) node;
+                addField(fencedCodeBlock.getFenceChar());
+                addField(fencedCodeBlock.getFenceLength());
+                addField(fencedCodeBlock.getFenceIndent());
+                addString(fencedCodeBlock.getInfo());
+                addString(fencedCodeBlock.getLiteralSequence());
+            } else if (node instanceof IndentedCodeBlock) {
+                addString(((IndentedCodeBlock) node).getLiteralSequence());
+            } else if (node instanceof HtmlBlock) {
+                addString(((HtmlBlock) node).getLiteralSequence());
+            } else if (node instanceof Heading) {
+                addField(((Heading) node).getLevel());
+            } else if (node instanceof LinkReferenceDefinition) {
+                LinkReferenceDefinition definition = (LinkReferenceDefinition) node;
+                addString(definition.getLabel());
+                addString(definition.getDestination());
+                addString(definition.getTitle());
+            } else if (node instanceof Text) {
+                addString(((Text) node).getLiteralSequence());
+            } else if (node instanceof Code) {
+                addString(((Code) node).getLiteralSequence());
+            } else if (node instanceof Emphasis) {
+                addString(((Emphasis) node).getOpeningDelimiter());
+            } else if (node instanceof StrongEmphasis) {
+                addString(((StrongEmphasis) node).getOpeningDelimiter());
+            } else if (node instanceof Link) {
+                Link link = (Link) node;
+                addString(link.getDestination());
+                addString(link.getTitle());
+            } else if (node instanceof Image) {
+                Image image = (Image) node;
+                addString(image.getDestination());
+                addString(image.getTitle());
+            } else if (node instanceof HtmlInline) {
+                addString(((HtmlInline) node).getLiteralSequence());
+            }
+        }
+
+        /**
+         * Add a string as its start in the text and its length. Strings that only contain chars of ISO-8859-1 (most of
+         * them) have one byte per char, so their length is the number of chars. Others are encoded as UTF-8, see
+         * UTF_8_LENGTH_OFFSET. Null has the length NONE.
+         */
+        private void addString(CharSequence s) {
+            if (s == null) {
+                addField(0);
+                addField(NONE);
+                return;
+            }
+            int length = s.length();
+            ensureTextCapacity(length);
+            int start = textLength;
+            for (int i = 0; i < length; i++) {
+                char c = s.charAt(i);
+                if (c > 0xFF) {
+                    byte[] encoded = s.toString().getBytes(StandardCharsets.UTF_8);
+                    ensureTextCapacity(encoded.length);
+                    System.arraycopy(encoded, 0, text, start, encoded.length);
+                    textLength = start + encoded.length;
+                    addField(start);
+                    addField(UTF_8_LENGTH_OFFSET - encoded.length);
+                    return;
+                }
+                text[textLength++] = (byte) c;
+            }
+            addField(start);
+            addField(length);
+        }
+
+        private void ensureTextCapacity(int length) {
+            if (textLength + length > text.length) {
+                text = Arrays.copyOf(text, Math.max(text.length * 2, textLength + length));
+            }
+        }
+
+        private void addField(int value) {
+            if (fieldCount == fields.length) {
+                fields = Arrays.copyOf(fields, fields.length * 2);
+            }
+            fields[fieldCount++] = value;
+        }
+
+        private static Node nextInDocument(Node node, Node root) {
+            if (node.getFirstChild() != null) {
+                return node.getFirstChild();
+            }
+            for (Node n = node; n != root; n = n.getParent()) {
+                if (n.getNext() != null) {
+                    return n.getNext();
+                }
+            }
+            return null;
+        }
+
+        private static int literalLength(Node node) {
+            CharSequence literal = null;
+            if (node instanceof Text) {
+                literal = ((Text) node).getLiteralSequence();
+            } else if (node instanceof Code) {
+                literal = ((Code) node).getLiteralSequence();
+            } else if (node instanceof FencedCodeBlock) {
+                literal = ((FencedCodeBlock) node).getLiteralSequence();
+            } else if (node instanceof IndentedCodeBlock) {
+                literal = ((IndentedCodeBlock) node).getLiteralSequence();
+            } else if (node instanceof HtmlBlock) {
+                literal = ((HtmlBlock) node).getLiteralSequence();
+            } else if (node instanceof HtmlInline) {
+                literal = ((HtmlInline) node).getLiteralSequence();
+            }
+            return literal != null ? literal.length() : 0;
+        }
+    }
+}
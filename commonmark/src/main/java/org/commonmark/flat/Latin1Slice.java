@@ -0,0 +1,45 @@
+package org.commonmark.flat;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Chars of a range of bytes with one byte per char (ISO-8859-1), without copying them.
+ */
+final class Latin1Slice implements CharSequence {
+
+    private final byte[] bytes;
+    private final int start;
+    private final int end;
+
+    Latin1Slice(byte[] bytes, int start, int end) {
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + (end - start));
+        }
+        return (char) (bytes[start + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        }
+        return new Latin1Slice(bytes, this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+}
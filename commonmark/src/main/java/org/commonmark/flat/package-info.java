@@ -0,0 +1,5 @@
+/**
+ * Flat representation of parsed documents that needs less memory than a tree of nodes (see
+ * {@link org.commonmark.flat.FlatDocument})
+ */
+package org.commonmark.flat;
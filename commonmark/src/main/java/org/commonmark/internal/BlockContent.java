@@ -1,29 +1,23 @@
 package org.commonmark.internal;
 
+import org.commonmark.internal.util.LiteralBuilder;
+
 class BlockContent {
 
-    private final StringBuilder sb;
+    private final LiteralBuilder literal = new LiteralBuilder();
 
     private int lineCount = 0;
 
-    public BlockContent() {
-        sb = new StringBuilder();
-    }
-
-    public BlockContent(String content) {
-        sb = new StringBuilder(content);
-    }
-
     public void add(CharSequence line) {
         if (lineCount != 0) {
-            sb.append('\n');
+            literal.append('\n');
         }
-        sb.append(line);
+        literal.append(line);
         lineCount++;
     }
 
-    public String getString() {
-        return sb.toString();
+    public CharSequence getContent() {
+        return literal.build();
     }
 
 }
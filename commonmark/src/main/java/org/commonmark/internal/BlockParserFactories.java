@@ -0,0 +1,100 @@
+package org.commonmark.internal;
+
+import org.commonmark.parser.InlineParser;
+import org.commonmark.parser.block.AbstractBlockParser;
+import org.commonmark.parser.block.BlockParser;
+import org.commonmark.parser.block.BlockParserFactory;
+import org.commonmark.parser.block.BlockParserWithInlines;
+import org.commonmark.parser.block.TriggerCharacters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The block parser factories of a parser, with a table of which factories to try for a line depending on its first
+ * non-space character (see {@link TriggerCharacters}). The order of the factories is kept.
+ * <p>
+ * Also knows which of the block parsers that the factories create have inline content.
+ */
+public class BlockParserFactories {
+
+    private static final int TABLE_SIZE = 128;
+
+    private final BlockParserFactory[][] factoriesByCharacter = new BlockParserFactory[TABLE_SIZE][];
+    private final BlockParserFactory[] factoriesForOtherCharacters;
+    // Whether a type of block parser that doesn't implement BlockParserWithInlines overrides parseInlines. Only
+    // contains the few types of the parser's factories, and is shared by the threads using the parser.
+    private final ConcurrentMap<Class<?>, Boolean> overridesParseInlines = new ConcurrentHashMap<>();
+
+    public BlockParserFactories(List<BlockParserFactory> factories) {
+        List<Set<Character>> triggers = new ArrayList<>(factories.size());
+        for (BlockParserFactory factory : factories) {
+            triggers.add(factory instanceof TriggerCharacters ? ((TriggerCharacters) factory).getTriggerCharacters() : null);
+        }
+
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            List<BlockParserFactory> candidates = new ArrayList<>();
+            for (int i = 0; i < factories.size(); i++) {
+                Set<Character> characters = triggers.get(i);
+                if (characters == null || characters.contains((char) c)) {
+                    candidates.add(factories.get(i));
+                }
+            }
+            factoriesByCharacter[c] = candidates.toArray(new BlockParserFactory[0]);
+        }
+
+        List<BlockParserFactory> candidates = new ArrayList<>();
+        for (int i = 0; i < factories.size(); i++) {
+            Set<Character> characters = triggers.get(i);
+            if (characters == null || hasNonAscii(characters)) {
+                candidates.add(factories.get(i));
+            }
+        }
+        factoriesForOtherCharacters = candidates.toArray(new BlockParserFactory[0]);
+    }
+
+    /**
+     * @param c the first non-space character of the line
+     * @return the factories that can start a block with that character, in order
+     */
+    public BlockParserFactory[] getFactories(char c) {
+        return c < TABLE_SIZE ? factoriesByCharacter[c] : factoriesForOtherCharacters;
+    }
+
+    /**
+     * @return whether the block parser has inline content to parse, see {@link BlockParserWithInlines}
+     */
+    public boolean hasInlines(BlockParser blockParser) {
+        if (blockParser instanceof BlockParserWithInlines) {
+            return true;
+        }
+        Class<?> type = blockParser.getClass();
+        Boolean overrides = overridesParseInlines.get(type);
+        if (overrides == null) {
+            overrides = overridesParseInlines(type);
+            overridesParseInlines.put(type, overrides);
+        }
+        return overrides;
+    }
+
+    private static boolean overridesParseInlines(Class<?> type) {
+        try {
+            return type.getMethod("parseInlines", InlineParser.class).getDeclaringClass() != AbstractBlockParser.class;
+        } catch (NoSuchMethodException e) {
+            // Can't happen for a BlockParser, assume that it has inlines to be safe
+            return true;
+        }
+    }
+
+    private static boolean hasNonAscii(Set<Character> characters) {
+        for (char c : characters) {
+            if (c >= TABLE_SIZE) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -5,6 +5,9 @@ import org.commonmark.node.Block;
 import org.commonmark.node.BlockQuote;
 import org.commonmark.parser.block.*;
 
+import java.util.Collections;
+import java.util.Set;
+
 public class BlockQuoteParser extends AbstractBlockParser {
 
     private final BlockQuote block = new BlockQuote();
@@ -44,7 +47,13 @@ public class BlockQuoteParser extends AbstractBlockParser {
         return state.getIndent() < Parsing.CODE_BLOCK_INDENT && index < line.length() && line.charAt(index) == '>';
     }
 
-    public static class Factory extends AbstractBlockParserFactory {
+    public static class Factory extends AbstractBlockParserFactory implements TriggerCharacters {
+
+        @Override
+        public Set<Character> getTriggerCharacters() {
+            return Collections.singleton('>');
+        }
+
         public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
             int nextNonSpace = state.getNextNonSpaceIndex();
             if (isMarker(state, nextNonSpace)) {
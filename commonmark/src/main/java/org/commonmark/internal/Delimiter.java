@@ -1,16 +1,22 @@
 package org.commonmark.internal;
 
+import org.commonmark.node.SourceSpan;
 import org.commonmark.node.Text;
 import org.commonmark.parser.delimiter.DelimiterRun;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Delimiter (emphasis, strong emphasis or custom emphasis).
+ * <p>
+ * The delimiter run starts out as a single text node. It's only split into one node per delimiter character when a
+ * {@link org.commonmark.parser.delimiter.DelimiterProcessor} asks for the individual nodes, so runs that don't
+ * match anything (e.g. {@code _} in {@code snake_case}) or only consist of one character don't need any more nodes.
  */
 public class Delimiter implements DelimiterRun {
 
-    public final List<Text> characters;
     public final char delimiterChar;
     private final int originalLength;
 
@@ -23,13 +29,21 @@ public class Delimiter implements DelimiterRun {
     public Delimiter previous;
     public Delimiter next;
 
-    public Delimiter(List<Text> characters, char delimiterChar, boolean canOpen, boolean canClose, Delimiter previous) {
-        this.characters = characters;
+    // The remaining run as a single node, until it's split
+    private Text node;
+    private int length;
+
+    // One node per remaining delimiter character, once split
+    private List<Text> characters;
+
+    public Delimiter(Text node, int length, char delimiterChar, boolean canOpen, boolean canClose, Delimiter previous) {
+        this.node = node;
+        this.length = length;
         this.delimiterChar = delimiterChar;
         this.canOpen = canOpen;
         this.canClose = canClose;
         this.previous = previous;
-        this.originalLength = characters.size();
+        this.originalLength = length;
     }
 
     @Override
@@ -44,7 +58,7 @@ public class Delimiter implements DelimiterRun {
 
     @Override
     public int length() {
-        return characters.size();
+        return characters != null ? characters.size() : length;
     }
 
     @Override
@@ -54,12 +68,19 @@ public class Delimiter implements DelimiterRun {
 
     @Override
     public Text getOpener() {
+        if (characters == null && length == 1) {
+            return node;
+        }
+        List<Text> characters = split();
         return characters.get(characters.size() - 1);
     }
 
     @Override
     public Text getCloser() {
-        return characters.get(0);
+        if (characters == null && length == 1) {
+            return node;
+        }
+        return split().get(0);
     }
 
     @Override
@@ -68,6 +89,10 @@ public class Delimiter implements DelimiterRun {
             throw new IllegalArgumentException("length must be between 1 and " + length() + ", was " + length);
         }
 
+        if (characters == null && this.length == 1) {
+            return Collections.singletonList(node);
+        }
+        List<Text> characters = split();
         return characters.subList(characters.size() - length, characters.size());
     }
 
@@ -77,6 +102,83 @@ public class Delimiter implements DelimiterRun {
             throw new IllegalArgumentException("length must be between 1 and " + length() + ", was " + length);
         }
 
-        return characters.subList(0, length);
+        if (characters == null && this.length == 1) {
+            return Collections.singletonList(node);
+        }
+        return split().subList(0, length);
+    }
+
+    /**
+     * Remove the innermost opening delimiter characters that were used by a delimiter processor.
+     */
+    public void removeOpeners(int count) {
+        if (characters != null) {
+            for (int i = 0; i < count; i++) {
+                characters.remove(characters.size() - 1).unlink();
+            }
+        } else {
+            shrink(count, false);
+        }
+    }
+
+    /**
+     * Remove the innermost closing delimiter characters that were used by a delimiter processor.
+     */
+    public void removeClosers(int count) {
+        if (characters != null) {
+            for (int i = 0; i < count; i++) {
+                characters.remove(0).unlink();
+            }
+        } else {
+            shrink(count, true);
+        }
+    }
+
+    /**
+     * Remove characters from the unsplit node, from its start or its end.
+     */
+    private void shrink(int count, boolean fromStart) {
+        length -= count;
+        if (length == 0) {
+            node.unlink();
+            return;
+        }
+
+        CharSequence literal = node.getLiteralSequence();
+        node.setLiteralSequence(fromStart ? literal.subSequence(count, literal.length()) : literal.subSequence(0, literal.length() - count));
+        List<SourceSpan> sourceSpans = node.getSourceSpans();
+        if (!sourceSpans.isEmpty()) {
+            // Delimiter runs can't span multiple lines, so there's only one span
+            SourceSpan span = sourceSpans.get(0);
+            int columnIndex = fromStart ? span.getColumnIndex() + count : span.getColumnIndex();
+            node.setSourceSpans(Collections.singletonList(SourceSpan.of(span.getLineIndex(), columnIndex, length)));
+        }
+    }
+
+    private List<Text> split() {
+        if (characters != null) {
+            return characters;
+        }
+
+        String character = String.valueOf(delimiterChar);
+        List<SourceSpan> sourceSpans = node.getSourceSpans();
+        SourceSpan span = sourceSpans.isEmpty() ? null : sourceSpans.get(0);
+
+        characters = new ArrayList<>(length);
+        Text previous = null;
+        for (int i = 0; i < length; i++) {
+            Text text = i == 0 ? node : new Text();
+            text.setLiteral(character);
+            if (span != null) {
+                text.setSourceSpans(Collections.singletonList(SourceSpan.of(span.getLineIndex(), span.getColumnIndex() + i, 1)));
+            }
+            if (previous != null) {
+                previous.insertAfter(text);
+            }
+            characters.add(text);
+            previous = text;
+        }
+        node = null;
+        return characters;
     }
 }
@@ -1,6 +1,8 @@
 package org.commonmark.internal;
 
+import org.commonmark.internal.util.CharSlice;
 import org.commonmark.internal.util.Parsing;
+import org.commonmark.internal.util.Utf8Bytes;
 import org.commonmark.node.*;
 import org.commonmark.parser.*;
 import org.commonmark.parser.block.*;
@@ -9,7 +11,12 @@ import org.commonmark.parser.delimiter.DelimiterProcessor;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 public class DocumentParser implements ParserState {
 
@@ -24,6 +31,12 @@ public class DocumentParser implements ParserState {
 
     private static final Map<Class<? extends Block>, BlockParserFactory> NODES_TO_CORE_FACTORIES;
 
+    /**
+     * Minimum number of block parsers that a chunk of parallel inline parsing should have. Below that, the overhead of
+     * handing work to another thread is bigger than the work itself.
+     */
+    private static final int MIN_BLOCK_PARSERS_PER_CHUNK = 32;
+
     static {
         Map<Class<? extends Block>, BlockParserFactory> map = new HashMap<>();
         map.put(BlockQuote.class, new BlockQuoteParser.Factory());
@@ -63,27 +76,91 @@ public class DocumentParser implements ParserState {
     private int indent = 0;
     private boolean blank;
 
-    private final List<BlockParserFactory> blockParserFactories;
+    private final BlockParserFactories blockParserFactories;
     private final InlineParserFactory inlineParserFactory;
     private final List<DelimiterProcessor> delimiterProcessors;
     private final IncludeSourceSpans includeSourceSpans;
-    private final DocumentBlockParser documentBlockParser;
+    private final boolean sliceLiterals;
+    private final boolean lazyInlines;
+    private final Executor inlineParsingExecutor;
+    private final int inlineParsingParallelism;
     private final LinkReferenceDefinitions definitions = new LinkReferenceDefinitions();
+    private final InlineParserContextImpl inlineParserContext;
+    private DocumentBlockParser documentBlockParser;
 
-    private final List<OpenBlockParser> openBlockParsers = new ArrayList<>();
-    private final List<BlockParser> allBlockParsers = new ArrayList<>();
+    /**
+     * Inline parser for parsing in the calling thread, created on first use and reused (also after {@link #reset()}).
+     */
+    private InlineParser inlineParser;
 
-    public DocumentParser(List<BlockParserFactory> blockParserFactories, InlineParserFactory inlineParserFactory,
-                          List<DelimiterProcessor> delimiterProcessors, IncludeSourceSpans includeSourceSpans) {
+    private final List<OpenBlockParser> openBlockParsers = new ArrayList<>();
+    private final MatchedBlockParserImpl matchedBlockParser = new MatchedBlockParserImpl();
+    private final List<BlockParser> inlineBlockParsers = new ArrayList<>();
+
+    private BlockHandler blockHandler;
+    private ForwardReferences forwardReferences;
+    private int maxBufferedBlocks;
+    private int bufferedBlocks;
+    private StreamingInlineParserContext streamingContext;
+    private InlineParser streamingInlineParser;
+    private final Deque<ClosedBlocks> pendingBlocks = new ArrayDeque<>();
+
+    public DocumentParser(BlockParserFactories blockParserFactories, InlineParserFactory inlineParserFactory,
+                          List<DelimiterProcessor> delimiterProcessors, IncludeSourceSpans includeSourceSpans,
+                          boolean sliceLiterals, boolean lazyInlines, Executor inlineParsingExecutor,
+                          int inlineParsingParallelism) {
         this.blockParserFactories = blockParserFactories;
         this.inlineParserFactory = inlineParserFactory;
         this.delimiterProcessors = delimiterProcessors;
         this.includeSourceSpans = includeSourceSpans;
+        this.sliceLiterals = sliceLiterals;
+        this.lazyInlines = lazyInlines;
+        this.inlineParsingExecutor = inlineParsingExecutor;
+        this.inlineParsingParallelism = inlineParsingParallelism;
+        this.inlineParserContext = new InlineParserContextImpl(delimiterProcessors, definitions);
 
         this.documentBlockParser = new DocumentBlockParser();
         activateBlockParser(new OpenBlockParser(documentBlockParser, 0));
     }
 
+    /**
+     * Reset the state so that the next call to one of the parse methods starts a new document. This allows reusing a
+     * parser for many documents (not concurrently). Nothing of the previous document is kept, apart from the inline
+     * parser, which is reused. Doesn't work with a block handler (see {@link #setBlockHandler}).
+     */
+    public void reset() {
+        if (blockHandler != null) {
+            throw new IllegalStateException("Can't reset a parser with a block handler");
+        }
+        line = null;
+        lineIndex = -1;
+        index = 0;
+        column = 0;
+        columnIsInTab = false;
+        nextNonSpace = 0;
+        nextNonSpaceColumn = 0;
+        indent = 0;
+        blank = false;
+
+        definitions.clear();
+        openBlockParsers.clear();
+        inlineBlockParsers.clear();
+        documentBlockParser = new DocumentBlockParser();
+        activateBlockParser(new OpenBlockParser(documentBlockParser, 0));
+    }
+
+    /**
+     * Instead of building the document, pass each top-level block to the handler once it's complete (including
+     * inline content). Has to be called before parsing.
+     */
+    public void setBlockHandler(BlockHandler blockHandler, ForwardReferences forwardReferences, int maxBufferedBlocks) {
+        this.blockHandler = blockHandler;
+        this.forwardReferences = forwardReferences;
+        this.maxBufferedBlocks = maxBufferedBlocks;
+        this.streamingContext = new StreamingInlineParserContext();
+        this.streamingInlineParser = inlineParserFactory.create(streamingContext);
+    }
+
     public static Set<Class<? extends Block>> getDefaultBlockParserTypes() {
         return CORE_FACTORY_TYPES;
     }
@@ -108,13 +185,43 @@ public class DocumentParser implements ParserState {
 
     /**
      * The main parsing function. Returns a parsed document AST.
+     * <p>
+     * Lines are passed to the block parsers as views of the input, so the input must not be changed while parsing.
+     */
+    public Document parse(CharSequence input) {
+        parseLines(input);
+        return finalizeAndProcess();
+    }
+
+    /**
+     * Parse a region of a document (see {@link DocumentRegion}), for updating an existing document.
+     *
+     * @param input the lines of the region
+     * @param startLine the index of the first line of the region in the document, for source spans
+     * @param definitions the link reference definitions of the document
+     */
+    public Document parseRegion(CharSequence input, int startLine, List<LinkReferenceDefinition> definitions) {
+        for (LinkReferenceDefinition definition : definitions) {
+            this.definitions.add(definition);
+        }
+        lineIndex = startLine - 1;
+        return parse(input);
+    }
+
+    /**
+     * Parse UTF-8 encoded input. Lines are split on the bytes, and lines that only contain ASCII are parsed as views
+     * of the bytes; only lines with other characters are decoded.
      */
-    public Document parse(String input) {
+    public Document parse(ByteBuffer input) {
+        parseLines(Utf8Bytes.of(input));
+        return finalizeAndProcess();
+    }
+
+    private void parseLines(CharSequence input) {
         int lineStart = 0;
         int lineBreak;
         while ((lineBreak = Parsing.findLineBreak(input, lineStart)) != -1) {
-            String line = input.substring(lineStart, lineBreak);
-            parseLine(line);
+            parseLine(lineContent(input, lineStart, lineBreak, sliceLiterals));
             if (lineBreak + 1 < input.length() && input.charAt(lineBreak) == '\r' && input.charAt(lineBreak + 1) == '\n') {
                 lineStart = lineBreak + 2;
             } else {
@@ -122,11 +229,18 @@ public class DocumentParser implements ParserState {
             }
         }
         if (input.length() > 0 && (lineStart == 0 || lineStart < input.length())) {
-            String line = input.substring(lineStart);
-            parseLine(line);
+            parseLine(lineContent(input, lineStart, input.length(), sliceLiterals));
         }
+    }
 
-        return finalizeAndProcess();
+    private static CharSequence lineContent(CharSequence input, int start, int end, boolean slice) {
+        if (input instanceof Utf8Bytes) {
+            return ((Utf8Bytes) input).decode(start, end);
+        }
+        if (slice && input instanceof String) {
+            return CharSlice.of((String) input, start, end);
+        }
+        return input.subSequence(start, end);
     }
 
     public Document parse(Reader input) throws IOException {
@@ -316,6 +430,10 @@ public class DocumentParser implements ParserState {
         columnIsInTab = false;
 
         CharSequence lineContent = Parsing.prepareLine(ln);
+        if (sliceLiterals && !(lineContent instanceof CharSlice)) {
+            // E.g. a line from a reader, so that literals are slices of it at least
+            lineContent = CharSlice.of(lineContent.toString());
+        }
         SourceSpan sourceSpan = null;
         if (includeSourceSpans != IncludeSourceSpans.NONE) {
             sourceSpan = SourceSpan.of(lineIndex, 0, lineContent.length());
@@ -441,8 +559,10 @@ public class DocumentParser implements ParserState {
     }
 
     private BlockStartImpl findBlockStart(BlockParser blockParser) {
-        MatchedBlockParser matchedBlockParser = new MatchedBlockParserImpl(blockParser);
-        for (BlockParserFactory blockParserFactory : blockParserFactories) {
+        matchedBlockParser.matchedBlockParser = blockParser;
+        // Only try the factories that can start a block with the first non-space character
+        char c = line.getContent().charAt(nextNonSpace);
+        for (BlockParserFactory blockParserFactory : blockParserFactories.getFactories(c)) {
             BlockStart result = blockParserFactory.tryStart(this, matchedBlockParser);
             if (result instanceof BlockStartImpl) {
                 return (BlockStartImpl) result;
@@ -476,14 +596,105 @@ public class DocumentParser implements ParserState {
      * Walk through a block & children recursively, parsing string content into inline content where appropriate.
      */
     private void processInlines() {
-        InlineParserContextImpl context = new InlineParserContextImpl(delimiterProcessors, definitions);
-        InlineParser inlineParser = inlineParserFactory.create(context);
+        if (lazyInlines) {
+            deferInlines();
+            return;
+        }
+        int chunks = 1;
+        if (inlineParsingExecutor != null) {
+            chunks = Math.min(inlineParsingParallelism, inlineBlockParsers.size() / MIN_BLOCK_PARSERS_PER_CHUNK);
+        }
+        if (chunks <= 1) {
+            parseInlines(inlineBlockParsers, getInlineParser());
+        } else {
+            processInlinesInParallel(chunks, inlineParserContext);
+        }
+    }
+
+    /**
+     * Instead of parsing the inline content now, parse it when the children of a block are first accessed. The
+     * definitions are copied, as they're cleared when the parser is reused.
+     */
+    private void deferInlines() {
+        LazyInlines lazyInlines = new LazyInlines(inlineParserFactory,
+                new InlineParserContextImpl(delimiterProcessors, definitions.copy()));
+        for (BlockParser blockParser : inlineBlockParsers) {
+            lazyInlines.defer(blockParser);
+        }
+    }
+
+    private InlineParser getInlineParser() {
+        if (inlineParser == null) {
+            inlineParser = inlineParserFactory.create(inlineParserContext);
+        }
+        return inlineParser;
+    }
+
+    /**
+     * Split the block parsers into chunks and parse the inlines of each chunk with its own inline parser. This is
+     * possible because block parsing is finished at this point (including all link reference definitions), and the
+     * inline content of one block doesn't depend on any other block. So the result is the same as parsing sequentially.
+     */
+    private void processInlinesInParallel(int chunks, InlineParserContext context) {
+        int size = inlineBlockParsers.size();
+        List<FutureTask<Void>> tasks = new ArrayList<>(chunks - 1);
+        for (int i = 1; i < chunks; i++) {
+            List<BlockParser> chunk = inlineBlockParsers.subList(size * i / chunks, size * (i + 1) / chunks);
+            FutureTask<Void> task = new FutureTask<>(new InlineParsingTask(chunk, context), null);
+            tasks.add(task);
+            try {
+                inlineParsingExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // Will be run by this thread below
+            }
+        }
+
+        parseInlines(inlineBlockParsers.subList(0, size / chunks), getInlineParser());
+
+        for (FutureTask<Void> task : tasks) {
+            // Run tasks that the executor hasn't started yet ourselves. This is a no-op for tasks that are already
+            // running or done, and it avoids a deadlock when the executor is busy (e.g. with other parse calls).
+            task.run();
+        }
+        for (FutureTask<Void> task : tasks) {
+            awaitTask(task);
+        }
+    }
 
-        for (BlockParser blockParser : allBlockParsers) {
+    private void parseInlines(List<BlockParser> blockParsers, InlineParser inlineParser) {
+        for (BlockParser blockParser : blockParsers) {
             blockParser.parseInlines(inlineParser);
         }
     }
 
+    private static void awaitTask(FutureTask<Void> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    task.get();
+                    return;
+                } catch (InterruptedException e) {
+                    // The task is already running, so wait for it to finish to not return a half-parsed document.
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    } else {
+                        throw new IllegalStateException("Inline parsing failed", cause);
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     /**
      * Add block of type tag as a child of the tip. If the tip can't accept children, close and finalize it and try
      * its parent, and so on until we find a block that can accept children.
@@ -527,7 +738,15 @@ public class DocumentParser implements ParserState {
 
     private Document finalizeAndProcess() {
         closeBlockParsers(openBlockParsers.size());
-        processInlines();
+        if (blockHandler != null) {
+            // Only the document block parser is left, which doesn't have inlines
+            inlineBlockParsers.clear();
+            handlePendingBlocks(true);
+        } else {
+            processInlines();
+            // Don't keep the block parsers (and with them, the nodes) around when reusing the parser
+            inlineBlockParsers.clear();
+        }
         return documentBlockParser.getBlock();
     }
 
@@ -535,20 +754,66 @@ public class DocumentParser implements ParserState {
         for (int i = 0; i < count; i++) {
             BlockParser blockParser = deactivateBlockParser().blockParser;
             finalize(blockParser);
-            // Remember for inline parsing. Note that a lot of blocks don't need inline parsing. We could have a
-            // separate interface (e.g. BlockParserWithInlines) so that we only have to remember those that actually
-            // have inlines to parse.
-            allBlockParsers.add(blockParser);
+            // Remember for inline parsing. A lot of blocks don't have inline content (e.g. list items), so only
+            // remember the ones that do, and let the others be garbage collected.
+            if (blockParserFactories.hasInlines(blockParser)) {
+                inlineBlockParsers.add(blockParser);
+            }
+
+            if (blockHandler != null && openBlockParsers.size() == 1) {
+                // A top-level block was closed, so it can't change anymore (apart from link references)
+                handleClosedBlocks();
+            }
         }
     }
 
-    private static class MatchedBlockParserImpl implements MatchedBlockParser {
+    /**
+     * Take the closed top-level blocks out of the document and parse their inline content. Then pass them to the
+     * block handler, unless they have to wait for definitions of link references they use.
+     */
+    private void handleClosedBlocks() {
+        ClosedBlocks closedBlocks = new ClosedBlocks(new ArrayList<>(inlineBlockParsers));
+        inlineBlockParsers.clear();
+
+        // Apart from the blocks, this also includes link reference definitions that were added before them
+        Node node = documentBlockParser.getBlock().getFirstChild();
+        while (node != null) {
+            Node next = node.getNext();
+            node.unlink();
+            closedBlocks.nodes.add(node);
+            node = next;
+        }
 
-        private final BlockParser matchedBlockParser;
+        closedBlocks.parseInlines();
+        pendingBlocks.add(closedBlocks);
+        bufferedBlocks += closedBlocks.nodes.size();
 
-        public MatchedBlockParserImpl(BlockParser matchedBlockParser) {
-            this.matchedBlockParser = matchedBlockParser;
+        if (forwardReferences == ForwardReferences.BUFFER) {
+            // The blocks that were just closed might have had new definitions for pending blocks
+            for (ClosedBlocks pending : pendingBlocks) {
+                if (pending.hasNewDefinitions()) {
+                    pending.reparseInlines();
+                }
+            }
+        }
+        handlePendingBlocks(false);
+    }
+
+    private void handlePendingBlocks(boolean all) {
+        while (!pendingBlocks.isEmpty() &&
+                (all || pendingBlocks.peekFirst().unresolvedLabels.isEmpty() || bufferedBlocks > maxBufferedBlocks)) {
+            // When there are too many buffered blocks, the oldest ones are handled with references left unresolved
+            ClosedBlocks closedBlocks = pendingBlocks.removeFirst();
+            bufferedBlocks -= closedBlocks.nodes.size();
+            for (Node node : closedBlocks.nodes) {
+                blockHandler.handleBlock(node);
+            }
         }
+    }
+
+    private static class MatchedBlockParserImpl implements MatchedBlockParser {
+
+        private BlockParser matchedBlockParser;
 
         @Override
         public BlockParser getMatchedBlockParser() {
@@ -565,6 +830,98 @@ public class DocumentParser implements ParserState {
         }
     }
 
+    private class InlineParsingTask implements Runnable {
+
+        private final List<BlockParser> blockParsers;
+        private final InlineParserContext context;
+
+        InlineParsingTask(List<BlockParser> blockParsers, InlineParserContext context) {
+            this.blockParsers = blockParsers;
+            this.context = context;
+        }
+
+        @Override
+        public void run() {
+            parseInlines(blockParsers, inlineParserFactory.create(context));
+        }
+    }
+
+    /**
+     * Blocks that have been closed together, with the block parsers for parsing their inline content.
+     */
+    private class ClosedBlocks {
+
+        private final List<Node> nodes = new ArrayList<>();
+        private final List<BlockParser> blockParsers;
+        private final List<Node> lastChildrenBeforeInlines;
+        private final Set<String> unresolvedLabels = new HashSet<>();
+
+        ClosedBlocks(List<BlockParser> blockParsers) {
+            this.blockParsers = blockParsers;
+            this.lastChildrenBeforeInlines = new ArrayList<>(blockParsers.size());
+            for (BlockParser blockParser : blockParsers) {
+                lastChildrenBeforeInlines.add(blockParser.getBlock().getLastChild());
+            }
+        }
+
+        void parseInlines() {
+            streamingContext.unresolvedLabels = forwardReferences == ForwardReferences.BUFFER ? unresolvedLabels : null;
+            for (BlockParser blockParser : blockParsers) {
+                blockParser.parseInlines(streamingInlineParser);
+            }
+            streamingContext.unresolvedLabels = null;
+        }
+
+        boolean hasNewDefinitions() {
+            for (String label : unresolvedLabels) {
+                if (definitions.get(label) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Remove the inline content that was parsed before and parse it again, now with more definitions.
+         */
+        void reparseInlines() {
+            for (int i = 0; i < blockParsers.size(); i++) {
+                Block block = blockParsers.get(i).getBlock();
+                Node lastChildBeforeInlines = lastChildrenBeforeInlines.get(i);
+                Node child = lastChildBeforeInlines != null ? lastChildBeforeInlines.getNext() : block.getFirstChild();
+                while (child != null) {
+                    Node next = child.getNext();
+                    child.unlink();
+                    child = next;
+                }
+            }
+            unresolvedLabels.clear();
+            parseInlines();
+        }
+    }
+
+    /**
+     * Inline parser context for streaming, which can remember the labels of link references that couldn't be resolved.
+     */
+    private class StreamingInlineParserContext implements InlineParserContext {
+
+        private Set<String> unresolvedLabels;
+
+        @Override
+        public List<DelimiterProcessor> getCustomDelimiterProcessors() {
+            return delimiterProcessors;
+        }
+
+        @Override
+        public LinkReferenceDefinition getLinkReferenceDefinition(String label) {
+            LinkReferenceDefinition definition = definitions.get(label);
+            if (definition == null && unresolvedLabels != null) {
+                unresolvedLabels.add(label);
+            }
+            return definition;
+        }
+    }
+
     private static class OpenBlockParser {
         private final BlockParser blockParser;
         private int sourceIndex;
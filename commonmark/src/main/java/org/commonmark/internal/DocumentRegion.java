@@ -0,0 +1,238 @@
+package org.commonmark.internal;
+
+import org.commonmark.internal.util.Parsing;
+import org.commonmark.node.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The run of top-level blocks of a parsed document that is affected by an edit, for reparsing only that part.
+ * <p>
+ * The region starts with the last block before the edit (which could be continued by the edited lines) and ends with
+ * the first block after the edit. The new content of the region is parsed on its own; if the last block comes out
+ * the same as before, parsing has caught up with the old document, and the blocks after it are unaffected.
+ */
+public class DocumentRegion {
+
+    private final Document document;
+    private final List<Node> oldBlocks;
+    private final Node trailingBlock;
+    private final int startLine;
+    private final int lineDelta;
+    private final CharSequence content;
+
+    private DocumentRegion(Document document, List<Node> oldBlocks, Node trailingBlock, int startLine, int lineDelta,
+                           CharSequence content) {
+        this.document = document;
+        this.oldBlocks = oldBlocks;
+        this.trailingBlock = trailingBlock;
+        this.startLine = startLine;
+        this.lineDelta = lineDelta;
+        this.content = content;
+    }
+
+    /**
+     * Find the region affected by replacing the lines {@code [editStartLine, editStartLine + removedLineCount)} with
+     * {@code insertedLineCount} lines.
+     *
+     * @return the region, or null if it can't be determined (e.g. the document doesn't have source spans)
+     */
+    public static DocumentRegion find(Document document, String newInput, int editStartLine, int removedLineCount,
+                                      int insertedLineCount) {
+        List<Node> blocks = new ArrayList<>();
+        for (Node block = document.getFirstChild(); block != null; block = block.getNext()) {
+            if (block.getSourceSpans().isEmpty()) {
+                return null;
+            }
+            blocks.add(block);
+        }
+        if (blocks.isEmpty()) {
+            return null;
+        }
+
+        int editEndLine = editStartLine + removedLineCount;
+        int first = 0;
+        for (int i = 0; i < blocks.size() && lastLine(blocks.get(i)) < editStartLine; i++) {
+            first = i;
+        }
+        // Definitions and the paragraph after them are parsed from the same lines, so a block after a definition
+        // doesn't start a new paragraph (e.g. an indented line after a definition is a paragraph continuation).
+        while (first > 0 && blocks.get(first - 1) instanceof LinkReferenceDefinition) {
+            first--;
+        }
+        int last = blocks.size() - 1;
+        Node trailingBlock = null;
+        for (int i = first; i < blocks.size(); i++) {
+            if (firstLine(blocks.get(i)) >= editEndLine) {
+                last = i;
+                trailingBlock = blocks.get(i);
+                break;
+            }
+        }
+
+        int startLine = first == 0 ? 0 : firstLine(blocks.get(first));
+        int lineDelta = insertedLineCount - removedLineCount;
+        // Blank lines after the trailing block can still belong to it (e.g. in a fenced code block), so the region ends
+        // where the next block starts
+        int endLine = last + 1 < blocks.size() ? firstLine(blocks.get(last + 1)) + lineDelta : Integer.MAX_VALUE;
+        CharSequence content = lines(newInput, startLine, endLine);
+        if (content == null) {
+            return null;
+        }
+        return new DocumentRegion(document, blocks.subList(first, last + 1), trailingBlock, startLine, lineDelta, content);
+    }
+
+    /**
+     * @return the new content of the region, to be parsed starting at {@link #getStartLine()}
+     */
+    public CharSequence getContent() {
+        return content;
+    }
+
+    /**
+     * @return index of the first line of the region
+     */
+    public int getStartLine() {
+        return startLine;
+    }
+
+    /**
+     * @return the link reference definitions of the whole document, in document order
+     */
+    public List<LinkReferenceDefinition> getDefinitions() {
+        List<LinkReferenceDefinition> definitions = new ArrayList<>();
+        collectDefinitions(document, definitions);
+        return definitions;
+    }
+
+    /**
+     * Check whether the result of parsing the new content can replace the old blocks: The last block has to be the
+     * same as before (shifted by the number of added or removed lines), and link reference definitions must not have
+     * changed (they can affect the whole document).
+     */
+    public boolean canReplaceWith(Document regionDocument) {
+        if (trailingBlock != null) {
+            Node newTrailingBlock = regionDocument.getLastChild();
+            if (newTrailingBlock == null || newTrailingBlock.getClass() != trailingBlock.getClass() ||
+                    firstLine(newTrailingBlock) != firstLine(trailingBlock) + lineDelta ||
+                    lastLine(newTrailingBlock) != lastLine(trailingBlock) + lineDelta) {
+                return false;
+            }
+        }
+
+        List<LinkReferenceDefinition> oldDefinitions = new ArrayList<>();
+        for (Node block : oldBlocks) {
+            if (block instanceof LinkReferenceDefinition) {
+                oldDefinitions.add((LinkReferenceDefinition) block);
+            } else {
+                collectDefinitions(block, oldDefinitions);
+            }
+        }
+        List<LinkReferenceDefinition> newDefinitions = new ArrayList<>();
+        collectDefinitions(regionDocument, newDefinitions);
+        if (oldDefinitions.size() != newDefinitions.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldDefinitions.size(); i++) {
+            LinkReferenceDefinition oldDefinition = oldDefinitions.get(i);
+            LinkReferenceDefinition newDefinition = newDefinitions.get(i);
+            if (!oldDefinition.getLabel().equals(newDefinition.getLabel()) ||
+                    !oldDefinition.getDestination().equals(newDefinition.getDestination()) ||
+                    !Objects.equals(oldDefinition.getTitle(), newDefinition.getTitle())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replace the old blocks of the region with the blocks of the region document, and shift the source spans of the
+     * blocks after the region.
+     */
+    public void replaceWith(Document regionDocument) {
+        Node after = oldBlocks.get(oldBlocks.size() - 1).getNext();
+        for (Node block : oldBlocks) {
+            block.unlink();
+        }
+
+        Node block = regionDocument.getFirstChild();
+        while (block != null) {
+            Node next = block.getNext();
+            if (after != null) {
+                after.insertBefore(block);
+            } else {
+                document.appendChild(block);
+            }
+            block = next;
+        }
+
+        if (lineDelta != 0) {
+            for (Node node = after; node != null; node = node.getNext()) {
+                shiftSourceSpans(node, lineDelta);
+            }
+        }
+    }
+
+    private static int firstLine(Node block) {
+        return block.getSourceSpans().get(0).getLineIndex();
+    }
+
+    private static int lastLine(Node block) {
+        List<SourceSpan> sourceSpans = block.getSourceSpans();
+        return sourceSpans.get(sourceSpans.size() - 1).getLineIndex();
+    }
+
+    /**
+     * @return the lines {@code [startLine, endLine)} of the input, or null if the input doesn't have that many lines
+     */
+    private static CharSequence lines(String input, int startLine, int endLine) {
+        int line = 0;
+        int startIndex = startLine == 0 ? 0 : -1;
+        int index = 0;
+        while (line < endLine && index < input.length()) {
+            int lineBreak = Parsing.findLineBreak(input, index);
+            if (lineBreak == -1) {
+                index = input.length();
+            } else if (lineBreak + 1 < input.length() && input.charAt(lineBreak) == '\r' && input.charAt(lineBreak + 1) == '\n') {
+                index = lineBreak + 2;
+            } else {
+                index = lineBreak + 1;
+            }
+            line++;
+            if (line == startLine) {
+                startIndex = index;
+            }
+        }
+        if (startIndex == -1 || (endLine != Integer.MAX_VALUE && line < endLine)) {
+            return null;
+        }
+        return input.subSequence(startIndex, index);
+    }
+
+    private static void collectDefinitions(Node parent, List<LinkReferenceDefinition> definitions) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNext()) {
+            if (node instanceof LinkReferenceDefinition) {
+                definitions.add((LinkReferenceDefinition) node);
+            } else if (node instanceof Block) {
+                // Definitions can only be in blocks, no need to look at inline nodes
+                collectDefinitions(node, definitions);
+            }
+        }
+    }
+
+    private static void shiftSourceSpans(Node node, int lineDelta) {
+        List<SourceSpan> sourceSpans = node.getSourceSpans();
+        if (!sourceSpans.isEmpty()) {
+            List<SourceSpan> shifted = new ArrayList<>(sourceSpans.size());
+            for (SourceSpan sourceSpan : sourceSpans) {
+                shifted.add(SourceSpan.of(sourceSpan.getLineIndex() + lineDelta, sourceSpan.getColumnIndex(), sourceSpan.getLength()));
+            }
+            node.setSourceSpans(shifted);
+        }
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            shiftSourceSpans(child, lineDelta);
+        }
+    }
+}
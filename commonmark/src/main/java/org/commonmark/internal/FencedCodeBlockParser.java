@@ -1,11 +1,16 @@
 package org.commonmark.internal;
 
+import org.commonmark.internal.util.LiteralBuilder;
 import org.commonmark.internal.util.Parsing;
 import org.commonmark.node.Block;
 import org.commonmark.node.FencedCodeBlock;
 import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.block.*;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.commonmark.internal.util.Escaping.unescapeString;
 
 public class FencedCodeBlockParser extends AbstractBlockParser {
@@ -13,7 +18,7 @@ public class FencedCodeBlockParser extends AbstractBlockParser {
     private final FencedCodeBlock block = new FencedCodeBlock();
 
     private String firstLine;
-    private StringBuilder otherLines = new StringBuilder();
+    private LiteralBuilder otherLines = new LiteralBuilder();
 
     public FencedCodeBlockParser(char fenceChar, int fenceLength, int fenceIndent) {
         block.setFenceChar(fenceChar);
@@ -60,10 +65,15 @@ public class FencedCodeBlockParser extends AbstractBlockParser {
     public void closeBlock() {
         // first line becomes info string
         block.setInfo(unescapeString(firstLine.trim()));
-        block.setLiteral(otherLines.toString());
+        block.setLiteralSequence(otherLines.build());
     }
 
-    public static class Factory extends AbstractBlockParserFactory {
+    public static class Factory extends AbstractBlockParserFactory implements TriggerCharacters {
+
+        @Override
+        public Set<Character> getTriggerCharacters() {
+            return new HashSet<>(Arrays.asList('`', '~'));
+        }
 
         @Override
         public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
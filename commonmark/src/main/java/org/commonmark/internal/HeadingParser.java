@@ -10,7 +10,11 @@ import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.SourceLines;
 import org.commonmark.parser.block.*;
 
-public class HeadingParser extends AbstractBlockParser {
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class HeadingParser extends AbstractBlockParser implements BlockParserWithInlines {
 
     private final Heading block = new Heading();
     private final SourceLines content;
@@ -36,7 +40,12 @@ public class HeadingParser extends AbstractBlockParser {
         inlineParser.parse(content, block);
     }
 
-    public static class Factory extends AbstractBlockParserFactory {
+    public static class Factory extends AbstractBlockParserFactory implements TriggerCharacters {
+
+        @Override
+        public Set<Character> getTriggerCharacters() {
+            return new HashSet<>(Arrays.asList('#', '=', '-'));
+        }
 
         @Override
         public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
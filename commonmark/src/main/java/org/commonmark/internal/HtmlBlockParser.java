@@ -1,72 +1,57 @@
 package org.commonmark.internal;
 
-import org.commonmark.internal.util.Parsing;
+import org.commonmark.internal.util.AsciiMatcher;
 import org.commonmark.node.Block;
 import org.commonmark.node.HtmlBlock;
 import org.commonmark.node.Paragraph;
 import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.block.*;
 
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.Set;
 
 public class HtmlBlockParser extends AbstractBlockParser {
 
-    private static final Pattern[][] BLOCK_PATTERNS = new Pattern[][]{
-            {null, null}, // not used (no type 0)
-            {
-                    Pattern.compile("^<(?:script|pre|style|textarea)(?:\\s|>|$)", Pattern.CASE_INSENSITIVE),
-                    Pattern.compile("</(?:script|pre|style|textarea)>", Pattern.CASE_INSENSITIVE)
-            },
-            {
-                    Pattern.compile("^<!--"),
-                    Pattern.compile("-->")
-            },
-            {
-                    Pattern.compile("^<[?]"),
-                    Pattern.compile("\\?>")
-            },
-            {
-                    Pattern.compile("^<![A-Z]"),
-                    Pattern.compile(">")
-            },
-            {
-                    Pattern.compile("^<!\\[CDATA\\["),
-                    Pattern.compile("\\]\\]>")
-            },
-            {
-                    Pattern.compile("^</?(?:" +
-                            "address|article|aside|" +
-                            "base|basefont|blockquote|body|" +
-                            "caption|center|col|colgroup|" +
-                            "dd|details|dialog|dir|div|dl|dt|" +
-                            "fieldset|figcaption|figure|footer|form|frame|frameset|" +
-                            "h1|h2|h3|h4|h5|h6|head|header|hr|html|" +
-                            "iframe|" +
-                            "legend|li|link|" +
-                            "main|menu|menuitem|" +
-                            "nav|noframes|" +
-                            "ol|optgroup|option|" +
-                            "p|param|" +
-                            "section|source|summary|" +
-                            "table|tbody|td|tfoot|th|thead|title|tr|track|" +
-                            "ul" +
-                            ")(?:\\s|[/]?[>]|$)", Pattern.CASE_INSENSITIVE),
-                    null // terminated by blank line
-            },
-            {
-                    Pattern.compile("^(?:" + Parsing.OPENTAG + '|' + Parsing.CLOSETAG + ")\\s*$", Pattern.CASE_INSENSITIVE),
-                    null // terminated by blank line
-            }
-    };
+    private static final TagNames TYPE_1_TAG_NAMES = new TagNames("script", "pre", "style", "textarea");
+
+    private static final TagNames TYPE_6_TAG_NAMES = new TagNames(
+            "address", "article", "aside",
+            "base", "basefont", "blockquote", "body",
+            "caption", "center", "col", "colgroup",
+            "dd", "details", "dialog", "dir", "div", "dl", "dt",
+            "fieldset", "figcaption", "figure", "footer", "form", "frame", "frameset",
+            "h1", "h2", "h3", "h4", "h5", "h6", "head", "header", "hr", "html",
+            "iframe",
+            "legend", "li", "link",
+            "main", "menu", "menuitem",
+            "nav", "noframes",
+            "ol", "optgroup", "option",
+            "p", "param",
+            "section", "source", "summary",
+            "table", "tbody", "td", "tfoot", "th", "thead", "title", "tr", "track",
+            "ul");
+
+    private static final AsciiMatcher asciiLetter = AsciiMatcher.builder().range('A', 'Z').range('a', 'z').build();
+    private static final AsciiMatcher tagNameContinue = asciiLetter.newBuilder().range('0', '9').c('-').build();
+    private static final AsciiMatcher attributeStart = asciiLetter.newBuilder().c('_').c(':').build();
+    private static final AsciiMatcher attributeContinue = attributeStart.newBuilder().range('0', '9').c('.').c('-').build();
+    // Whitespace as in the \s of regular expressions
+    private static final AsciiMatcher whitespace = AsciiMatcher.builder()
+            .c(' ').c('\t').c('\n').c('\u000B').c('\f').c('\r')
+            .build();
+    private static final AsciiMatcher unquotedAttributeValueEnd = AsciiMatcher.builder()
+            .range('\u0000', ' ')
+            .c('"').c('\'').c('=').c('<').c('>').c('`')
+            .build();
 
     private final HtmlBlock block = new HtmlBlock();
-    private final Pattern closingPattern;
+    private final int blockType;
 
     private boolean finished = false;
     private BlockContent content = new BlockContent();
 
-    private HtmlBlockParser(Pattern closingPattern) {
-        this.closingPattern = closingPattern;
+    private HtmlBlockParser(int blockType) {
+        this.blockType = blockType;
     }
 
     @Override
@@ -81,7 +66,7 @@ public class HtmlBlockParser extends AbstractBlockParser {
         }
 
         // Blank line ends type 6 and type 7 blocks
-        if (state.isBlank() && closingPattern == null) {
+        if (state.isBlank() && blockType >= 6) {
             return BlockContinue.none();
         } else {
             return BlockContinue.atIndex(state.getIndex());
@@ -92,18 +77,202 @@ public class HtmlBlockParser extends AbstractBlockParser {
     public void addLine(SourceLine line) {
         content.add(line.getContent());
 
-        if (closingPattern != null && closingPattern.matcher(line.getContent()).find()) {
+        if (isClosingLine(blockType, line.getContent())) {
             finished = true;
         }
     }
 
     @Override
     public void closeBlock() {
-        block.setLiteral(content.getString());
+        block.setLiteralSequence(content.getContent());
         content = null;
     }
 
-    public static class Factory extends AbstractBlockParserFactory {
+    /**
+     * @return the type of HTML block (1 to 6) that the line starts with at the {@code <} at index {@code start}, or
+     * 0 if none (type 7 is checked separately because it can't interrupt a paragraph)
+     */
+    private static int findBlockType(CharSequence line, int start) {
+        int i = start + 1;
+        if (i >= line.length()) {
+            return 0;
+        }
+        char c = line.charAt(i);
+        switch (c) {
+            case '!':
+                if (startsWith(line, i, "!--")) {
+                    return 2;
+                } else if (i + 1 < line.length() && line.charAt(i + 1) >= 'A' && line.charAt(i + 1) <= 'Z') {
+                    return 4;
+                } else if (startsWith(line, i, "![CDATA[")) {
+                    return 5;
+                }
+                return 0;
+            case '?':
+                return 3;
+            case '/':
+                return isType6TagEnd(line, TYPE_6_TAG_NAMES.match(line, i + 1)) ? 6 : 0;
+            default:
+                int end = TYPE_1_TAG_NAMES.match(line, i);
+                if (end != -1 && (end == line.length() || whitespace.matches(line.charAt(end)) || line.charAt(end) == '>')) {
+                    return 1;
+                }
+                return isType6TagEnd(line, TYPE_6_TAG_NAMES.match(line, i)) ? 6 : 0;
+        }
+    }
+
+    private static boolean isType6TagEnd(CharSequence line, int end) {
+        if (end == -1) {
+            return false;
+        }
+        if (end == line.length()) {
+            return true;
+        }
+        char c = line.charAt(end);
+        return whitespace.matches(c) || c == '>' || (c == '/' && end + 1 < line.length() && line.charAt(end + 1) == '>');
+    }
+
+    /**
+     * Check for a type 7 block: A complete open or closing tag (with any tag name) followed only by whitespace.
+     */
+    private static boolean isType7(CharSequence line, int start) {
+        int i = start + 1;
+        int end;
+        if (i < line.length() && line.charAt(i) == '/') {
+            end = scanClosingTag(line, i + 1);
+        } else {
+            end = scanOpenTag(line, i);
+        }
+        return end != -1 && skip(whitespace, line, end) == line.length();
+    }
+
+    /**
+     * @return the index after the open tag (without the {@code <} at the start), or -1 if there's none
+     */
+    private static int scanOpenTag(CharSequence line, int start) {
+        if (start >= line.length() || !asciiLetter.matches(line.charAt(start))) {
+            return -1;
+        }
+        int i = skip(tagNameContinue, line, start + 1);
+        while (true) {
+            // Attributes have to be preceded by whitespace
+            int afterWhitespace = skip(whitespace, line, i);
+            if (afterWhitespace == i || afterWhitespace == line.length() || !attributeStart.matches(line.charAt(afterWhitespace))) {
+                i = afterWhitespace;
+                break;
+            }
+            i = skip(attributeContinue, line, afterWhitespace + 1);
+
+            int valueSpec = skip(whitespace, line, i);
+            if (valueSpec < line.length() && line.charAt(valueSpec) == '=') {
+                i = scanAttributeValue(line, skip(whitespace, line, valueSpec + 1));
+                if (i == -1) {
+                    return -1;
+                }
+            }
+        }
+        if (i < line.length() && line.charAt(i) == '/') {
+            i++;
+        }
+        return i < line.length() && line.charAt(i) == '>' ? i + 1 : -1;
+    }
+
+    private static int scanAttributeValue(CharSequence line, int start) {
+        if (start >= line.length()) {
+            return -1;
+        }
+        char c = line.charAt(start);
+        if (c == '\'' || c == '"') {
+            for (int i = start + 1; i < line.length(); i++) {
+                if (line.charAt(i) == c) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+        int end = start;
+        while (end < line.length() && !unquotedAttributeValueEnd.matches(line.charAt(end))) {
+            end++;
+        }
+        return end > start ? end : -1;
+    }
+
+    /**
+     * @return the index after the closing tag (without the {@code </} at the start), or -1 if there's none
+     */
+    private static int scanClosingTag(CharSequence line, int start) {
+        if (start >= line.length() || !asciiLetter.matches(line.charAt(start))) {
+            return -1;
+        }
+        int i = skip(whitespace, line, skip(tagNameContinue, line, start + 1));
+        return i < line.length() && line.charAt(i) == '>' ? i + 1 : -1;
+    }
+
+    private static boolean isClosingLine(int blockType, CharSequence line) {
+        switch (blockType) {
+            case 1:
+                return containsType1ClosingTag(line);
+            case 2:
+                return contains(line, "-->");
+            case 3:
+                return contains(line, "?>");
+            case 4:
+                return contains(line, ">");
+            case 5:
+                return contains(line, "]]>");
+            default:
+                // Types 6 and 7 are terminated by a blank line
+                return false;
+        }
+    }
+
+    private static boolean containsType1ClosingTag(CharSequence line) {
+        for (int i = 0; i + 1 < line.length(); i++) {
+            if (line.charAt(i) == '<' && line.charAt(i + 1) == '/') {
+                int end = TYPE_1_TAG_NAMES.match(line, i + 2);
+                if (end != -1 && end < line.length() && line.charAt(end) == '>') {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(CharSequence line, String s) {
+        for (int i = 0; i + s.length() <= line.length(); i++) {
+            if (startsWith(line, i, s)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(CharSequence line, int index, String s) {
+        if (index + s.length() > line.length()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (line.charAt(index + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skip(AsciiMatcher matcher, CharSequence line, int start) {
+        int i = start;
+        while (i < line.length() && matcher.matches(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    public static class Factory extends AbstractBlockParserFactory implements TriggerCharacters {
+
+        @Override
+        public Set<Character> getTriggerCharacters() {
+            return Collections.singleton('<');
+        }
 
         @Override
         public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
@@ -111,22 +280,73 @@ public class HtmlBlockParser extends AbstractBlockParser {
             CharSequence line = state.getLine().getContent();
 
             if (state.getIndent() < 4 && line.charAt(nextNonSpace) == '<') {
-                for (int blockType = 1; blockType <= 7; blockType++) {
-                    // Type 7 can not interrupt a paragraph (not even a lazy one)
-                    if (blockType == 7 && (
-                            matchedBlockParser.getMatchedBlockParser().getBlock() instanceof Paragraph ||
-                                    state.getActiveBlockParser().canHaveLazyContinuationLines())) {
-                        continue;
-                    }
-                    Pattern opener = BLOCK_PATTERNS[blockType][0];
-                    Pattern closer = BLOCK_PATTERNS[blockType][1];
-                    boolean matches = opener.matcher(line.subSequence(nextNonSpace, line.length())).find();
-                    if (matches) {
-                        return BlockStart.of(new HtmlBlockParser(closer)).atIndex(state.getIndex());
-                    }
+                int blockType = findBlockType(line, nextNonSpace);
+                // Type 7 can not interrupt a paragraph (not even a lazy one)
+                if (blockType == 0 &&
+                        !(matchedBlockParser.getMatchedBlockParser().getBlock() instanceof Paragraph) &&
+                        !state.getActiveBlockParser().canHaveLazyContinuationLines() &&
+                        isType7(line, nextNonSpace)) {
+                    blockType = 7;
+                }
+                if (blockType != 0) {
+                    return BlockStart.of(new HtmlBlockParser(blockType)).atIndex(state.getIndex());
                 }
             }
             return BlockStart.none();
         }
     }
+
+    /**
+     * Set of tag names (ASCII letters and digits) as a trie, for matching case-insensitively without allocating.
+     */
+    private static class TagNames {
+
+        private final TagNames[] children = new TagNames[26 + 10];
+        private boolean terminal = false;
+
+        TagNames(String... names) {
+            for (String name : names) {
+                TagNames node = this;
+                for (int i = 0; i < name.length(); i++) {
+                    int index = index(name.charAt(i));
+                    if (node.children[index] == null) {
+                        node.children[index] = new TagNames();
+                    }
+                    node = node.children[index];
+                }
+                node.terminal = true;
+            }
+        }
+
+        /**
+         * Match the longest run of tag name characters that is in the trie. A shorter name can't be a match anyway:
+         * callers require a character after the name that can't be part of a tag name.
+         *
+         * @return the index after the tag name starting at {@code start}, or -1 if there's none
+         */
+        int match(CharSequence line, int start) {
+            TagNames node = this;
+            int i = start;
+            while (i < line.length()) {
+                int index = index(line.charAt(i));
+                if (index == -1 || node.children[index] == null) {
+                    break;
+                }
+                node = node.children[index];
+                i++;
+            }
+            return node.terminal ? i : -1;
+        }
+
+        private static int index(char c) {
+            if (c >= 'a' && c <= 'z') {
+                return c - 'a';
+            } else if (c >= 'A' && c <= 'Z') {
+                return c - 'A';
+            } else if (c >= '0' && c <= '9') {
+                return 26 + c - '0';
+            }
+            return -1;
+        }
+    }
 }
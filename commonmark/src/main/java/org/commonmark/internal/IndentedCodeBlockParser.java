@@ -1,5 +1,6 @@
 package org.commonmark.internal;
 
+import org.commonmark.internal.util.LiteralBuilder;
 import org.commonmark.internal.util.Parsing;
 import org.commonmark.node.Block;
 import org.commonmark.node.IndentedCodeBlock;
@@ -46,14 +47,13 @@ public class IndentedCodeBlockParser extends AbstractBlockParser {
             lastNonBlank--;
         }
 
-        StringBuilder sb = new StringBuilder();
+        LiteralBuilder literal = new LiteralBuilder();
         for (int i = 0; i < lastNonBlank + 1; i++) {
-            sb.append(lines.get(i));
-            sb.append('\n');
+            literal.append(lines.get(i));
+            literal.append('\n');
         }
 
-        String literal = sb.toString();
-        block.setLiteral(literal);
+        block.setLiteralSequence(literal.build());
     }
 
     public static class Factory extends AbstractBlockParserFactory {
@@ -2,12 +2,16 @@ package org.commonmark.internal;
 
 import org.commonmark.internal.inline.Scanner;
 import org.commonmark.internal.inline.*;
+import org.commonmark.internal.util.CharMap;
+import org.commonmark.internal.util.CharSlice;
 import org.commonmark.internal.util.Escaping;
 import org.commonmark.internal.util.LinkScanner;
 import org.commonmark.internal.util.Parsing;
 import org.commonmark.node.*;
 import org.commonmark.parser.InlineParser;
 import org.commonmark.parser.InlineParserContext;
+import org.commonmark.parser.InlineParserFactory;
+import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.SourceLines;
 import org.commonmark.parser.delimiter.DelimiterProcessor;
 
@@ -16,9 +20,15 @@ import java.util.*;
 public class InlineParserImpl implements InlineParser, InlineParserState {
 
     private final BitSet specialCharacters;
-    private final Map<Character, DelimiterProcessor> delimiterProcessors;
+    private final CharMap<DelimiterProcessor> delimiterProcessors;
     private final InlineParserContext context;
-    private final Map<Character, List<InlineContentParser>> inlineParsers;
+    private final CharMap<List<InlineContentParser>> inlineParsers;
+
+    /**
+     * Lower bound for searching openers per delimiter character, see {@link #processDelimiters}. Created on first use
+     * and reused between calls.
+     */
+    private CharMap<Delimiter> openersBottom;
 
     private Scanner scanner;
     private boolean includeSourceSpans;
@@ -36,16 +46,22 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
     private Bracket lastBracket;
 
     public InlineParserImpl(InlineParserContext inlineParserContext) {
-        this.delimiterProcessors = calculateDelimiterProcessors(inlineParserContext.getCustomDelimiterProcessors());
+        this(inlineParserContext, new Tables(inlineParserContext.getCustomDelimiterProcessors()));
+    }
 
+    private InlineParserImpl(InlineParserContext inlineParserContext, Tables tables) {
         this.context = inlineParserContext;
-        this.inlineParsers = new HashMap<>();
-        this.inlineParsers.put('\\', Collections.<InlineContentParser>singletonList(new BackslashInlineParser()));
-        this.inlineParsers.put('`', Collections.<InlineContentParser>singletonList(new BackticksInlineParser()));
-        this.inlineParsers.put('&', Collections.<InlineContentParser>singletonList(new EntityInlineParser()));
-        this.inlineParsers.put('<', Arrays.asList(new AutolinkInlineParser(), new HtmlInlineParser()));
+        this.delimiterProcessors = tables.delimiterProcessors;
+        this.inlineParsers = tables.inlineParsers;
+        this.specialCharacters = tables.specialCharacters;
+    }
 
-        this.specialCharacters = calculateSpecialCharacters(this.delimiterProcessors.keySet(), inlineParsers.keySet());
+    /**
+     * @return a factory for inline parsers that shares the lookup tables for delimiter processors and inline content
+     * parsers between the parsers it creates (as long as the custom delimiter processors stay the same)
+     */
+    public static InlineParserFactory factory() {
+        return new Factory();
     }
 
     public static BitSet calculateSpecialCharacters(Set<Character> delimiterCharacters, Set<Character> characters) {
@@ -132,14 +148,25 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
 
     void reset(SourceLines lines) {
         this.scanner = Scanner.of(lines);
-        this.includeSourceSpans = !lines.getSourceSpans().isEmpty();
+        this.includeSourceSpans = hasSourceSpans(lines);
         this.trailingSpaces = 0;
         this.lastDelimiter = null;
         this.lastBracket = null;
     }
 
+    private static boolean hasSourceSpans(SourceLines lines) {
+        // Without building the list of spans
+        for (SourceLine line : lines.getLines()) {
+            if (line.getSourceSpan() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Text text(SourceLines sourceLines) {
-        Text text = new Text(sourceLines.getContent());
+        Text text = new Text();
+        text.setLiteralSequence(CharSlice.contentOf(sourceLines));
         text.setSourceSpans(sourceLines.getSourceSpans());
         return text;
     }
@@ -173,8 +200,8 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         List<InlineContentParser> inlineParsers = this.inlineParsers.get(c);
         if (inlineParsers != null) {
             Position position = scanner.position();
-            for (InlineContentParser inlineParser : inlineParsers) {
-                ParsedInline parsedInline = inlineParser.tryParse(this);
+            for (int i = 0; i < inlineParsers.size(); i++) {
+                ParsedInline parsedInline = inlineParsers.get(i).tryParse(this);
                 if (parsedInline instanceof ParsedInlineImpl) {
                     ParsedInlineImpl parsedInlineImpl = (ParsedInlineImpl) parsedInline;
                     Node node = parsedInlineImpl.getNode();
@@ -211,15 +238,13 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             return null;
         }
 
-        List<Text> characters = res.characters;
-
         // Add entry to stack for this opener
-        lastDelimiter = new Delimiter(characters, delimiterChar, res.canOpen, res.canClose, lastDelimiter);
+        lastDelimiter = new Delimiter(res.node, res.length, delimiterChar, res.canOpen, res.canClose, lastDelimiter);
         if (lastDelimiter.previous != null) {
             lastDelimiter.previous.next = lastDelimiter;
         }
 
-        return characters;
+        return Collections.singletonList(res.node);
     }
 
     /**
@@ -478,20 +503,21 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
         }
 
         SourceLines source = scanner.getSource(start, scanner.position());
-        String content = source.getContent();
+        CharSequence content = CharSlice.contentOf(source);
 
         if (c == '\n') {
             // We parsed until the end of the line. Trim any trailing spaces and remember them (for hard line breaks).
             int end = Parsing.skipBackwards(' ', content, content.length() - 1, 0) + 1;
             trailingSpaces = content.length() - end;
-            content = content.substring(0, end);
+            content = content.subSequence(0, end);
         } else if (c == Scanner.END) {
             // For the last line, both tabs and spaces are trimmed for some reason (checked with commonmark.js).
             int end = Parsing.skipSpaceTabBackwards(content, content.length() - 1, 0) + 1;
-            content = content.substring(0, end);
+            content = content.subSequence(0, end);
         }
 
-        Text text = new Text(content);
+        Text text = new Text();
+        text.setLiteralSequence(content);
         text.setSourceSpans(source.getSourceSpans());
         return text;
     }
@@ -513,14 +539,9 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             return null;
         }
 
-        // We do have enough, extract a text node for each delimiter character.
-        List<Text> delimiters = new ArrayList<>();
-        scanner.setPosition(start);
-        Position positionBefore = start;
-        while (scanner.next(delimiterChar)) {
-            delimiters.add(text(scanner.getSource(positionBefore, scanner.position())));
-            positionBefore = scanner.position();
-        }
+        // We do have enough, extract a single text node for the whole run. It's only split into the individual
+        // delimiter characters if a delimiter processor needs them, see Delimiter.
+        Text node = text(scanner.getSource(start, scanner.position()));
 
         int after = scanner.peekCodePoint();
 
@@ -544,12 +565,14 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             canClose = rightFlanking && delimiterChar == delimiterProcessor.getClosingCharacter();
         }
 
-        return new DelimiterData(delimiters, canOpen, canClose);
+        return new DelimiterData(node, delimiterCount, canOpen, canClose);
     }
 
     private void processDelimiters(Delimiter stackBottom) {
 
-        Map<Character, Delimiter> openersBottom = new HashMap<>();
+        if (openersBottom != null) {
+            openersBottom.clear();
+        }
 
         // find first closer above stackBottom:
         Delimiter closer = lastDelimiter;
@@ -573,7 +596,8 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             boolean openerFound = false;
             boolean potentialOpenerFound = false;
             Delimiter opener = closer.previous;
-            while (opener != null && opener != stackBottom && opener != openersBottom.get(delimiterChar)) {
+            while (opener != null && opener != stackBottom &&
+                    (openersBottom == null || opener != openersBottom.get(delimiterChar))) {
                 if (opener.canOpen() && opener.delimiterChar == openingDelimiterChar) {
                     potentialOpenerFound = true;
                     usedDelims = delimiterProcessor.process(opener, closer);
@@ -594,6 +618,9 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
                     // delimiters (e.g. because of the "multiple of 3" rule),
                     // we want to consider it next time because the number
                     // of delimiters can change as we continue processing.
+                    if (openersBottom == null) {
+                        openersBottom = new CharMap<>();
+                    }
                     openersBottom.put(delimiterChar, closer.previous);
                     if (!closer.canOpen()) {
                         // We can remove a closer that can't be an opener,
@@ -606,14 +633,8 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             }
 
             // Remove number of used delimiters nodes.
-            for (int i = 0; i < usedDelims; i++) {
-                Text delimiter = opener.characters.remove(opener.characters.size() - 1);
-                delimiter.unlink();
-            }
-            for (int i = 0; i < usedDelims; i++) {
-                Text delimiter = closer.characters.remove(0);
-                delimiter.unlink();
-            }
+            opener.removeOpeners(usedDelims);
+            closer.removeClosers(usedDelims);
 
             removeDelimitersBetween(opener, closer);
 
@@ -691,7 +712,7 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
                 if (first == null) {
                     first = text;
                 }
-                length += text.getLiteral().length();
+                length += text.getLiteralSequence().length();
                 last = text;
             } else {
                 mergeIfNeeded(first, last, length);
@@ -712,8 +733,9 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
 
     private void mergeIfNeeded(Text first, Text last, int textLength) {
         if (first != null && last != null && first != last) {
-            StringBuilder sb = new StringBuilder(textLength);
-            sb.append(first.getLiteral());
+            // Stays a slice if the texts are next to each other in the input (see Parser.Builder#sliceLiterals)
+            CharSequence slice = first.getLiteralSequence();
+            StringBuilder sb = null;
             SourceSpans sourceSpans = null;
             if (includeSourceSpans) {
                 sourceSpans = new SourceSpans();
@@ -722,7 +744,17 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
             Node node = first.getNext();
             Node stop = last.getNext();
             while (node != stop) {
-                sb.append(((Text) node).getLiteral());
+                CharSequence literal = ((Text) node).getLiteralSequence();
+                CharSequence joined = sb == null ? CharSlice.join(slice, literal) : null;
+                if (joined != null) {
+                    slice = joined;
+                } else {
+                    if (sb == null) {
+                        sb = new StringBuilder(textLength);
+                        sb.append(slice);
+                    }
+                    sb.append(literal);
+                }
                 if (sourceSpans != null) {
                     sourceSpans.addAll(node.getSourceSpans());
                 }
@@ -731,22 +763,66 @@ public class InlineParserImpl implements InlineParser, InlineParserState {
                 node = node.getNext();
                 unlink.unlink();
             }
-            String literal = sb.toString();
-            first.setLiteral(literal);
+            first.setLiteralSequence(sb != null ? sb.toString() : slice);
             if (sourceSpans != null) {
                 first.setSourceSpans(sourceSpans.getSourceSpans());
             }
         }
     }
 
+    /**
+     * Lookup tables by character. They only depend on the custom delimiter processors and are never modified after
+     * construction, so they can be shared between inline parsers.
+     */
+    private static class Tables {
+
+        final List<DelimiterProcessor> customDelimiterProcessors;
+        final CharMap<DelimiterProcessor> delimiterProcessors;
+        final CharMap<List<InlineContentParser>> inlineParsers;
+        final BitSet specialCharacters;
+
+        Tables(List<DelimiterProcessor> customDelimiterProcessors) {
+            this.customDelimiterProcessors = customDelimiterProcessors;
+            Map<Character, DelimiterProcessor> delimiterProcessors = calculateDelimiterProcessors(customDelimiterProcessors);
+            this.delimiterProcessors = new CharMap<>(delimiterProcessors);
+
+            Map<Character, List<InlineContentParser>> inlineParsers = new HashMap<>();
+            inlineParsers.put('\\', Collections.<InlineContentParser>singletonList(new BackslashInlineParser()));
+            inlineParsers.put('`', Collections.<InlineContentParser>singletonList(new BackticksInlineParser()));
+            inlineParsers.put('&', Collections.<InlineContentParser>singletonList(new EntityInlineParser()));
+            inlineParsers.put('<', Arrays.asList(new AutolinkInlineParser(), new HtmlInlineParser()));
+            this.inlineParsers = new CharMap<>(inlineParsers);
+
+            this.specialCharacters = calculateSpecialCharacters(delimiterProcessors.keySet(), inlineParsers.keySet());
+        }
+    }
+
+    private static class Factory implements InlineParserFactory {
+
+        private volatile Tables tables;
+
+        @Override
+        public InlineParser create(InlineParserContext inlineParserContext) {
+            Tables tables = this.tables;
+            List<DelimiterProcessor> customDelimiterProcessors = inlineParserContext.getCustomDelimiterProcessors();
+            if (tables == null || tables.customDelimiterProcessors != customDelimiterProcessors) {
+                tables = new Tables(customDelimiterProcessors);
+                this.tables = tables;
+            }
+            return new InlineParserImpl(inlineParserContext, tables);
+        }
+    }
+
     private static class DelimiterData {
 
-        final List<Text> characters;
+        final Text node;
+        final int length;
         final boolean canClose;
         final boolean canOpen;
 
-        DelimiterData(List<Text> characters, boolean canOpen, boolean canClose) {
-            this.characters = characters;
+        DelimiterData(Text node, int length, boolean canOpen, boolean canClose) {
+            this.node = node;
+            this.length = length;
             this.canOpen = canOpen;
             this.canClose = canClose;
         }
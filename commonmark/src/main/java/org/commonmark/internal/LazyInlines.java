@@ -0,0 +1,53 @@
+package org.commonmark.internal;
+
+import org.commonmark.node.Block;
+import org.commonmark.parser.InlineParser;
+import org.commonmark.parser.InlineParserContext;
+import org.commonmark.parser.InlineParserFactory;
+import org.commonmark.parser.block.BlockParser;
+
+/**
+ * Parses the inline content of the blocks of a document on demand, see
+ * {@link org.commonmark.parser.Parser.Builder#lazyInlines(boolean)}. The blocks of a document share one inline parser,
+ * which is created when it's first needed.
+ */
+class LazyInlines {
+
+    private final InlineParserFactory inlineParserFactory;
+    private final InlineParserContext context;
+    private InlineParser inlineParser;
+
+    /**
+     * @param context the context, which must not change anymore (e.g. no more link reference definitions are added)
+     */
+    LazyInlines(InlineParserFactory inlineParserFactory, InlineParserContext context) {
+        this.inlineParserFactory = inlineParserFactory;
+        this.context = context;
+    }
+
+    void defer(BlockParser blockParser) {
+        blockParser.getBlock().setLazyChildren(new BlockInlines(blockParser));
+    }
+
+    private synchronized void parseInlines(BlockParser blockParser) {
+        // Blocks can be accessed from multiple threads, but the inline parser can only parse one block at a time
+        if (inlineParser == null) {
+            inlineParser = inlineParserFactory.create(context);
+        }
+        blockParser.parseInlines(inlineParser);
+    }
+
+    private class BlockInlines implements Block.LazyChildren {
+
+        private final BlockParser blockParser;
+
+        BlockInlines(BlockParser blockParser) {
+            this.blockParser = blockParser;
+        }
+
+        @Override
+        public void appendTo(Block block) {
+            parseInlines(blockParser);
+        }
+    }
+}
@@ -24,4 +24,17 @@ public class LinkReferenceDefinitions {
         String normalizedLabel = Escaping.normalizeLabelContent(label);
         return definitions.get(normalizedLabel);
     }
+
+    /**
+     * @return a copy that doesn't change when definitions are added to this one
+     */
+    public LinkReferenceDefinitions copy() {
+        LinkReferenceDefinitions copy = new LinkReferenceDefinitions();
+        copy.definitions.putAll(definitions);
+        return copy;
+    }
+
+    public void clear() {
+        definitions.clear();
+    }
 }
@@ -4,6 +4,10 @@ import org.commonmark.internal.util.Parsing;
 import org.commonmark.node.*;
 import org.commonmark.parser.block.*;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 public class ListBlockParser extends AbstractBlockParser {
 
     private final ListBlock block;
@@ -199,7 +203,16 @@ public class ListBlockParser extends AbstractBlockParser {
         return (a == null) ? (b == null) : a.equals(b);
     }
 
-    public static class Factory extends AbstractBlockParserFactory {
+    public static class Factory extends AbstractBlockParserFactory implements TriggerCharacters {
+
+        @Override
+        public Set<Character> getTriggerCharacters() {
+            Set<Character> characters = new HashSet<>(Arrays.asList('-', '*', '+'));
+            for (char c = '0'; c <= '9'; c++) {
+                characters.add(c);
+            }
+            return characters;
+        }
 
         @Override
         public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
@@ -9,11 +9,12 @@ import org.commonmark.parser.SourceLine;
 import org.commonmark.parser.SourceLines;
 import org.commonmark.parser.block.AbstractBlockParser;
 import org.commonmark.parser.block.BlockContinue;
+import org.commonmark.parser.block.BlockParserWithInlines;
 import org.commonmark.parser.block.ParserState;
 
 import java.util.List;
 
-public class ParagraphParser extends AbstractBlockParser {
+public class ParagraphParser extends AbstractBlockParser implements BlockParserWithInlines {
 
     private final Paragraph block = new Paragraph();
     private final LinkReferenceDefinitionParser linkReferenceDefinitionParser = new LinkReferenceDefinitionParser();
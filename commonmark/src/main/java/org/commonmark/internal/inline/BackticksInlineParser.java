@@ -1,5 +1,6 @@
 package org.commonmark.internal.inline;
 
+import org.commonmark.internal.util.CharSlice;
 import org.commonmark.internal.util.Parsing;
 import org.commonmark.node.Code;
 import org.commonmark.node.Text;
@@ -23,8 +24,10 @@ public class BackticksInlineParser implements InlineContentParser {
             if (count == openingTicks) {
                 Code node = new Code();
 
-                String content = scanner.getSource(afterOpening, beforeClosing).getContent();
-                content = content.replace('\n', ' ');
+                CharSequence content = CharSlice.contentOf(scanner.getSource(afterOpening, beforeClosing));
+                if (Parsing.find('\n', content, 0) != -1) {
+                    content = content.toString().replace('\n', ' ');
+                }
 
                 // spec: If the resulting string both begins and ends with a space character, but does not consist
                 // entirely of space characters, a single space character is removed from the front and back.
@@ -32,17 +35,18 @@ public class BackticksInlineParser implements InlineContentParser {
                         content.charAt(0) == ' ' &&
                         content.charAt(content.length() - 1) == ' ' &&
                         Parsing.hasNonSpace(content)) {
-                    content = content.substring(1, content.length() - 1);
+                    content = content.subSequence(1, content.length() - 1);
                 }
 
-                node.setLiteral(content);
+                node.setLiteralSequence(content);
                 return ParsedInline.of(node, scanner.position());
             }
         }
 
         // If we got here, we didn't find a matching closing backtick sequence.
         SourceLines source = scanner.getSource(start, afterOpening);
-        Text text = new Text(source.getContent());
+        Text text = new Text();
+        text.setLiteralSequence(CharSlice.contentOf(source));
         return ParsedInline.of(text, afterOpening);
     }
 }
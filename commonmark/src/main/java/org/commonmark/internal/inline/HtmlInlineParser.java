@@ -1,6 +1,7 @@
 package org.commonmark.internal.inline;
 
 import org.commonmark.internal.util.AsciiMatcher;
+import org.commonmark.internal.util.CharSlice;
 import org.commonmark.node.HtmlInline;
 
 /**
@@ -67,9 +68,9 @@ public class HtmlInlineParser implements InlineContentParser {
     }
 
     private static ParsedInline htmlInline(Position start, Scanner scanner) {
-        String text = scanner.getSource(start, scanner.position()).getContent();
+        CharSequence text = CharSlice.contentOf(scanner.getSource(start, scanner.position()));
         HtmlInline node = new HtmlInline();
-        node.setLiteral(text);
+        node.setLiteralSequence(text);
         return ParsedInline.of(node, scanner.position());
     }
 
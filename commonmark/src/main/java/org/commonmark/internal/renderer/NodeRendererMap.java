@@ -3,24 +3,122 @@ package org.commonmark.internal.renderer;
 import org.commonmark.node.Node;
 import org.commonmark.renderer.NodeRenderer;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * The node renderers by node type. A node type without a renderer of its own uses the renderer of its closest
+ * superclass that has one (e.g. for subclasses of custom nodes).
+ * <p>
+ * The renderers are kept in an open addressing table keyed by class identity. The renderer for a class without its
+ * own one is resolved the first time such a node is rendered and then kept in the table too, so rendering a node is
+ * an array lookup in the common case.
+ */
 public class NodeRendererMap {
 
-    private final Map<Class<? extends Node>, NodeRenderer> renderers = new HashMap<>(32);
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Class<?>[] keys = new Class<?>[INITIAL_CAPACITY];
+    // A null value means that there's no renderer for the class
+    private NodeRenderer[] values = new NodeRenderer[INITIAL_CAPACITY];
+    // Whether the entry was resolved via the superclasses instead of added
+    private boolean[] inherited = new boolean[INITIAL_CAPACITY];
+    private int size = 0;
+    private boolean anyInherited = false;
 
     public void add(NodeRenderer nodeRenderer) {
+        if (anyInherited) {
+            // The resolutions might change, resolve them again when needed
+            rehash(keys.length, false);
+            anyInherited = false;
+        }
         for (Class<? extends Node> nodeType : nodeRenderer.getNodeTypes()) {
             // Overwrite existing renderer
-            renderers.put(nodeType, nodeRenderer);
+            put(nodeType, nodeRenderer, false);
         }
     }
 
     public void render(Node node) {
-        NodeRenderer nodeRenderer = renderers.get(node.getClass());
+        Class<?> nodeClass = node.getClass();
+        int mask = keys.length - 1;
+        int i = index(nodeClass, mask);
+        Class<?> key;
+        while ((key = keys[i]) != null) {
+            if (key == nodeClass) {
+                NodeRenderer nodeRenderer = values[i];
+                if (nodeRenderer != null) {
+                    nodeRenderer.render(node);
+                }
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        NodeRenderer nodeRenderer = resolve(nodeClass.getSuperclass());
+        put(nodeClass, nodeRenderer, true);
+        anyInherited = true;
         if (nodeRenderer != null) {
             nodeRenderer.render(node);
         }
     }
+
+    private NodeRenderer resolve(Class<?> nodeClass) {
+        // Entries for superclasses are either added or already resolved, either way they're the closest renderer
+        for (Class<?> c = nodeClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            int i = find(c);
+            if (i != -1 && values[i] != null) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    private int find(Class<?> nodeClass) {
+        int mask = keys.length - 1;
+        int i = index(nodeClass, mask);
+        Class<?> key;
+        while ((key = keys[i]) != null) {
+            if (key == nodeClass) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void put(Class<?> nodeClass, NodeRenderer nodeRenderer, boolean isInherited) {
+        // Keep the load factor at 0.5 at most
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2, true);
+        }
+        int mask = keys.length - 1;
+        int i = index(nodeClass, mask);
+        Class<?> key;
+        while ((key = keys[i]) != null && key != nodeClass) {
+            i = (i + 1) & mask;
+        }
+        if (key == null) {
+            keys[i] = nodeClass;
+            size++;
+        }
+        values[i] = nodeRenderer;
+        inherited[i] = isInherited;
+    }
+
+    private void rehash(int capacity, boolean keepInherited) {
+        Class<?>[] oldKeys = keys;
+        NodeRenderer[] oldValues = values;
+        boolean[] oldInherited = inherited;
+        keys = new Class<?>[capacity];
+        values = new NodeRenderer[capacity];
+        inherited = new boolean[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null && (keepInherited || !oldInherited[i])) {
+                put(oldKeys[i], oldValues[i], oldInherited[i]);
+            }
+        }
+    }
+
+    private static int index(Class<?> nodeClass, int mask) {
+        int h = System.identityHashCode(nodeClass);
+        return (h ^ (h >>> 16)) & mask;
+    }
 }
@@ -0,0 +1,149 @@
+package org.commonmark.internal.renderer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * An {@link Appendable} that encodes the appended chars as UTF-8 into a fixed byte buffer, which is written to an
+ * {@link OutputStream} or a {@link WritableByteChannel} whenever it's full. So no encoded copy of the whole output is
+ * needed. Call {@link #finish()} at the end to write the rest.
+ * <p>
+ * Chars in the ASCII range (most of the HTML markup) are copied as single bytes without going through an encoder.
+ * Unpaired surrogates are encoded as {@code ?}, same as {@link String#getBytes}.
+ * <p>
+ * The exception thrown by the output is remembered, so that it can be rethrown when it was wrapped on the way up.
+ */
+public class Utf8Output implements Appendable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream outputStream;
+    private final WritableByteChannel channel;
+    private final byte[] bytes = new byte[BUFFER_SIZE];
+    private final ByteBuffer byteBuffer;
+
+    private int position = 0;
+    private char highSurrogate = 0;
+    private IOException exception;
+
+    public Utf8Output(OutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.channel = null;
+        this.byteBuffer = null;
+    }
+
+    public Utf8Output(WritableByteChannel channel) {
+        this.outputStream = null;
+        this.channel = channel;
+        this.byteBuffer = ByteBuffer.wrap(bytes);
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            char c = csq.charAt(i);
+            if (c < 0x80 && highSurrogate == 0) {
+                if (position == BUFFER_SIZE) {
+                    writeBytes();
+                }
+                bytes[position++] = (byte) c;
+            } else {
+                append(c);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (position > BUFFER_SIZE - 4) {
+            writeBytes();
+        }
+        appendChar(c);
+        return this;
+    }
+
+    /**
+     * Write the remaining buffered bytes to the output (the output itself is not flushed or closed).
+     */
+    public void finish() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            append('?');
+        }
+        writeBytes();
+    }
+
+    /**
+     * @return the exception that the output threw, or null
+     */
+    public IOException getException() {
+        return exception;
+    }
+
+    /**
+     * Encode the char, the buffer must have room for at least 4 bytes.
+     */
+    private void appendChar(char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            // Unpaired, at most 3 more bytes follow
+            bytes[position++] = '?';
+        }
+
+        if (c < 0x80) {
+            bytes[position++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[position++] = (byte) (0xC0 | (c >> 6));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            // Wait for the low surrogate, which might be in the next append call
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            bytes[position++] = '?';
+        } else {
+            bytes[position++] = (byte) (0xE0 | (c >> 12));
+            bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void writeBytes() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        try {
+            if (outputStream != null) {
+                outputStream.write(bytes, 0, position);
+            } else {
+                // Cast to Buffer so that this works with Java 8 at runtime (covariant overrides were added in 9)
+                ((Buffer) byteBuffer).clear();
+                ((Buffer) byteBuffer).limit(position);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+        } catch (IOException e) {
+            exception = e;
+            throw e;
+        }
+        position = 0;
+    }
+}
@@ -0,0 +1,236 @@
+package org.commonmark.internal.serialization;
+
+import org.commonmark.node.*;
+import org.commonmark.serialization.NodeInput;
+import org.commonmark.serialization.NodeOutput;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writing and reading the fields of the core node types. The types are identified by their index in {@link #TYPES},
+ * so only append to it.
+ */
+public class CoreNodeCodecs {
+
+    private static final int DOCUMENT = 0;
+    private static final int BLOCK_QUOTE = 1;
+    private static final int BULLET_LIST = 2;
+    private static final int ORDERED_LIST = 3;
+    private static final int LIST_ITEM = 4;
+    private static final int FENCED_CODE_BLOCK = 5;
+    private static final int INDENTED_CODE_BLOCK = 6;
+    private static final int HTML_BLOCK = 7;
+    private static final int HEADING = 8;
+    private static final int PARAGRAPH = 9;
+    private static final int THEMATIC_BREAK = 10;
+    private static final int LINK_REFERENCE_DEFINITION = 11;
+    private static final int TEXT = 12;
+    private static final int CODE = 13;
+    private static final int EMPHASIS = 14;
+    private static final int STRONG_EMPHASIS = 15;
+    private static final int LINK = 16;
+    private static final int IMAGE = 17;
+    private static final int HTML_INLINE = 18;
+    private static final int SOFT_LINE_BREAK = 19;
+    private static final int HARD_LINE_BREAK = 20;
+
+    @SuppressWarnings("unchecked")
+    private static final List<Class<? extends Node>> TYPES = Arrays.asList(
+            Document.class,
+            BlockQuote.class,
+            BulletList.class,
+            OrderedList.class,
+            ListItem.class,
+            FencedCodeBlock.class,
+            IndentedCodeBlock.class,
+            HtmlBlock.class,
+            Heading.class,
+            Paragraph.class,
+            ThematicBreak.class,
+            LinkReferenceDefinition.class,
+            Text.class,
+            Code.class,
+            Emphasis.class,
+            StrongEmphasis.class,
+            Link.class,
+            Image.class,
+            HtmlInline.class,
+            SoftLineBreak.class,
+            HardLineBreak.class);
+
+    public static final int COUNT = TYPES.size();
+
+    private static final Map<Class<? extends Node>, Integer> IDS = createIds();
+
+    /**
+     * @return the ID of the node type, or -1 if it's not a core type (subclasses of core types are not)
+     */
+    public static int getId(Class<? extends Node> nodeType) {
+        Integer id = IDS.get(nodeType);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * @return the core node type with the ID
+     */
+    public static Class<? extends Node> getType(int id) {
+        return TYPES.get(id);
+    }
+
+    public static void write(int id, Node node, NodeOutput output) {
+        switch (id) {
+            case BULLET_LIST:
+                BulletList bulletList = (BulletList) node;
+                output.writeBoolean(bulletList.isTight());
+                output.writeChar(bulletList.getBulletMarker());
+                break;
+            case ORDERED_LIST:
+                OrderedList orderedList = (OrderedList) node;
+                output.writeBoolean(orderedList.isTight());
+                output.writeInt(orderedList.getStartNumber());
+                output.writeChar(orderedList.getDelimiter());
+                break;
+            case FENCED_CODE_BLOCK:
+                FencedCodeBlock fencedCodeBlock = (FencedCodeBlock) node;
+                output.writeChar(fencedCodeBlock.getFenceChar());
+                output.writeInt(fencedCodeBlock.getFenceLength());
+                output.writeInt(fencedCodeBlock.getFenceIndent());
+                output.writeString(fencedCodeBlock.getInfo());
+                output.writeString(toString(fencedCodeBlock.getLiteralSequence()));
+                break;
+            case INDENTED_CODE_BLOCK:
+                output.writeString(toString(((IndentedCodeBlock) node).getLiteralSequence()));
+                break;
+            case HTML_BLOCK:
+                output.writeString(toString(((HtmlBlock) node).getLiteralSequence()));
+                break;
+            case HEADING:
+                output.writeInt(((Heading) node).getLevel());
+                break;
+            case LINK_REFERENCE_DEFINITION:
+                LinkReferenceDefinition definition = (LinkReferenceDefinition) node;
+                output.writeString(definition.getLabel());
+                output.writeString(definition.getDestination());
+                output.writeString(definition.getTitle());
+                break;
+            case TEXT:
+                output.writeString(toString(((Text) node).getLiteralSequence()));
+                break;
+            case CODE:
+                output.writeString(toString(((Code) node).getLiteralSequence()));
+                break;
+            case EMPHASIS:
+                output.writeString(((Emphasis) node).getOpeningDelimiter());
+                break;
+            case STRONG_EMPHASIS:
+                output.writeString(((StrongEmphasis) node).getOpeningDelimiter());
+                break;
+            case LINK:
+                Link link = (Link) node;
+                output.writeString(link.getDestination());
+                output.writeString(link.getTitle());
+                break;
+            case IMAGE:
+                Image image = (Image) node;
+                output.writeString(image.getDestination());
+                output.writeString(image.getTitle());
+                break;
+            case HTML_INLINE:
+                output.writeString(toString(((HtmlInline) node).getLiteralSequence()));
+                break;
+            default:
+                // No fields
+                break;
+        }
+    }
+
+    public static Node read(int id, NodeInput input) {
+        switch (id) {
+            case DOCUMENT:
+                return new Document();
+            case BLOCK_QUOTE:
+                return new BlockQuote();
+            case BULLET_LIST:
+                BulletList bulletList = new BulletList();
+                bulletList.setTight(input.readBoolean());
+                bulletList.setBulletMarker(input.readChar());
+                return bulletList;
+            case ORDERED_LIST:
+                OrderedList orderedList = new OrderedList();
+                orderedList.setTight(input.readBoolean());
+                orderedList.setStartNumber(input.readInt());
+                orderedList.setDelimiter(input.readChar());
+                return orderedList;
+            case LIST_ITEM:
+                return new ListItem();
+            case FENCED_CODE_BLOCK:
+                FencedCodeBlock fencedCodeBlock = new FencedCodeBlock();
+                fencedCodeBlock.setFenceChar(input.readChar());
+                fencedCodeBlock.setFenceLength(input.readInt());
+                fencedCodeBlock.setFenceIndent(input.readInt());
+                fencedCodeBlock.setInfo(input.readString());
+                fencedCodeBlock.setLiteral(input.readString());
+                return fencedCodeBlock;
+            case INDENTED_CODE_BLOCK:
+                IndentedCodeBlock indentedCodeBlock = new IndentedCodeBlock();
+                indentedCodeBlock.setLiteral(input.readString());
+                return indentedCodeBlock;
+            case HTML_BLOCK:
+                HtmlBlock htmlBlock = new HtmlBlock();
+                htmlBlock.setLiteral(input.readString());
+                return htmlBlock;
+            case HEADING:
+                Heading heading = new Heading();
+                heading.setLevel(input.readInt());
+                return heading;
+            case PARAGRAPH:
+                return new Paragraph();
+            case THEMATIC_BREAK:
+                return new ThematicBreak();
+            case LINK_REFERENCE_DEFINITION:
+                String label = input.readString();
+                String destination = input.readString();
+                return new LinkReferenceDefinition(label, destination, input.readString());
+            case TEXT:
+                return new Text(input.readString());
+            case CODE:
+                return new Code(input.readString());
+            case EMPHASIS:
+                return new Emphasis(input.readString());
+            case STRONG_EMPHASIS:
+                return new StrongEmphasis(input.readString());
+            case LINK:
+                String linkDestination = input.readString();
+                return new Link(linkDestination, input.readString());
+            case IMAGE:
+                String imageDestination = input.readString();
+                return new Image(imageDestination, input.readString());
+            case HTML_INLINE:
+                HtmlInline htmlInline = new HtmlInline();
+                htmlInline.setLiteral(input.readString());
+                return htmlInline;
+            case SOFT_LINE_BREAK:
+                return new SoftLineBreak();
+            case HARD_LINE_BREAK:
+                return new HardLineBreak();
+            default:
+                throw new IllegalArgumentException("Unknown core node type " + id);
+        }
+    }
+
+    private static String toString(CharSequence literal) {
+        // Without converting the literal of the node itself if it's a slice (see Parser.Builder#sliceLiterals)
+        return literal != null ? literal.toString() : null;
+    }
+
+    private static Map<Class<? extends Node>, Integer> createIds() {
+        Map<Class<? extends Node>, Integer> ids = new HashMap<>();
+        for (int i = 0; i < TYPES.size(); i++) {
+            ids.put(TYPES.get(i), i);
+        }
+        return ids;
+    }
+}
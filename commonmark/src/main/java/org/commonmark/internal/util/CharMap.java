@@ -0,0 +1,58 @@
+package org.commonmark.internal.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Map with char keys. ASCII characters are looked up in an array (no boxing or hashing), other characters fall back
+ * to a {@link HashMap}.
+ */
+public class CharMap<V> {
+
+    private static final int ASCII_SIZE = 128;
+
+    private final Object[] ascii = new Object[ASCII_SIZE];
+    private Map<Character, V> other;
+    private boolean empty = true;
+
+    public CharMap() {
+    }
+
+    public CharMap(Map<Character, ? extends V> map) {
+        for (Map.Entry<Character, ? extends V> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(char c) {
+        if (c < ASCII_SIZE) {
+            return (V) ascii[c];
+        }
+        return other != null ? other.get(c) : null;
+    }
+
+    public void put(char c, V value) {
+        empty = false;
+        if (c < ASCII_SIZE) {
+            ascii[c] = value;
+        } else {
+            if (other == null) {
+                other = new HashMap<>();
+            }
+            other.put(c, value);
+        }
+    }
+
+    public void clear() {
+        if (empty) {
+            return;
+        }
+        Arrays.fill(ascii, null);
+        if (other != null) {
+            other.clear();
+        }
+        empty = true;
+    }
+}
@@ -0,0 +1,128 @@
+package org.commonmark.internal.util;
+
+import org.commonmark.parser.SourceLine;
+import org.commonmark.parser.SourceLines;
+
+import java.util.List;
+
+/**
+ * A range of a string that is not copied, see {@link org.commonmark.parser.Parser.Builder#sliceLiterals(boolean)}.
+ * Sub-sequences are slices of the same string, so literals taken from slices of the input lines don't copy the
+ * input either.
+ */
+public final class CharSlice implements CharSequence {
+
+    private final String string;
+    private final int start;
+    private final int end;
+
+    private CharSlice(String string, int start, int end) {
+        this.string = string;
+        this.start = start;
+        this.end = end;
+    }
+
+    public static CharSlice of(String string) {
+        return new CharSlice(string, 0, string.length());
+    }
+
+    public static CharSlice of(String string, int start, int end) {
+        if (start < 0 || end > string.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + string.length());
+        }
+        return new CharSlice(string, start, end);
+    }
+
+    /**
+     * Get the content of the lines joined with {@code \n} (same as {@link SourceLines#getContent()}), but as a slice
+     * if the lines are slices that are next to each other in the same string with a {@code \n} in between. That's
+     * always the case for a single line.
+     */
+    public static CharSequence contentOf(SourceLines sourceLines) {
+        List<SourceLine> lines = sourceLines.getLines();
+        if (lines.size() == 1) {
+            CharSequence content = lines.get(0).getContent();
+            if (content instanceof CharSlice) {
+                return content;
+            }
+        } else if (!lines.isEmpty()) {
+            CharSequence joined = lines.get(0).getContent();
+            for (int i = 1; i < lines.size() && joined != null; i++) {
+                joined = join(joined, '\n', lines.get(i).getContent());
+            }
+            if (joined instanceof CharSlice) {
+                return joined;
+            }
+        }
+        return sourceLines.getContent();
+    }
+
+    /**
+     * @return {@code a} and {@code b} as one slice if {@code b} directly follows {@code a} in the same string, null
+     * otherwise
+     */
+    public static CharSlice join(CharSequence a, CharSequence b) {
+        if (a instanceof CharSlice && b instanceof CharSlice) {
+            CharSlice first = (CharSlice) a;
+            CharSlice second = (CharSlice) b;
+            if (first.string == second.string && first.end == second.start) {
+                return new CharSlice(first.string, first.start, second.end);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code a}, the separator and {@code b} as one slice if that's how they are in the same string, null
+     * otherwise
+     */
+    public static CharSlice join(CharSequence a, char separator, CharSequence b) {
+        if (a instanceof CharSlice && b instanceof CharSlice) {
+            CharSlice first = (CharSlice) a;
+            CharSlice second = (CharSlice) b;
+            if (first.string == second.string && first.end + 1 == second.start && first.string.charAt(first.end) == separator) {
+                return new CharSlice(first.string, first.start, second.end);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the slice extended by one char if that char is {@code c}, null otherwise
+     */
+    public CharSlice extend(char c) {
+        if (end < string.length() && string.charAt(end) == c) {
+            return new CharSlice(string, start, end + 1);
+        }
+        return null;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new StringIndexOutOfBoundsException("index " + index + ", length " + (end - start));
+        }
+        return string.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.end - this.start || start > end) {
+            throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        }
+        if (start == 0 && end == this.end - this.start) {
+            return this;
+        }
+        return new CharSlice(string, this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+        return string.substring(start, end);
+    }
+}
@@ -11,10 +11,14 @@ public class Escaping {
 
     public static final String ENTITY = "&(?:#x[a-f0-9]{1,6}|#[0-9]{1,7}|[a-z][a-z0-9]{1,31});";
 
-    private static final Pattern BACKSLASH_OR_AMP = Pattern.compile("[\\\\&]");
+    private static final AsciiMatcher ESCAPABLE_CHAR = AsciiMatcher.builder()
+            .range('!', '/').range(':', '@').range('[', '`').range('{', '~')
+            .build();
 
-    private static final Pattern ENTITY_OR_ESCAPED_CHAR =
-            Pattern.compile("\\\\" + ESCAPABLE + '|' + ENTITY, Pattern.CASE_INSENSITIVE);
+    private static final AsciiMatcher ASCII_LETTER = AsciiMatcher.builder().range('A', 'Z').range('a', 'z').build();
+    private static final AsciiMatcher ASCII_ALPHANUMERIC = ASCII_LETTER.newBuilder().range('0', '9').build();
+    private static final AsciiMatcher DIGIT = AsciiMatcher.builder().range('0', '9').build();
+    private static final AsciiMatcher HEX_DIGIT = DIGIT.newBuilder().range('a', 'f').range('A', 'F').build();
 
     // From RFC 3986 (see "reserved", "unreserved") except don't escape '[' or ']' to be compatible with JS encodeURI
     private static final Pattern ESCAPE_IN_URI =
@@ -25,17 +29,6 @@ public class Escaping {
 
     private static final Pattern WHITESPACE = Pattern.compile("[ \t\r\n]+");
 
-    private static final Replacer UNESCAPE_REPLACER = new Replacer() {
-        @Override
-        public void replace(String input, StringBuilder sb) {
-            if (input.charAt(0) == '\\') {
-                sb.append(input, 1, input.length());
-            } else {
-                sb.append(Html5Entities.entityToString(input));
-            }
-        }
-    };
-
     private static final Replacer URI_REPLACER = new Replacer() {
         @Override
         public void replace(String input, StringBuilder sb) {
@@ -100,11 +93,45 @@ public class Escaping {
      * Replace entities and backslash escapes with literal characters.
      */
     public static String unescapeString(String s) {
-        if (BACKSLASH_OR_AMP.matcher(s).find()) {
-            return replaceAll(ENTITY_OR_ESCAPED_CHAR, s, UNESCAPE_REPLACER);
-        } else {
+        int start = 0;
+        while (start < s.length() && s.charAt(start) != '\\' && s.charAt(start) != '&') {
+            start++;
+        }
+        if (start == s.length()) {
             return s;
         }
+
+        StringBuilder sb = new StringBuilder(s.length());
+        sb.append(s, 0, start);
+        appendUnescaped(s, start, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Append the characters of {@code s} from index {@code start}, with entities and backslash escapes replaced.
+     */
+    private static void appendUnescaped(String s, int start, StringBuilder sb) {
+        int length = s.length();
+        int i = start;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < length && ESCAPABLE_CHAR.matches(s.charAt(i + 1))) {
+                sb.append(s.charAt(i + 1));
+                i += 2;
+            } else if (c == '&') {
+                int end = findEntityEnd(s, i);
+                if (end != -1) {
+                    Html5Entities.appendEntity(s, i, end, sb);
+                    i = end;
+                } else {
+                    sb.append(c);
+                    i++;
+                }
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
     }
 
     public static String percentEncodeUrl(String s) {
@@ -145,6 +172,39 @@ public class Escaping {
         return sb.toString();
     }
 
+    /**
+     * @return the index after the entity (see {@link #ENTITY}) that starts with the {@code &} at {@code start}, or -1
+     * if there's none
+     */
+    private static int findEntityEnd(String s, int start) {
+        int i = start + 1;
+        if (i < s.length() && s.charAt(i) == '#') {
+            i++;
+            if (i < s.length() && (s.charAt(i) == 'x' || s.charAt(i) == 'X')) {
+                i = skip(HEX_DIGIT, s, i + 1, 1, 6);
+            } else {
+                i = skip(DIGIT, s, i, 1, 7);
+            }
+        } else if (i < s.length() && ASCII_LETTER.matches(s.charAt(i))) {
+            i = skip(ASCII_ALPHANUMERIC, s, i + 1, 1, 31);
+        } else {
+            return -1;
+        }
+        return i != -1 && i < s.length() && s.charAt(i) == ';' ? i + 1 : -1;
+    }
+
+    /**
+     * @return the index after the matching characters (at most {@code max}), or -1 if there are fewer than
+     * {@code min}
+     */
+    private static int skip(AsciiMatcher matcher, String s, int start, int min, int max) {
+        int i = start;
+        while (i < s.length() && i - start < max && matcher.matches(s.charAt(i))) {
+            i++;
+        }
+        return i - start >= min ? i : -1;
+    }
+
     private interface Replacer {
         void replace(String input, StringBuilder sb);
     }
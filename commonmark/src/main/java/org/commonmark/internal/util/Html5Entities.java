@@ -1,71 +1,115 @@
 package org.commonmark.internal.util;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Decoding of HTML entities and numeric character references. The named ones are looked up with a binary search in
+ * the precompiled {@link Html5EntitiesData}, so there's nothing to load at startup and no substrings for lookups.
+ */
 public class Html5Entities {
 
-    private static final Map<String, String> NAMED_CHARACTER_REFERENCES = readEntities();
-    private static final String ENTITY_PATH = "/org/commonmark/internal/util/entities.properties";
-
     public static String entityToString(String input) {
         if (!input.startsWith("&") || !input.endsWith(";")) {
             return input;
         }
 
-        String value = input.substring(1, input.length() - 1);
-        if (value.startsWith("#")) {
-            value = value.substring(1);
-            int base = 10;
-            if (value.startsWith("x") || value.startsWith("X")) {
-                value = value.substring(1);
-                base = 16;
+        if (input.length() > 2 && input.charAt(1) == '#') {
+            return new String(Character.toChars(parseCodePoint(input, 0, input.length())));
+        } else {
+            int index = findNamed(input, 1, input.length() - 1);
+            return index != -1 ? getValue(index) : input;
+        }
+    }
+
+    /**
+     * Append the value of the entity or numeric character reference in the range {@code [start, end)} of {@code s}
+     * (including {@code &} and {@code ;}), or the entity itself if it's unknown.
+     */
+    public static void appendEntity(CharSequence s, int start, int end, StringBuilder sb) {
+        if (end - start > 2 && s.charAt(start + 1) == '#') {
+            sb.appendCodePoint(parseCodePoint(s, start, end));
+        } else {
+            int index = findNamed(s, start + 1, end - 1);
+            if (index != -1) {
+                sb.append(Html5EntitiesData.VALUES, valueStart(index), valueStart(index + 1));
+            } else {
+                sb.append(s, start, end);
             }
+        }
+    }
 
-            try {
-                int codePoint = Integer.parseInt(value, base);
-                if (codePoint == 0) {
-                    return "\uFFFD";
-                }
-                return new String(Character.toChars(codePoint));
-            } catch (IllegalArgumentException e) {
-                return "\uFFFD";
+    /**
+     * @return the code point of the numeric character reference in the range (including {@code &#} and {@code ;}),
+     * or {@code U+FFFD} if it's not valid
+     */
+    private static int parseCodePoint(CharSequence s, int start, int end) {
+        int i = start + 2;
+        int radix = 10;
+        if (i < end && (s.charAt(i) == 'x' || s.charAt(i) == 'X')) {
+            i++;
+            radix = 16;
+        }
+        int digitsEnd = end - 1;
+        // More digits than for the maximum code point can only result in an invalid one (or overflow)
+        if (i == digitsEnd || digitsEnd - i > 8) {
+            return 0xFFFD;
+        }
+        int codePoint = 0;
+        for (; i < digitsEnd; i++) {
+            int digit = Character.digit(s.charAt(i), radix);
+            if (digit == -1) {
+                return 0xFFFD;
             }
-        } else {
-            String s = NAMED_CHARACTER_REFERENCES.get(value);
-            if (s != null) {
-                return s;
+            codePoint = codePoint * radix + digit;
+        }
+        if (codePoint == 0 || !Character.isValidCodePoint(codePoint)) {
+            return 0xFFFD;
+        }
+        return codePoint;
+    }
+
+    /**
+     * @return the index of the named entity with the name in the range {@code [start, end)} of {@code s}, or -1
+     */
+    private static int findNamed(CharSequence s, int start, int end) {
+        int low = 0;
+        int high = Html5EntitiesData.COUNT - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareName(mid, s, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
             } else {
-                return input;
+                return mid;
             }
         }
+        return -1;
     }
 
-    private static Map<String, String> readEntities() {
-        Map<String, String> entities = new HashMap<>();
-        InputStream stream = Html5Entities.class.getResourceAsStream(ENTITY_PATH);
-        Charset charset = StandardCharsets.UTF_8;
-        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(stream, charset))) {
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                if (line.length() == 0) {
-                    continue;
-                }
-                int equal = line.indexOf("=");
-                String key = line.substring(0, equal);
-                String value = line.substring(equal + 1);
-                entities.put(key, value);
+    /**
+     * Compare the name at the index with the range, in the same order as {@link String#compareTo}.
+     */
+    private static int compareName(int index, CharSequence s, int start, int end) {
+        String names = Html5EntitiesData.NAMES;
+        int nameStart = Html5EntitiesData.NAME_OFFSETS.charAt(index);
+        int nameLength = Html5EntitiesData.NAME_OFFSETS.charAt(index + 1) - nameStart;
+        int length = end - start;
+        int min = Math.min(nameLength, length);
+        for (int i = 0; i < min; i++) {
+            char c1 = names.charAt(nameStart + i);
+            char c2 = s.charAt(start + i);
+            if (c1 != c2) {
+                return c1 - c2;
             }
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed reading data for HTML named character references", e);
         }
-        entities.put("NewLine", "\n");
-        return entities;
+        return nameLength - length;
+    }
+
+    private static String getValue(int index) {
+        return Html5EntitiesData.VALUES.substring(valueStart(index), valueStart(index + 1));
+    }
+
+    private static int valueStart(int index) {
+        return Html5EntitiesData.VALUE_OFFSETS.charAt(index);
     }
 }
@@ -0,0 +1,544 @@
+package org.commonmark.internal.util;
+
+/**
+ * HTML5 named character references, generated from entities.properties by Html5EntitiesGenerator (in the
+ * tests). Don't edit manually.
+ * <p>
+ * The names are sorted and concatenated, and the offsets of name {@code i} are at index {@code i} and
+ * {@code i + 1} of the offsets (encoded as chars). Same for the values.
+ */
+class Html5EntitiesData {
+
+    static final int COUNT = 2125;
+
+    static final String NAMES =
+            "AEligAMPAacuteAbreveAcircAcyAfrAgraveAlphaAmacrAndAogonAopfApplyFunctionAringAscrAssignAtildeAumlBac" +
+            "kslashBarvBarwedBcyBecauseBernoullisBetaBfrBopfBreveBscrBumpeqCHcyCOPYCacuteCapCapitalDifferentialDC" +
+            "ayleysCcaronCcedilCcircCconintCdotCedillaCenterDotCfrChiCircleDotCircleMinusCirclePlusCircleTimesClo" +
+            "ckwiseContourIntegralCloseCurlyDoubleQuoteCloseCurlyQuoteColonColoneCongruentConintContourIntegralCo" +
+            "pfCoproductCounterClockwiseContourIntegralCrossCscrCupCupCapDDDDotrahdDJcyDScyDZcyDaggerDarrDashvDca" +
+            "ronDcyDelDeltaDfrDiacriticalAcuteDiacriticalDotDiacriticalDoubleAcuteDiacriticalGraveDiacriticalTild" +
+            "eDiamondDifferentialDDopfDotDotDotDotEqualDoubleContourIntegralDoubleDotDoubleDownArrowDoubleLeftArr" +
+            "owDoubleLeftRightArrowDoubleLeftTeeDoubleLongLeftArrowDoubleLongLeftRightArrowDoubleLongRightArrowDo" +
+            "ubleRightArrowDoubleRightTeeDoubleUpArrowDoubleUpDownArrowDoubleVerticalBarDownArrowDownArrowBarDown" +
+            "ArrowUpArrowDownBreveDownLeftRightVectorDownLeftTeeVectorDownLeftVectorDownLeftVectorBarDownRightTee" +
+            "VectorDownRightVectorDownRightVectorBarDownTeeDownTeeArrowDownarrowDscrDstrokENGETHEacuteEcaronEcirc" +
+            "EcyEdotEfrEgraveElementEmacrEmptySmallSquareEmptyVerySmallSquareEogonEopfEpsilonEqualEqualTildeEquil" +
+            "ibriumEscrEsimEtaEumlExistsExponentialEFcyFfrFilledSmallSquareFilledVerySmallSquareFopfForAllFourier" +
+            "trfFscrGJcyGTGammaGammadGbreveGcedilGcircGcyGdotGfrGgGopfGreaterEqualGreaterEqualLessGreaterFullEqua" +
+            "lGreaterGreaterGreaterLessGreaterSlantEqualGreaterTildeGscrGtHARDcyHacekHatHcircHfrHilbertSpaceHopfH" +
+            "orizontalLineHscrHstrokHumpDownHumpHumpEqualIEcyIJligIOcyIacuteIcircIcyIdotIfrIgraveImImacrImaginary" +
+            "IImpliesIntIntegralIntersectionInvisibleCommaInvisibleTimesIogonIopfIotaIscrItildeIukcyIumlJcircJcyJ" +
+            "frJopfJscrJsercyJukcyKHcyKJcyKappaKcedilKcyKfrKopfKscrLJcyLTLacuteLambdaLangLaplacetrfLarrLcaronLced" +
+            "ilLcyLeftAngleBracketLeftArrowLeftArrowBarLeftArrowRightArrowLeftCeilingLeftDoubleBracketLeftDownTee" +
+            "VectorLeftDownVectorLeftDownVectorBarLeftFloorLeftRightArrowLeftRightVectorLeftTeeLeftTeeArrowLeftTe" +
+            "eVectorLeftTriangleLeftTriangleBarLeftTriangleEqualLeftUpDownVectorLeftUpTeeVectorLeftUpVectorLeftUp" +
+            "VectorBarLeftVectorLeftVectorBarLeftarrowLeftrightarrowLessEqualGreaterLessFullEqualLessGreaterLessL" +
+            "essLessSlantEqualLessTildeLfrLlLleftarrowLmidotLongLeftArrowLongLeftRightArrowLongRightArrowLongleft" +
+            "arrowLongleftrightarrowLongrightarrowLopfLowerLeftArrowLowerRightArrowLscrLshLstrokLtMapMcyMediumSpa" +
+            "ceMellintrfMfrMinusPlusMopfMscrMuNJcyNacuteNcaronNcedilNcyNegativeMediumSpaceNegativeThickSpaceNegat" +
+            "iveThinSpaceNegativeVeryThinSpaceNestedGreaterGreaterNestedLessLessNewLineNfrNoBreakNonBreakingSpace" +
+            "NopfNotNotCongruentNotCupCapNotDoubleVerticalBarNotElementNotEqualNotEqualTildeNotExistsNotGreaterNo" +
+            "tGreaterEqualNotGreaterFullEqualNotGreaterGreaterNotGreaterLessNotGreaterSlantEqualNotGreaterTildeNo" +
+            "tHumpDownHumpNotHumpEqualNotLeftTriangleNotLeftTriangleBarNotLeftTriangleEqualNotLessNotLessEqualNot" +
+            "LessGreaterNotLessLessNotLessSlantEqualNotLessTildeNotNestedGreaterGreaterNotNestedLessLessNotPreced" +
+            "esNotPrecedesEqualNotPrecedesSlantEqualNotReverseElementNotRightTriangleNotRightTriangleBarNotRightT" +
+            "riangleEqualNotSquareSubsetNotSquareSubsetEqualNotSquareSupersetNotSquareSupersetEqualNotSubsetNotSu" +
+            "bsetEqualNotSucceedsNotSucceedsEqualNotSucceedsSlantEqualNotSucceedsTildeNotSupersetNotSupersetEqual" +
+            "NotTildeNotTildeEqualNotTildeFullEqualNotTildeTildeNotVerticalBarNscrNtildeNuOEligOacuteOcircOcyOdbl" +
+            "acOfrOgraveOmacrOmegaOmicronOopfOpenCurlyDoubleQuoteOpenCurlyQuoteOrOscrOslashOtildeOtimesOumlOverBa" +
+            "rOverBraceOverBracketOverParenthesisPartialDPcyPfrPhiPiPlusMinusPoincareplanePopfPrPrecedesPrecedesE" +
+            "qualPrecedesSlantEqualPrecedesTildePrimeProductProportionProportionalPscrPsiQUOTQfrQopfQscrRBarrREGR" +
+            "acuteRangRarrRarrtlRcaronRcedilRcyReReverseElementReverseEquilibriumReverseUpEquilibriumRfrRhoRightA" +
+            "ngleBracketRightArrowRightArrowBarRightArrowLeftArrowRightCeilingRightDoubleBracketRightDownTeeVecto" +
+            "rRightDownVectorRightDownVectorBarRightFloorRightTeeRightTeeArrowRightTeeVectorRightTriangleRightTri" +
+            "angleBarRightTriangleEqualRightUpDownVectorRightUpTeeVectorRightUpVectorRightUpVectorBarRightVectorR" +
+            "ightVectorBarRightarrowRopfRoundImpliesRrightarrowRscrRshRuleDelayedSHCHcySHcySOFTcySacuteScScaronSc" +
+            "edilScircScySfrShortDownArrowShortLeftArrowShortRightArrowShortUpArrowSigmaSmallCircleSopfSqrtSquare" +
+            "SquareIntersectionSquareSubsetSquareSubsetEqualSquareSupersetSquareSupersetEqualSquareUnionSscrStarS" +
+            "ubSubsetSubsetEqualSucceedsSucceedsEqualSucceedsSlantEqualSucceedsTildeSuchThatSumSupSupersetSuperse" +
+            "tEqualSupsetTHORNTRADETSHcyTScyTabTauTcaronTcedilTcyTfrThereforeThetaThickSpaceThinSpaceTildeTildeEq" +
+            "ualTildeFullEqualTildeTildeTopfTripleDotTscrTstrokUacuteUarrUarrocirUbrcyUbreveUcircUcyUdblacUfrUgra" +
+            "veUmacrUnderBarUnderBraceUnderBracketUnderParenthesisUnionUnionPlusUogonUopfUpArrowUpArrowBarUpArrow" +
+            "DownArrowUpDownArrowUpEquilibriumUpTeeUpTeeArrowUparrowUpdownarrowUpperLeftArrowUpperRightArrowUpsiU" +
+            "psilonUringUscrUtildeUumlVDashVbarVcyVdashVdashlVeeVerbarVertVerticalBarVerticalLineVerticalSeparato" +
+            "rVerticalTildeVeryThinSpaceVfrVopfVscrVvdashWcircWedgeWfrWopfWscrXfrXiXopfXscrYAcyYIcyYUcyYacuteYcir" +
+            "cYcyYfrYopfYscrYumlZHcyZacuteZcaronZcyZdotZeroWidthSpaceZetaZfrZopfZscraacuteabreveacacEacdacircacut" +
+            "eacyaeligafafragravealefsymalephalphaamacramalgampandandandanddandslopeandvangangeangleangmsdangmsda" +
+            "aangmsdabangmsdacangmsdadangmsdaeangmsdafangmsdagangmsdahangrtangrtvbangrtvbdangsphangstangzarraogon" +
+            "aopfapapEapacirapeapidaposapproxapproxeqaringascrastasympasympeqatildeaumlawconintawintbNotbackcongb" +
+            "ackepsilonbackprimebacksimbacksimeqbarveebarwedbarwedgebbrkbbrktbrkbcongbcybdquobecausbecausebemptyv" +
+            "bepsibernoubetabethbetweenbfrbigcapbigcircbigcupbigodotbigoplusbigotimesbigsqcupbigstarbigtriangledo" +
+            "wnbigtriangleupbiguplusbigveebigwedgebkarowblacklozengeblacksquareblacktriangleblacktriangledownblac" +
+            "ktriangleleftblacktrianglerightblankblk12blk14blk34blockbnebnequivbnotbopfbotbottombowtieboxDLboxDRb" +
+            "oxDlboxDrboxHboxHDboxHUboxHdboxHuboxULboxURboxUlboxUrboxVboxVHboxVLboxVRboxVhboxVlboxVrboxboxboxdLbo" +
+            "xdRboxdlboxdrboxhboxhDboxhUboxhdboxhuboxminusboxplusboxtimesboxuLboxuRboxulboxurboxvboxvHboxvLboxvRb" +
+            "oxvhboxvlboxvrbprimebrevebrvbarbscrbsemibsimbsimebsolbsolbbsolhsubbullbulletbumpbumpEbumpebumpeqcacu" +
+            "tecapcapandcapbrcupcapcapcapcupcapdotcapscaretcaronccapsccaronccedilccircccupsccupssmcdotcedilcempty" +
+            "vcentcenterdotcfrchcycheckcheckmarkchicircirEcirccirceqcirclearrowleftcirclearrowrightcircledRcircle" +
+            "dScircledastcircledcirccircleddashcirecirfnintcirmidcirscirclubsclubsuitcoloncolonecoloneqcommacomma" +
+            "tcompcompfncomplementcomplexescongcongdotconintcopfcoprodcopycopysrcrarrcrosscscrcsubcsubecsupcsupec" +
+            "tdotcudarrlcudarrrcueprcuesccularrcularrpcupcupbrcapcupcapcupcupcupdotcuporcupscurarrcurarrmcurlyeqp" +
+            "reccurlyeqsucccurlyveecurlywedgecurrencurvearrowleftcurvearrowrightcuveecuwedcwconintcwintcylctydArr" +
+            "dHardaggerdalethdarrdashdashvdbkarowdblacdcarondcyddddaggerddarrddotseqdegdeltademptyvdfishtdfrdharl" +
+            "dharrdiamdiamonddiamondsuitdiamsdiedigammadisindivdividedivideontimesdivonxdjcydlcorndlcropdollardop" +
+            "fdotdoteqdoteqdotdotminusdotplusdotsquaredoublebarwedgedownarrowdowndownarrowsdownharpoonleftdownhar" +
+            "poonrightdrbkarowdrcorndrcropdscrdscydsoldstrokdtdotdtridtrifduarrduhardwangledzcydzigrarreDDoteDote" +
+            "acuteeasterecaronecirecircecolonecyedoteeefDotefregegraveegsegsdotelelintersellelselsdotemacremptyem" +
+            "ptysetemptyvemspemsp13emsp14engenspeogoneopfepareparsleplusepsiepsilonepsiveqcirceqcoloneqsimeqslant" +
+            "gtreqslantlessequalsequestequivequivDDeqvparslerDoterarrescresdotesimetaetheumleuroexclexistexpectat" +
+            "ionexponentialefallingdotseqfcyfemaleffiligffligfflligffrfiligfjligflatflligfltnsfnoffopfforallforkf" +
+            "orkvfpartintfrac12frac13frac14frac15frac16frac18frac23frac25frac34frac35frac38frac45frac56frac58frac" +
+            "78fraslfrownfscrgEgElgacutegammagammadgapgbrevegcircgcygdotgegelgeqgeqqgeqslantgesgesccgesdotgesdoto" +
+            "gesdotolgeslgeslesgfrggggggimelgjcyglglEglagljgnEgnapgnapproxgnegneqgneqqgnsimgopfgravegscrgsimgsime" +
+            "gsimlgtgtccgtcirgtdotgtlPargtquestgtrapproxgtrarrgtrdotgtreqlessgtreqqlessgtrlessgtrsimgvertneqqgvnE" +
+            "hArrhairsphalfhamilthardcyharrharrcirharrwhbarhcircheartsheartsuithellipherconhfrhksearowhkswarowhoa" +
+            "rrhomththookleftarrowhookrightarrowhopfhorbarhscrhslashhstrokhybullhypheniacuteicicircicyiecyiexclif" +
+            "fifrigraveiiiiiintiiintiinfiniiotaijligimacrimageimaglineimagpartimathimofimpedinincareinfininfintie" +
+            "inodotintintcalintegersintercalintlarhkintprodiocyiogoniopfiotaiprodiquestiscrisinisinEisindotisinsi" +
+            "sinsvisinvititildeiukcyiumljcircjcyjfrjmathjopfjscrjsercyjukcykappakappavkcedilkcykfrkgreenkhcykjcyk" +
+            "opfkscrlAarrlArrlAtaillBarrlElEglHarlacutelaemptyvlagranlambdalanglangdlanglelaplaquolarrlarrblarrbf" +
+            "slarrfslarrhklarrlplarrpllarrsimlarrtllatlataillatelateslbarrlbbrklbracelbracklbrkelbrksldlbrkslulca" +
+            "ronlcedillceillcublcyldcaldquoldquorldrdharldrusharldshleleftarrowleftarrowtailleftharpoondownleftha" +
+            "rpoonupleftleftarrowsleftrightarrowleftrightarrowsleftrightharpoonsleftrightsquigarrowleftthreetimes" +
+            "legleqleqqleqslantleslescclesdotlesdotolesdotorlesglesgeslessapproxlessdotlesseqgtrlesseqqgtrlessgtr" +
+            "lesssimlfishtlfloorlfrlglgElhardlharulharullhblkljcyllllarrllcornerllhardlltrilmidotlmoustlmoustache" +
+            "lnElnaplnapproxlnelneqlneqqlnsimloangloarrlobrklongleftarrowlongleftrightarrowlongmapstolongrightarr" +
+            "owlooparrowleftlooparrowrightloparlopflopluslotimeslowastlowbarlozlozengelozflparlparltlrarrlrcorner" +
+            "lrharlrhardlrmlrtrilsaquolscrlshlsimlsimelsimglsqblsquolsquorlstrokltltccltcirltdotlthreeltimesltlar" +
+            "rltquestltrParltriltrieltriflurdsharluruharlvertneqqlvnEmDDotmacrmalemaltmaltesemapmapstomapstodownm" +
+            "apstoleftmapstoupmarkermcommamcymdashmeasuredanglemfrmhomicromidmidastmidcirmiddotminusminusbminusdm" +
+            "inusdumlcpmldrmnplusmodelsmopfmpmscrmstposmumultimapmumapnGgnGtnGtvnLeftarrownLeftrightarrownLlnLtnL" +
+            "tvnRightarrownVDashnVdashnablanacutenangnapnapEnapidnaposnapproxnaturnaturalnaturalsnbspnbumpnbumpen" +
+            "capncaronncedilncongncongdotncupncyndashneneArrnearhknearrnearrownedotnequivnesearnesimnexistnexists" +
+            "nfrngEngengeqngeqqngeqslantngesngsimngtngtrnhArrnharrnhparninisnisdnivnjcynlArrnlEnlarrnldrnlenlefta" +
+            "rrownleftrightarrownleqnleqqnleqslantnlesnlessnlsimnltnltrinltrienmidnopfnotnotinnotinEnotindotnotin" +
+            "vanotinvbnotinvcnotninotnivanotnivbnotnivcnparnparallelnparslnpartnpolintnprnprcuenprenprecnpreceqnr" +
+            "Arrnrarrnrarrcnrarrwnrightarrownrtrinrtrienscnsccuenscenscrnshortmidnshortparallelnsimnsimensimeqnsm" +
+            "idnsparnsqsubensqsupensubnsubEnsubensubsetnsubseteqnsubseteqqnsuccnsucceqnsupnsupEnsupensupsetnsupse" +
+            "teqnsupseteqqntglntildentlgntriangleleftntrianglelefteqntrianglerightntrianglerighteqnunumnumeronums" +
+            "pnvDashnvHarrnvapnvdashnvgenvgtnvinfinnvlArrnvlenvltnvltrienvrArrnvrtrienvsimnwArrnwarhknwarrnwarrow" +
+            "nwnearoSoacuteoastocirocircocyodashodblacodivodotodsoldoeligofcirofrogonograveogtohbarohmointolarrol" +
+            "cirolcrossolineoltomacromegaomicronomidominusoopfoparoperpoplusororarrordorderorderofordfordmorigofo" +
+            "rororslopeorvoscroslashosolotildeotimesotimesasoumlovbarparparaparallelparsimparslpartpcypercntperio" +
+            "dpermilperppertenkpfrphiphivphmmatphonepipitchforkpivplanckplanckhplankvplusplusacirplusbpluscirplus" +
+            "doplusdupluseplusmnplussimplustwopmpointintpopfpoundprprEprapprcuepreprecprecapproxpreccurlyeqpreceq" +
+            "precnapproxprecneqqprecnsimprecsimprimeprimesprnEprnapprnsimprodprofalarproflineprofsurfpropproptopr" +
+            "simprurelpscrpsipuncspqfrqintqopfqprimeqscrquaternionsquatintquestquesteqquotrAarrrArrrAtailrBarrrHa" +
+            "rraceracuteradicraemptyvrangrangdrangerangleraquorarrrarraprarrbrarrbfsrarrcrarrfsrarrhkrarrlprarrpl" +
+            "rarrsimrarrtlrarrwratailratiorationalsrbarrrbbrkrbracerbrackrbrkerbrksldrbrkslurcaronrcedilrceilrcub" +
+            "rcyrdcardldharrdquordquorrdshrealrealinerealpartrealsrectregrfishtrfloorrfrrhardrharurharulrhorhovri" +
+            "ghtarrowrightarrowtailrightharpoondownrightharpoonuprightleftarrowsrightleftharpoonsrightrightarrows" +
+            "rightsquigarrowrightthreetimesringrisingdotseqrlarrrlharrlmrmoustrmoustachernmidroangroarrrobrkropar" +
+            "ropfroplusrotimesrparrpargtrppolintrrarrrsaquorscrrshrsqbrsquorsquorrthreertimesrtrirtriertrifrtrilt" +
+            "riruluharrxsacutesbquoscscEscapscaronsccuescescedilscircscnEscnapscnsimscpolintscsimscysdotsdotbsdot" +
+            "eseArrsearhksearrsearrowsectsemiseswarsetminussetmnsextsfrsfrownsharpshchcyshcyshortmidshortparallel" +
+            "shysigmasigmafsigmavsimsimdotsimesimeqsimgsimgEsimlsimlEsimnesimplussimrarrslarrsmallsetminussmashps" +
+            "meparslsmidsmilesmtsmtesmtessoftcysolsolbsolbarsopfspadesspadesuitsparsqcapsqcapssqcupsqcupssqsubsqs" +
+            "ubesqsubsetsqsubseteqsqsupsqsupesqsupsetsqsupseteqsqusquaresquarfsqufsrarrsscrssetmnssmilesstarfstar" +
+            "starfstraightepsilonstraightphistrnssubsubEsubdotsubesubedotsubmultsubnEsubnesubplussubrarrsubsetsub" +
+            "seteqsubseteqqsubsetneqsubsetneqqsubsimsubsubsubsupsuccsuccapproxsucccurlyeqsucceqsuccnapproxsuccneq" +
+            "qsuccnsimsuccsimsumsungsupsup1sup2sup3supEsupdotsupdsubsupesupedotsuphsolsuphsubsuplarrsupmultsupnEs" +
+            "upnesupplussupsetsupseteqsupseteqqsupsetneqsupsetneqqsupsimsupsubsupsupswArrswarhkswarrswarrowswnwar" +
+            "szligtargettautbrktcarontcediltcytdottelrectfrthere4thereforethetathetasymthetavthickapproxthicksimt" +
+            "hinspthkapthksimthorntildetimestimesbtimesbartimesdtinttoeatoptopbottopcirtopftopforktosatprimetrade" +
+            "triangletriangledowntrianglelefttrianglelefteqtriangleqtrianglerighttrianglerighteqtridottrietriminu" +
+            "striplustrisbtritimetrpeziumtscrtscytshcytstroktwixttwoheadleftarrowtwoheadrightarrowuArruHaruacuteu" +
+            "arrubrcyubreveucircucyudarrudblacudharufishtufrugraveuharluharruhblkulcornulcornerulcropultriumacrum" +
+            "luogonuopfuparrowupdownarrowupharpoonleftupharpoonrightuplusupsiupsihupsilonupuparrowsurcornurcorner" +
+            "urcropuringurtriuscrutdotutildeutriutrifuuarruumluwanglevArrvBarvBarvvDashvangrtvarepsilonvarkappava" +
+            "rnothingvarphivarpivarproptovarrvarrhovarsigmavarsubsetneqvarsubsetneqqvarsupsetneqvarsupsetneqqvart" +
+            "hetavartriangleleftvartrianglerightvcyvdashveeveebarveeeqvellipverbarvertvfrvltrivnsubvnsupvopfvprop" +
+            "vrtrivscrvsubnEvsubnevsupnEvsupnevzigzagwcircwedbarwedgewedgeqweierpwfrwopfwpwrwreathwscrxcapxcircxc" +
+            "upxdtrixfrxhArrxharrxixlArrxlarrxmapxnisxodotxopfxoplusxotimexrArrxrarrxscrxsqcupxuplusxutrixveexwed" +
+            "geyacuteyacyycircycyyenyfryicyyopfyscryucyyumlzacutezcaronzcyzdotzeetrfzetazfrzhcyzigrarrzopfzscrzwj" +
+            "zwnj";
+
+    static final String NAME_OFFSETS =
+            "\u0000\u0005\u0008\u000e\u0014\u0019\u001c\u001f%*/27;HMQW]ajntw~\u0088\u008c\u008f\u0093\u0098\u009c" +
+            "\u00a2\u00a6\u00aa\u00b0\u00b3\u00c7\u00ce\u00d4\u00da\u00df\u00e6\u00ea\u00f1\u00fa\u00fd\u0100\u0109" +
+            "\u0114\u011e\u0129\u0141\u0156\u0165\u016a\u0170\u0179\u017f\u018e\u0192\u019b\u01ba\u01bf\u01c3\u01c6" +
+            "\u01cc\u01ce\u01d6\u01da\u01de\u01e2\u01e8\u01ec\u01f1\u01f7\u01fa\u01fd\u0202\u0205\u0215\u0223\u0239" +
+            "\u0249\u0259\u0260\u026d\u0271\u0274\u027a\u0282\u0297\u02a0\u02af\u02be\u02d2\u02df\u02f2\u030a\u031e" +
+            "\u032e\u033c\u0349\u035a\u036b\u0374\u0380\u0390\u0399\u03ac\u03bd\u03cb\u03dc\u03ee\u03fd\u040f\u0416" +
+            "\u0422\u042b\u042f\u0435\u0438\u043b\u0441\u0447\u044c\u044f\u0453\u0456\u045c\u0463\u0468\u0478\u048c" +
+            "\u0491\u0495\u049c\u04a1\u04ab\u04b6\u04ba\u04be\u04c1\u04c5\u04cb\u04d7\u04da\u04dd\u04ee\u0503\u0507" +
+            "\u050d\u0517\u051b\u051f\u0521\u0526\u052c\u0532\u0538\u053d\u0540\u0544\u0547\u0549\u054d\u0559\u0569" +
+            "\u0579\u0587\u0592\u05a3\u05af\u05b3\u05b5\u05bb\u05c0\u05c3\u05c8\u05cb\u05d7\u05db\u05e9\u05ed\u05f3" +
+            "\u05ff\u0608\u060c\u0611\u0615\u061b\u0620\u0623\u0627\u062a\u0630\u0632\u0637\u0641\u0648\u064b\u0653" +
+            "\u065f\u066d\u067b\u0680\u0684\u0688\u068c\u0692\u0697\u069b\u06a0\u06a3\u06a6\u06aa\u06ae\u06b4\u06b9" +
+            "\u06bd\u06c1\u06c6\u06cc\u06cf\u06d2\u06d6\u06da\u06de\u06e0\u06e6\u06ec\u06f0\u06fa\u06fe\u0704\u070a" +
+            "\u070d\u071d\u0726\u0732\u0745\u0750\u0761\u0772\u0780\u0791\u079a\u07a8\u07b7\u07be\u07ca\u07d7\u07e3" +
+            "\u07f2\u0803\u0813\u0822\u082e\u083d\u0847\u0854\u085d\u086b\u087b\u0888\u0893\u089b\u08a9\u08b2\u08b5" +
+            "\u08b7\u08c1\u08c7\u08d4\u08e6\u08f4\u0901\u0913\u0921\u0925\u0933\u0942\u0946\u0949\u094f\u0951\u0954" +
+            "\u0957\u0962\u096b\u096e\u0977\u097b\u097f\u0981\u0985\u098b\u0991\u0997\u099a\u09ad\u09bf\u09d0\u09e5" +
+            "\u09f9\u0a07\u0a0e\u0a11\u0a18\u0a28\u0a2c\u0a2f\u0a3b\u0a44\u0a58\u0a62\u0a6a\u0a77\u0a80\u0a8a\u0a99" +
+            "\u0aac\u0abd\u0acb\u0adf\u0aee\u0afd\u0b09\u0b18\u0b2a\u0b3e\u0b45\u0b51\u0b5f\u0b6a\u0b7b\u0b87\u0b9e" +
+            "\u0baf\u0bba\u0bca\u0bdf\u0bf0\u0c00\u0c13\u0c28\u0c37\u0c4b\u0c5c\u0c72\u0c7b\u0c89\u0c94\u0ca4\u0cb9" +
+            "\u0cc9\u0cd4\u0ce4\u0cec\u0cf9\u0d0a\u0d17\u0d25\u0d29\u0d2f\u0d31\u0d36\u0d3c\u0d41\u0d44\u0d4a\u0d4d" +
+            "\u0d53\u0d58\u0d5d\u0d64\u0d68\u0d7c\u0d8a\u0d8c\u0d90\u0d96\u0d9c\u0da2\u0da6\u0dad\u0db6\u0dc1\u0dd0" +
+            "\u0dd8\u0ddb\u0dde\u0de1\u0de3\u0dec\u0df9\u0dfd\u0dff\u0e07\u0e14\u0e26\u0e33\u0e38\u0e3f\u0e49\u0e55" +
+            "\u0e59\u0e5c\u0e60\u0e63\u0e67\u0e6b\u0e70\u0e73\u0e79\u0e7d\u0e81\u0e87\u0e8d\u0e93\u0e96\u0e98\u0ea6" +
+            "\u0eb8\u0ecc\u0ecf\u0ed2\u0ee3\u0eed\u0efa\u0f0d\u0f19\u0f2b\u0f3d\u0f4c\u0f5e\u0f68\u0f70\u0f7d\u0f8b" +
+            "\u0f98\u0fa8\u0fba\u0fcb\u0fdb\u0fe8\u0ff8\u1003\u1011\u101b\u101f\u102b\u1036\u103a\u103d\u1048\u104e" +
+            "\u1052\u1058\u105e\u1060\u1066\u106c\u1071\u1074\u1077\u1085\u1093\u10a2\u10ae\u10b3\u10be\u10c2\u10c6" +
+            "\u10cc\u10de\u10ea\u10fb\u1109\u111c\u1127\u112b\u112f\u1132\u1138\u1143\u114b\u1158\u116a\u1177\u117f" +
+            "\u1182\u1185\u118d\u119a\u11a0\u11a5\u11aa\u11af\u11b3\u11b6\u11b9\u11bf\u11c5\u11c8\u11cb\u11d4\u11d9" +
+            "\u11e3\u11ec\u11f1\u11fb\u1209\u1213\u1217\u1220\u1224\u122a\u1230\u1234\u123c\u1241\u1247\u124c\u124f" +
+            "\u1255\u1258\u125e\u1263\u126b\u1275\u1281\u1291\u1296\u129f\u12a4\u12a8\u12af\u12b9\u12c9\u12d4\u12e1" +
+            "\u12e6\u12f0\u12f7\u1302\u1310\u131f\u1323\u132a\u132f\u1333\u1339\u133d\u1342\u1346\u1349\u134e\u1354" +
+            "\u1357\u135d\u1361\u136c\u1378\u1389\u1396\u13a3\u13a6\u13aa\u13ae\u13b4\u13b9\u13be\u13c1\u13c5\u13c9" +
+            "\u13cc\u13ce\u13d2\u13d6\u13da\u13de\u13e2\u13e8\u13ed\u13f0\u13f3\u13f7\u13fb\u13ff\u1403\u1409\u140f" +
+            "\u1412\u1416\u1424\u1428\u142b\u142f\u1433\u1439\u143f\u1441\u1444\u1447\u144c\u1451\u1454\u1459\u145b" +
+            "\u145e\u1464\u146b\u1470\u1475\u147a\u147f\u1482\u1485\u148b\u148f\u1497\u149b\u149e\u14a2\u14a7\u14ad" +
+            "\u14b5\u14bd\u14c5\u14cd\u14d5\u14dd\u14e5\u14ed\u14f2\u14f9\u1501\u1507\u150c\u1513\u1518\u151c\u151e" +
+            "\u1521\u1527\u152a\u152e\u1532\u1538\u1540\u1545\u1549\u154c\u1551\u1558\u155e\u1562\u156a\u156f\u1573" +
+            "\u157b\u1586\u158f\u1596\u159f\u15a5\u15ab\u15b3\u15b7\u15bf\u15c4\u15c7\u15cc\u15d2\u15d9\u15e0\u15e5" +
+            "\u15eb\u15ef\u15f3\u15fa\u15fd\u1603\u160a\u1610\u1617\u161f\u1628\u1630\u1637\u1646\u1653\u165b\u1661" +
+            "\u1669\u166f\u167b\u1686\u1693\u16a4\u16b5\u16c7\u16cc\u16d1\u16d6\u16db\u16e0\u16e3\u16ea\u16ee\u16f2" +
+            "\u16f5\u16fb\u1701\u1706\u170b\u1710\u1715\u1719\u171e\u1723\u1728\u172d\u1732\u1737\u173c\u1741\u1745" +
+            "\u174a\u174f\u1754\u1759\u175e\u1763\u1769\u176e\u1773\u1778\u177d\u1781\u1786\u178b\u1790\u1795\u179d" +
+            "\u17a4\u17ac\u17b1\u17b6\u17bb\u17c0\u17c4\u17c9\u17ce\u17d3\u17d8\u17dd\u17e2\u17e8\u17ed\u17f3\u17f7" +
+            "\u17fc\u1800\u1805\u1809\u180e\u1816\u181a\u1820\u1824\u1829\u182e\u1834\u183a\u183d\u1843\u184b\u1851" +
+            "\u1857\u185d\u1861\u1866\u186b\u1870\u1876\u187c\u1881\u1886\u188d\u1891\u1896\u189d\u18a1\u18aa\u18ad" +
+            "\u18b1\u18b6\u18bf\u18c2\u18c5\u18c9\u18cd\u18d3\u18e2\u18f2\u18fa\u1902\u190c\u1917\u1922\u1926\u192e" +
+            "\u1934\u193b\u1940\u1948\u194d\u1953\u195a\u195f\u1965\u1969\u196f\u1979\u1982\u1986\u198d\u1993\u1997" +
+            "\u199d\u19a1\u19a7\u19ac\u19b1\u19b5\u19b9\u19be\u19c2\u19c7\u19cc\u19d3\u19da\u19df\u19e4\u19ea\u19f1" +
+            "\u19f4\u19fc\u1a02\u1a08\u1a0e\u1a13\u1a17\u1a1d\u1a24\u1a2f\u1a3a\u1a42\u1a4c\u1a52\u1a60\u1a6f\u1a74" +
+            "\u1a79\u1a81\u1a86\u1a8c\u1a90\u1a94\u1a9a\u1aa0\u1aa4\u1aa8\u1aad\u1ab4\u1ab9\u1abf\u1ac2\u1ac4\u1acb" +
+            "\u1ad0\u1ad7\u1ada\u1adf\u1ae6\u1aec\u1aef\u1af4\u1af9\u1afd\u1b04\u1b0f\u1b14\u1b17\u1b1e\u1b23\u1b26" +
+            "\u1b2c\u1b39\u1b3f\u1b43\u1b49\u1b4f\u1b55\u1b59\u1b5c\u1b61\u1b69\u1b71\u1b78\u1b81\u1b8f\u1b98\u1ba6" +
+            "\u1bb5\u1bc5\u1bcd\u1bd3\u1bd9\u1bdd\u1be1\u1be5\u1beb\u1bf0\u1bf4\u1bf9\u1bfe\u1c03\u1c0a\u1c0e\u1c16" +
+            "\u1c1b\u1c1f\u1c25\u1c2b\u1c31\u1c35\u1c3a\u1c40\u1c43\u1c47\u1c49\u1c4e\u1c51\u1c53\u1c59\u1c5c\u1c62" +
+            "\u1c64\u1c6c\u1c6f\u1c72\u1c78\u1c7d\u1c82\u1c8a\u1c90\u1c94\u1c9a\u1ca0\u1ca3\u1ca7\u1cac\u1cb0\u1cb4" +
+            "\u1cba\u1cbf\u1cc3\u1cca\u1ccf\u1cd5\u1cdc\u1ce1\u1ceb\u1cf6\u1cfc\u1d02\u1d07\u1d0e\u1d16\u1d1b\u1d20" +
+            "\u1d24\u1d29\u1d2d\u1d30\u1d33\u1d37\u1d3b\u1d3f\u1d44\u1d4f\u1d5b\u1d68\u1d6b\u1d71\u1d77\u1d7c\u1d82" +
+            "\u1d85\u1d8a\u1d8f\u1d93\u1d98\u1d9d\u1da1\u1da5\u1dab\u1daf\u1db4\u1dbc\u1dc2\u1dc8\u1dce\u1dd4\u1dda" +
+            "\u1de0\u1de6\u1dec\u1df2\u1df8\u1dfe\u1e04\u1e0a\u1e10\u1e16\u1e1b\u1e20\u1e24\u1e26\u1e29\u1e2f\u1e34" +
+            "\u1e3a\u1e3d\u1e43\u1e48\u1e4b\u1e4f\u1e51\u1e54\u1e57\u1e5b\u1e63\u1e66\u1e6b\u1e71\u1e78\u1e80\u1e84" +
+            "\u1e8a\u1e8d\u1e8f\u1e92\u1e97\u1e9b\u1e9d\u1ea0\u1ea3\u1ea6\u1ea9\u1ead\u1eb5\u1eb8\u1ebc\u1ec1\u1ec6" +
+            "\u1eca\u1ecf\u1ed3\u1ed7\u1edc\u1ee1\u1ee3\u1ee7\u1eec\u1ef1\u1ef7\u1efe\u1f07\u1f0d\u1f13\u1f1c\u1f26" +
+            "\u1f2d\u1f33\u1f3c\u1f40\u1f44\u1f4a\u1f4e\u1f54\u1f5a\u1f5e\u1f65\u1f6a\u1f6e\u1f73\u1f79\u1f82\u1f88" +
+            "\u1f8e\u1f91\u1f99\u1fa1\u1fa6\u1fac\u1fb9\u1fc7\u1fcb\u1fd1\u1fd5\u1fdb\u1fe1\u1fe7\u1fed\u1ff3\u1ff5" +
+            "\u1ffa\u1ffd\u2001\u2006\u2009\u200c\u2012\u2014\u201a\u201f\u2025\u202a\u202f\u2034\u2039\u2041\u2049" +
+            "\u204e\u2052\u2057\u2059\u205f\u2064\u206c\u2072\u2075\u207b\u2083\u208b\u2093\u209a\u209e\u20a3\u20a7" +
+            "\u20ab\u20b0\u20b6\u20ba\u20be\u20c3\u20ca\u20cf\u20d5\u20da\u20dc\u20e2\u20e7\u20eb\u20f0\u20f3\u20f6" +
+            "\u20fb\u20ff\u2103\u2109\u210e\u2113\u2119\u211f\u2122\u2125\u212b\u212f\u2133\u2137\u213b\u2140\u2144" +
+            "\u214a\u214f\u2151\u2154\u2158\u215e\u2166\u216c\u2172\u2176\u217b\u2181\u2184\u2189\u218d\u2192\u2199" +
+            "\u219f\u21a5\u21ab\u21b1\u21b8\u21be\u21c1\u21c7\u21cb\u21d0\u21d5\u21da\u21e0\u21e6\u21eb\u21f2\u21f9" +
+            "\u21ff\u2205\u220a\u220e\u2211\u2215\u221a\u2220\u2227\u222f\u2233\u2235\u223e\u224b\u225a\u2267\u2275" +
+            "\u2283\u2292\u22a3\u22b6\u22c4\u22c7\u22ca\u22ce\u22d6\u22d9\u22de\u22e4\u22eb\u22f3\u22f7\u22fd\u2307" +
+            "\u230e\u2317\u2321\u2328\u232f\u2335\u233b\u233e\u2340\u2343\u2348\u234d\u2353\u2358\u235c\u235e\u2363" +
+            "\u236b\u2371\u2376\u237c\u2382\u238c\u238f\u2393\u239b\u239e\u23a2\u23a7\u23ac\u23b1\u23b6\u23bb\u23c8" +
+            "\u23da\u23e4\u23f2\u23ff\u240d\u2412\u2416\u241c\u2423\u2429\u242f\u2432\u2439\u243d\u2441\u2447\u244c" +
+            "\u2454\u2459\u245f\u2462\u2467\u246d\u2471\u2474\u2478\u247d\u2482\u2486\u248b\u2491\u2497\u2499\u249d" +
+            "\u24a2\u24a7\u24ad\u24b3\u24b9\u24c0\u24c6\u24ca\u24cf\u24d4\u24dc\u24e3\u24ec\u24f0\u24f5\u24f9\u24fd" +
+            "\u2501\u2508\u250b\u2511\u251b\u2525\u252d\u2533\u2539\u253c\u2541\u254e\u2551\u2554\u2559\u255c\u2562" +
+            "\u2568\u256e\u2573\u2579\u257f\u2586\u258a\u258e\u2594\u259a\u259e\u25a0\u25a4\u25aa\u25ac\u25b4\u25b9" +
+            "\u25bc\u25bf\u25c3\u25cd\u25dc\u25df\u25e2\u25e6\u25f1\u25f7\u25fd\u2602\u2608\u260c\u260f\u2613\u2618" +
+            "\u261d\u2624\u2629\u2630\u2638\u263c\u2641\u2647\u264b\u2651\u2657\u265c\u2664\u2668\u266b\u2670\u2672" +
+            "\u2677\u267d\u2682\u2689\u268e\u2694\u269a\u269f\u26a5\u26ac\u26af\u26b2\u26b5\u26b9\u26be\u26c7\u26cb" +
+            "\u26d0\u26d3\u26d7\u26dc\u26e1\u26e6\u26e8\u26eb\u26ef\u26f2\u26f6\u26fb\u26fe\u2703\u2707\u270a\u2714" +
+            "\u2723\u2727\u272c\u2735\u2739\u273e\u2743\u2746\u274b\u2751\u2755\u2759\u275c\u2761\u2767\u276f\u2776" +
+            "\u277d\u2784\u2789\u2790\u2797\u279e\u27a2\u27ab\u27b1\u27b6\u27bd\u27c0\u27c6\u27ca\u27cf\u27d6\u27db" +
+            "\u27e0\u27e6\u27ec\u27f7\u27fc\u2802\u2805\u280b\u280f\u2813\u281c\u282a\u282e\u2833\u2839\u283e\u2843" +
+            "\u284a\u2851\u2855\u285a\u285f\u2866\u286f\u2879\u287e\u2885\u2889\u288e\u2893\u289a\u28a3\u28ad\u28b1" +
+            "\u28b7\u28bb\u28c8\u28d7\u28e5\u28f5\u28f7\u28fa\u2900\u2905\u290b\u2911\u2915\u291b\u291f\u2923\u292a" +
+            "\u2930\u2934\u2938\u293f\u2945\u294c\u2951\u2956\u295c\u2961\u2968\u296e\u2970\u2976\u297a\u297e\u2983" +
+            "\u2986\u298b\u2991\u2995\u2999\u299f\u29a4\u29a9\u29ac\u29b0\u29b6\u29b9\u29be\u29c1\u29c5\u29ca\u29cf" +
+            "\u29d6\u29db\u29de\u29e3\u29e8\u29ef\u29f3\u29f9\u29fd\u2a01\u2a06\u2a0b\u2a0d\u2a12\u2a15\u2a1a\u2a21" +
+            "\u2a25\u2a29\u2a2f\u2a33\u2a3a\u2a3d\u2a41\u2a47\u2a4b\u2a51\u2a57\u2a5f\u2a63\u2a68\u2a6b\u2a6f\u2a77" +
+            "\u2a7d\u2a82\u2a86\u2a89\u2a8f\u2a95\u2a9b\u2a9f\u2aa6\u2aa9\u2aac\u2ab0\u2ab6\u2abb\u2abd\u2ac6\u2ac9" +
+            "\u2acf\u2ad6\u2adc\u2ae0\u2ae8\u2aed\u2af4\u2afa\u2b00\u2b05\u2b0b\u2b12\u2b19\u2b1b\u2b23\u2b27\u2b2c" +
+            "\u2b2e\u2b31\u2b35\u2b3a\u2b3d\u2b41\u2b4b\u2b56\u2b5c\u2b67\u2b6f\u2b77\u2b7e\u2b83\u2b89\u2b8d\u2b92" +
+            "\u2b98\u2b9c\u2ba4\u2bac\u2bb4\u2bb8\u2bbe\u2bc3\u2bc9\u2bcd\u2bd0\u2bd6\u2bd9\u2bdd\u2be1\u2be7\u2beb" +
+            "\u2bf6\u2bfd\u2c02\u2c09\u2c0d\u2c12\u2c16\u2c1c\u2c21\u2c25\u2c29\u2c2f\u2c34\u2c3c\u2c40\u2c45\u2c4a" +
+            "\u2c50\u2c55\u2c59\u2c5f\u2c64\u2c6b\u2c70\u2c76\u2c7c\u2c82\u2c88\u2c8f\u2c95\u2c9a\u2ca0\u2ca5\u2cae" +
+            "\u2cb3\u2cb8\u2cbe\u2cc4\u2cc9\u2cd0\u2cd7\u2cdd\u2ce3\u2ce8\u2cec\u2cef\u2cf3\u2cfa\u2cff\u2d05\u2d09" +
+            "\u2d0d\u2d14\u2d1c\u2d21\u2d25\u2d28\u2d2e\u2d34\u2d37\u2d3c\u2d41\u2d47\u2d4a\u2d4e\u2d58\u2d66\u2d76" +
+            "\u2d84\u2d93\u2da4\u2db4\u2dc3\u2dd2\u2dd6\u2de2\u2de7\u2dec\u2def\u2df5\u2dff\u2e04\u2e09\u2e0e\u2e13" +
+            "\u2e18\u2e1c\u2e22\u2e29\u2e2d\u2e33\u2e3b\u2e40\u2e46\u2e4a\u2e4d\u2e51\u2e56\u2e5c\u2e62\u2e68\u2e6c" +
+            "\u2e71\u2e76\u2e7e\u2e85\u2e87\u2e8d\u2e92\u2e94\u2e97\u2e9b\u2ea1\u2ea6\u2ea9\u2eaf\u2eb4\u2eb8\u2ebd" +
+            "\u2ec3\u2ecb\u2ed0\u2ed3\u2ed7\u2edc\u2ee1\u2ee6\u2eec\u2ef1\u2ef8\u2efc\u2f00\u2f06\u2f0e\u2f13\u2f17" +
+            "\u2f1a\u2f20\u2f25\u2f2b\u2f2f\u2f37\u2f44\u2f47\u2f4c\u2f52\u2f58\u2f5b\u2f61\u2f65\u2f6a\u2f6e\u2f73" +
+            "\u2f77\u2f7c\u2f81\u2f88\u2f8f\u2f94\u2fa1\u2fa7\u2faf\u2fb3\u2fb8\u2fbb\u2fbf\u2fc4\u2fca\u2fcd\u2fd1" +
+            "\u2fd7\u2fdb\u2fe1\u2fea\u2fee\u2ff3\u2ff9\u2ffe\u3004\u3009\u300f\u3017\u3021\u3026\u302c\u3034\u303e" +
+            "\u3041\u3047\u304d\u3051\u3056\u305a\u3060\u3066\u306c\u3070\u3075\u3084\u308f\u3094\u3097\u309b\u30a1" +
+            "\u30a5\u30ac\u30b3\u30b8\u30bd\u30c4\u30cb\u30d1\u30d9\u30e2\u30eb\u30f5\u30fb\u3101\u3107\u310b\u3115" +
+            "\u3120\u3126\u3131\u3139\u3141\u3148\u314b\u314f\u3152\u3156\u315a\u315e\u3162\u3168\u316f\u3173\u317a" +
+            "\u3181\u3188\u318f\u3196\u319b\u31a0\u31a7\u31ad\u31b5\u31be\u31c7\u31d1\u31d7\u31dd\u31e3\u31e8\u31ee" +
+            "\u31f3\u31fa\u3200\u3205\u320b\u320e\u3212\u3218\u321e\u3221\u3225\u322b\u322e\u3234\u323d\u3242\u324a" +
+            "\u3250\u325b\u3263\u3269\u326e\u3274\u3279\u327e\u3283\u3289\u3291\u3297\u329b\u329f\u32a2\u32a8\u32ae" +
+            "\u32b2\u32b9\u32bd\u32c3\u32c8\u32d0\u32dc\u32e8\u32f6\u32ff\u330c\u331b\u3321\u3325\u332d\u3334\u3339" +
+            "\u3340\u3348\u334c\u3350\u3355\u335b\u3360\u3370\u3381\u3385\u3389\u338f\u3393\u3398\u339e\u33a3\u33a6" +
+            "\u33ab\u33b1\u33b6\u33bc\u33bf\u33c5\u33ca\u33cf\u33d4\u33da\u33e2\u33e8\u33ed\u33f2\u33f5\u33fa\u33fe" +
+            "\u3405\u3410\u341d\u342b\u3430\u3434\u3439\u3440\u344a\u3450\u3458\u345e\u3463\u3468\u346c\u3471\u3477" +
+            "\u347b\u3480\u3485\u3489\u3490\u3494\u3498\u349d\u34a2\u34a8\u34b2\u34ba\u34c4\u34ca\u34cf\u34d8\u34dc" +
+            "\u34e2\u34ea\u34f6\u3503\u350f\u351c\u3524\u3533\u3543\u3546\u354b\u354e\u3554\u3559\u355f\u3565\u3569" +
+            "\u356c\u3571\u3576\u357b\u357f\u3584\u3589\u358d\u3593\u3599\u359f\u35a5\u35ac\u35b1\u35b7\u35bc\u35c2" +
+            "\u35c8\u35cb\u35cf\u35d1\u35d3\u35d9\u35dd\u35e1\u35e6\u35ea\u35ef\u35f2\u35f7\u35fc\u35fe\u3603\u3608" +
+            "\u360c\u3610\u3615\u3619\u361f\u3625\u362a\u362f\u3633\u3639\u363f\u3644\u3648\u364e\u3654\u3658\u365d" +
+            "\u3660\u3663\u3666\u366a\u366e\u3672\u3676\u367a\u3680\u3686\u3689\u368d\u3693\u3697\u369a\u369e\u36a5" +
+            "\u36a9\u36ad\u36b0\u36b4";
+
+    static final String VALUES =
+            "\u00c6&\u00c1\u0102\u00c2\u0410\ud835\udd04\u00c0\u0391\u0100\u2a53\u0104\ud835\udd38\u2061\u00c5\ud835" +
+            "\udc9c\u2254\u00c3\u00c4\u2216\u2ae7\u2306\u0411\u2235\u212c\u0392\ud835\udd05\ud835\udd39\u02d8\u212c" +
+            "\u224e\u0427\u00a9\u0106\u22d2\u2145\u212d\u010c\u00c7\u0108\u2230\u010a\u00b8\u00b7\u212d\u03a7\u2299" +
+            "\u2296\u2295\u2297\u2232\u201d\u2019\u2237\u2a74\u2261\u222f\u222e\u2102\u2210\u2233\u2a2f\ud835\udc9e" +
+            "\u22d3\u224d\u2145\u2911\u0402\u0405\u040f\u2021\u21a1\u2ae4\u010e\u0414\u2207\u0394\ud835\udd07\u00b4" +
+            "\u02d9\u02dd`\u02dc\u22c4\u2146\ud835\udd3b\u00a8\u20dc\u2250\u222f\u00a8\u21d3\u21d0\u21d4\u2ae4\u27f8" +
+            "\u27fa\u27f9\u21d2\u22a8\u21d1\u21d5\u2225\u2193\u2913\u21f5\u0311\u2950\u295e\u21bd\u2956\u295f\u21c1" +
+            "\u2957\u22a4\u21a7\u21d3\ud835\udc9f\u0110\u014a\u00d0\u00c9\u011a\u00ca\u042d\u0116\ud835\udd08\u00c8" +
+            "\u2208\u0112\u25fb\u25ab\u0118\ud835\udd3c\u0395\u2a75\u2242\u21cc\u2130\u2a73\u0397\u00cb\u2203\u2147" +
+            "\u0424\ud835\udd09\u25fc\u25aa\ud835\udd3d\u2200\u2131\u2131\u0403>\u0393\u03dc\u011e\u0122\u011c\u0413" +
+            "\u0120\ud835\udd0a\u22d9\ud835\udd3e\u2265\u22db\u2267\u2aa2\u2277\u2a7e\u2273\ud835\udca2\u226b\u042a" +
+            "\u02c7^\u0124\u210c\u210b\u210d\u2500\u210b\u0126\u224e\u224f\u0415\u0132\u0401\u00cd\u00ce\u0418\u0130" +
+            "\u2111\u00cc\u2111\u012a\u2148\u21d2\u222c\u222b\u22c2\u2063\u2062\u012e\ud835\udd40\u0399\u2110\u0128" +
+            "\u0406\u00cf\u0134\u0419\ud835\udd0d\ud835\udd41\ud835\udca5\u0408\u0404\u0425\u040c\u039a\u0136\u041a" +
+            "\ud835\udd0e\ud835\udd42\ud835\udca6\u0409<\u0139\u039b\u27ea\u2112\u219e\u013d\u013b\u041b\u27e8\u2190" +
+            "\u21e4\u21c6\u2308\u27e6\u2961\u21c3\u2959\u230a\u2194\u294e\u22a3\u21a4\u295a\u22b2\u29cf\u22b4\u2951" +
+            "\u2960\u21bf\u2958\u21bc\u2952\u21d0\u21d4\u22da\u2266\u2276\u2aa1\u2a7d\u2272\ud835\udd0f\u22d8\u21da" +
+            "\u013f\u27f5\u27f7\u27f6\u27f8\u27fa\u27f9\ud835\udd43\u2199\u2198\u2112\u21b0\u0141\u226a\u2905\u041c" +
+            "\u205f\u2133\ud835\udd10\u2213\ud835\udd44\u2133\u039c\u040a\u0143\u0147\u0145\u041d\u200b\u200b\u200b" +
+            "\u200b\u226b\u226a\n\ud835\udd11\u2060\u00a0\u2115\u2aec\u2262\u226d\u2226\u2209\u2260\u2242\u0338\u2204" +
+            "\u226f\u2271\u2267\u0338\u226b\u0338\u2279\u2a7e\u0338\u2275\u224e\u0338\u224f\u0338\u22ea\u29cf\u0338" +
+            "\u22ec\u226e\u2270\u2278\u226a\u0338\u2a7d\u0338\u2274\u2aa2\u0338\u2aa1\u0338\u2280\u2aaf\u0338\u22e0" +
+            "\u220c\u22eb\u29d0\u0338\u22ed\u228f\u0338\u22e2\u2290\u0338\u22e3\u2282\u20d2\u2288\u2281\u2ab0\u0338" +
+            "\u22e1\u227f\u0338\u2283\u20d2\u2289\u2241\u2244\u2247\u2249\u2224\ud835\udca9\u00d1\u039d\u0152\u00d3" +
+            "\u00d4\u041e\u0150\ud835\udd12\u00d2\u014c\u03a9\u039f\ud835\udd46\u201c\u2018\u2a54\ud835\udcaa\u00d8" +
+            "\u00d5\u2a37\u00d6\u203e\u23de\u23b4\u23dc\u2202\u041f\ud835\udd13\u03a6\u03a0\u00b1\u210c\u2119\u2abb" +
+            "\u227a\u2aaf\u227c\u227e\u2033\u220f\u2237\u221d\ud835\udcab\u03a8\"\ud835\udd14\u211a\ud835\udcac\u2910" +
+            "\u00ae\u0154\u27eb\u21a0\u2916\u0158\u0156\u0420\u211c\u220b\u21cb\u296f\u211c\u03a1\u27e9\u2192\u21e5" +
+            "\u21c4\u2309\u27e7\u295d\u21c2\u2955\u230b\u22a2\u21a6\u295b\u22b3\u29d0\u22b5\u294f\u295c\u21be\u2954" +
+            "\u21c0\u2953\u21d2\u211d\u2970\u21db\u211b\u21b1\u29f4\u0429\u0428\u042c\u015a\u2abc\u0160\u015e\u015c" +
+            "\u0421\ud835\udd16\u2193\u2190\u2192\u2191\u03a3\u2218\ud835\udd4a\u221a\u25a1\u2293\u228f\u2291\u2290" +
+            "\u2292\u2294\ud835\udcae\u22c6\u22d0\u22d0\u2286\u227b\u2ab0\u227d\u227f\u220b\u2211\u22d1\u2283\u2287" +
+            "\u22d1\u00de\u2122\u040b\u0426\u0009\u03a4\u0164\u0162\u0422\ud835\udd17\u2234\u0398\u205f\u200a\u2009" +
+            "\u223c\u2243\u2245\u2248\ud835\udd4b\u20db\ud835\udcaf\u0166\u00da\u219f\u2949\u040e\u016c\u00db\u0423" +
+            "\u0170\ud835\udd18\u00d9\u016a_\u23df\u23b5\u23dd\u22c3\u228e\u0172\ud835\udd4c\u2191\u2912\u21c5\u2195" +
+            "\u296e\u22a5\u21a5\u21d1\u21d5\u2196\u2197\u03d2\u03a5\u016e\ud835\udcb0\u0168\u00dc\u22ab\u2aeb\u0412" +
+            "\u22a9\u2ae6\u22c1\u2016\u2016\u2223|\u2758\u2240\u200a\ud835\udd19\ud835\udd4d\ud835\udcb1\u22aa\u0174" +
+            "\u22c0\ud835\udd1a\ud835\udd4e\ud835\udcb2\ud835\udd1b\u039e\ud835\udd4f\ud835\udcb3\u042f\u0407\u042e" +
+            "\u00dd\u0176\u042b\ud835\udd1c\ud835\udd50\ud835\udcb4\u0178\u0416\u0179\u017d\u0417\u017b\u200b\u0396" +
+            "\u2128\u2124\ud835\udcb5\u00e1\u0103\u223e\u223e\u0333\u223f\u00e2\u00b4\u0430\u00e6\u2061\ud835\udd1e" +
+            "\u00e0\u2135\u2135\u03b1\u0101\u2a3f&\u2227\u2a55\u2a5c\u2a58\u2a5a\u2220\u29a4\u2220\u2221\u29a8\u29a9" +
+            "\u29aa\u29ab\u29ac\u29ad\u29ae\u29af\u221f\u22be\u299d\u2222\u00c5\u237c\u0105\ud835\udd52\u2248\u2a70" +
+            "\u2a6f\u224a\u224b'\u2248\u224a\u00e5\ud835\udcb6*\u2248\u224d\u00e3\u00e4\u2233\u2a11\u2aed\u224c\u03f6" +
+            "\u2035\u223d\u22cd\u22bd\u2305\u2305\u23b5\u23b6\u224c\u0431\u201e\u2235\u2235\u29b0\u03f6\u212c\u03b2" +
+            "\u2136\u226c\ud835\udd1f\u22c2\u25ef\u22c3\u2a00\u2a01\u2a02\u2a06\u2605\u25bd\u25b3\u2a04\u22c1\u22c0" +
+            "\u290d\u29eb\u25aa\u25b4\u25be\u25c2\u25b8\u2423\u2592\u2591\u2593\u2588=\u20e5\u2261\u20e5\u2310\ud835" +
+            "\udd53\u22a5\u22a5\u22c8\u2557\u2554\u2556\u2553\u2550\u2566\u2569\u2564\u2567\u255d\u255a\u255c\u2559" +
+            "\u2551\u256c\u2563\u2560\u256b\u2562\u255f\u29c9\u2555\u2552\u2510\u250c\u2500\u2565\u2568\u252c\u2534" +
+            "\u229f\u229e\u22a0\u255b\u2558\u2518\u2514\u2502\u256a\u2561\u255e\u253c\u2524\u251c\u2035\u02d8\u00a6" +
+            "\ud835\udcb7\u204f\u223d\u22cd\\\u29c5\u27c8\u2022\u2022\u224e\u2aae\u224f\u224f\u0107\u2229\u2a44\u2a49" +
+            "\u2a4b\u2a47\u2a40\u2229\ufe00\u2041\u02c7\u2a4d\u010d\u00e7\u0109\u2a4c\u2a50\u010b\u00b8\u29b2\u00a2" +
+            "\u00b7\ud835\udd20\u0447\u2713\u2713\u03c7\u25cb\u29c3\u02c6\u2257\u21ba\u21bb\u00ae\u24c8\u229b\u229a" +
+            "\u229d\u2257\u2a10\u2aef\u29c2\u2663\u2663:\u2254\u2254,@\u2201\u2218\u2201\u2102\u2245\u2a6d\u222e\ud835" +
+            "\udd54\u2210\u00a9\u2117\u21b5\u2717\ud835\udcb8\u2acf\u2ad1\u2ad0\u2ad2\u22ef\u2938\u2935\u22de\u22df" +
+            "\u21b6\u293d\u222a\u2a48\u2a46\u2a4a\u228d\u2a45\u222a\ufe00\u21b7\u293c\u22de\u22df\u22ce\u22cf\u00a4" +
+            "\u21b6\u21b7\u22ce\u22cf\u2232\u2231\u232d\u21d3\u2965\u2020\u2138\u2193\u2010\u22a3\u290f\u02dd\u010f" +
+            "\u0434\u2146\u2021\u21ca\u2a77\u00b0\u03b4\u29b1\u297f\ud835\udd21\u21c3\u21c2\u22c4\u22c4\u2666\u2666" +
+            "\u00a8\u03dd\u22f2\u00f7\u00f7\u22c7\u22c7\u0452\u231e\u230d$\ud835\udd55\u02d9\u2250\u2251\u2238\u2214" +
+            "\u22a1\u2306\u2193\u21ca\u21c3\u21c2\u2910\u231f\u230c\ud835\udcb9\u0455\u29f6\u0111\u22f1\u25bf\u25be" +
+            "\u21f5\u296f\u29a6\u045f\u27ff\u2a77\u2251\u00e9\u2a6e\u011b\u2256\u00ea\u2255\u044d\u0117\u2147\u2252" +
+            "\ud835\udd22\u2a9a\u00e8\u2a96\u2a98\u2a99\u23e7\u2113\u2a95\u2a97\u0113\u2205\u2205\u2205\u2003\u2004" +
+            "\u2005\u014b\u2002\u0119\ud835\udd56\u22d5\u29e3\u2a71\u03b5\u03b5\u03f5\u2256\u2255\u2242\u2a96\u2a95" +
+            "=\u225f\u2261\u2a78\u29e5\u2253\u2971\u212f\u2250\u2242\u03b7\u00f0\u00eb\u20ac!\u2203\u2130\u2147\u2252" +
+            "\u0444\u2640\ufb03\ufb00\ufb04\ud835\udd23\ufb01fj\u266d\ufb02\u25b1\u0192\ud835\udd57\u2200\u22d4\u2ad9" +
+            "\u2a0d\u00bd\u2153\u00bc\u2155\u2159\u215b\u2154\u2156\u00be\u2157\u215c\u2158\u215a\u215d\u215e\u2044" +
+            "\u2322\ud835\udcbb\u2267\u2a8c\u01f5\u03b3\u03dd\u2a86\u011f\u011d\u0433\u0121\u2265\u22db\u2265\u2267" +
+            "\u2a7e\u2a7e\u2aa9\u2a80\u2a82\u2a84\u22db\ufe00\u2a94\ud835\udd24\u226b\u22d9\u2137\u0453\u2277\u2a92" +
+            "\u2aa5\u2aa4\u2269\u2a8a\u2a8a\u2a88\u2a88\u2269\u22e7\ud835\udd58`\u210a\u2273\u2a8e\u2a90>\u2aa7\u2a7a" +
+            "\u22d7\u2995\u2a7c\u2a86\u2978\u22d7\u22db\u2a8c\u2277\u2273\u2269\ufe00\u2269\ufe00\u21d4\u200a\u00bd" +
+            "\u210b\u044a\u2194\u2948\u21ad\u210f\u0125\u2665\u2665\u2026\u22b9\ud835\udd25\u2925\u2926\u21ff\u223b" +
+            "\u21a9\u21aa\ud835\udd59\u2015\ud835\udcbd\u210f\u0127\u2043\u2010\u00ed\u2063\u00ee\u0438\u0435\u00a1" +
+            "\u21d4\ud835\udd26\u00ec\u2148\u2a0c\u222d\u29dc\u2129\u0133\u012b\u2111\u2110\u2111\u0131\u22b7\u01b5" +
+            "\u2208\u2105\u221e\u29dd\u0131\u222b\u22ba\u2124\u22ba\u2a17\u2a3c\u0451\u012f\ud835\udd5a\u03b9\u2a3c" +
+            "\u00bf\ud835\udcbe\u2208\u22f9\u22f5\u22f4\u22f3\u2208\u2062\u0129\u0456\u00ef\u0135\u0439\ud835\udd27" +
+            "\u0237\ud835\udd5b\ud835\udcbf\u0458\u0454\u03ba\u03f0\u0137\u043a\ud835\udd28\u0138\u0445\u045c\ud835" +
+            "\udd5c\ud835\udcc0\u21da\u21d0\u291b\u290e\u2266\u2a8b\u2962\u013a\u29b4\u2112\u03bb\u27e8\u2991\u27e8" +
+            "\u2a85\u00ab\u2190\u21e4\u291f\u291d\u21a9\u21ab\u2939\u2973\u21a2\u2aab\u2919\u2aad\u2aad\ufe00\u290c" +
+            "\u2772{[\u298b\u298f\u298d\u013e\u013c\u2308{\u043b\u2936\u201c\u201e\u2967\u294b\u21b2\u2264\u2190\u21a2" +
+            "\u21bd\u21bc\u21c7\u2194\u21c6\u21cb\u21ad\u22cb\u22da\u2264\u2266\u2a7d\u2a7d\u2aa8\u2a7f\u2a81\u2a83" +
+            "\u22da\ufe00\u2a93\u2a85\u22d6\u22da\u2a8b\u2276\u2272\u297c\u230a\ud835\udd29\u2276\u2a91\u21bd\u21bc" +
+            "\u296a\u2584\u0459\u226a\u21c7\u231e\u296b\u25fa\u0140\u23b0\u23b0\u2268\u2a89\u2a89\u2a87\u2a87\u2268" +
+            "\u22e6\u27ec\u21fd\u27e6\u27f5\u27f7\u27fc\u27f6\u21ab\u21ac\u2985\ud835\udd5d\u2a2d\u2a34\u2217_\u25ca" +
+            "\u25ca\u29eb(\u2993\u21c6\u231f\u21cb\u296d\u200e\u22bf\u2039\ud835\udcc1\u21b0\u2272\u2a8d\u2a8f[\u2018" +
+            "\u201a\u0142<\u2aa6\u2a79\u22d6\u22cb\u22c9\u2976\u2a7b\u2996\u25c3\u22b4\u25c2\u294a\u2966\u2268\ufe00" +
+            "\u2268\ufe00\u223a\u00af\u2642\u2720\u2720\u21a6\u21a6\u21a7\u21a4\u21a5\u25ae\u2a29\u043c\u2014\u2221" +
+            "\ud835\udd2a\u2127\u00b5\u2223*\u2af0\u00b7\u2212\u229f\u2238\u2a2a\u2adb\u2026\u2213\u22a7\ud835\udd5e" +
+            "\u2213\ud835\udcc2\u223e\u03bc\u22b8\u22b8\u22d9\u0338\u226b\u20d2\u226b\u0338\u21cd\u21ce\u22d8\u0338" +
+            "\u226a\u20d2\u226a\u0338\u21cf\u22af\u22ae\u2207\u0144\u2220\u20d2\u2249\u2a70\u0338\u224b\u0338\u0149" +
+            "\u2249\u266e\u266e\u2115\u00a0\u224e\u0338\u224f\u0338\u2a43\u0148\u0146\u2247\u2a6d\u0338\u2a42\u043d" +
+            "\u2013\u2260\u21d7\u2924\u2197\u2197\u2250\u0338\u2262\u2928\u2242\u0338\u2204\u2204\ud835\udd2b\u2267" +
+            "\u0338\u2271\u2271\u2267\u0338\u2a7e\u0338\u2a7e\u0338\u2275\u226f\u226f\u21ce\u21ae\u2af2\u220b\u22fc" +
+            "\u22fa\u220b\u045a\u21cd\u2266\u0338\u219a\u2025\u2270\u219a\u21ae\u2270\u2266\u0338\u2a7d\u0338\u2a7d" +
+            "\u0338\u226e\u2274\u226e\u22ea\u22ec\u2224\ud835\udd5f\u00ac\u2209\u22f9\u0338\u22f5\u0338\u2209\u22f7" +
+            "\u22f6\u220c\u220c\u22fe\u22fd\u2226\u2226\u2afd\u20e5\u2202\u0338\u2a14\u2280\u22e0\u2aaf\u0338\u2280" +
+            "\u2aaf\u0338\u21cf\u219b\u2933\u0338\u219d\u0338\u219b\u22eb\u22ed\u2281\u22e1\u2ab0\u0338\ud835\udcc3" +
+            "\u2224\u2226\u2241\u2244\u2244\u2224\u2226\u22e2\u22e3\u2284\u2ac5\u0338\u2288\u2282\u20d2\u2288\u2ac5" +
+            "\u0338\u2281\u2ab0\u0338\u2285\u2ac6\u0338\u2289\u2283\u20d2\u2289\u2ac6\u0338\u2279\u00f1\u2278\u22ea" +
+            "\u22ec\u22eb\u22ed\u03bd#\u2116\u2007\u22ad\u2904\u224d\u20d2\u22ac\u2265\u20d2>\u20d2\u29de\u2902\u2264" +
+            "\u20d2<\u20d2\u22b4\u20d2\u2903\u22b5\u20d2\u223c\u20d2\u21d6\u2923\u2196\u2196\u2927\u24c8\u00f3\u229b" +
+            "\u229a\u00f4\u043e\u229d\u0151\u2a38\u2299\u29bc\u0153\u29bf\ud835\udd2c\u02db\u00f2\u29c1\u29b5\u03a9" +
+            "\u222e\u21ba\u29be\u29bb\u203e\u29c0\u014d\u03c9\u03bf\u29b6\u2296\ud835\udd60\u29b7\u29b9\u2295\u2228" +
+            "\u21bb\u2a5d\u2134\u2134\u00aa\u00ba\u22b6\u2a56\u2a57\u2a5b\u2134\u00f8\u2298\u00f5\u2297\u2a36\u00f6" +
+            "\u233d\u2225\u00b6\u2225\u2af3\u2afd\u2202\u043f%.\u2030\u22a5\u2031\ud835\udd2d\u03c6\u03d5\u2133\u260e" +
+            "\u03c0\u22d4\u03d6\u210f\u210e\u210f+\u2a23\u229e\u2a22\u2214\u2a25\u2a72\u00b1\u2a26\u2a27\u00b1\u2a15" +
+            "\ud835\udd61\u00a3\u227a\u2ab3\u2ab7\u227c\u2aaf\u227a\u2ab7\u227c\u2aaf\u2ab9\u2ab5\u22e8\u227e\u2032" +
+            "\u2119\u2ab5\u2ab9\u22e8\u220f\u232e\u2312\u2313\u221d\u221d\u227e\u22b0\ud835\udcc5\u03c8\u2008\ud835" +
+            "\udd2e\u2a0c\ud835\udd62\u2057\ud835\udcc6\u210d\u2a16?\u225f\"\u21db\u21d2\u291c\u290f\u2964\u223d\u0331" +
+            "\u0155\u221a\u29b3\u27e9\u2992\u29a5\u27e9\u00bb\u2192\u2975\u21e5\u2920\u2933\u291e\u21aa\u21ac\u2945" +
+            "\u2974\u21a3\u219d\u291a\u2236\u211a\u290d\u2773}]\u298c\u298e\u2990\u0159\u0157\u2309}\u0440\u2937\u2969" +
+            "\u201d\u201d\u21b3\u211c\u211b\u211c\u211d\u25ad\u00ae\u297d\u230b\ud835\udd2f\u21c1\u21c0\u296c\u03c1" +
+            "\u03f1\u2192\u21a3\u21c1\u21c0\u21c4\u21cc\u21c9\u219d\u22cc\u02da\u2253\u21c4\u21cc\u200f\u23b1\u23b1" +
+            "\u2aee\u27ed\u21fe\u27e7\u2986\ud835\udd63\u2a2e\u2a35)\u2994\u2a12\u21c9\u203a\ud835\udcc7\u21b1]\u2019" +
+            "\u2019\u22cc\u22ca\u25b9\u22b5\u25b8\u29ce\u2968\u211e\u015b\u201a\u227b\u2ab4\u2ab8\u0161\u227d\u2ab0" +
+            "\u015f\u015d\u2ab6\u2aba\u22e9\u2a13\u227f\u0441\u22c5\u22a1\u2a66\u21d8\u2925\u2198\u2198\u00a7;\u2929" +
+            "\u2216\u2216\u2736\ud835\udd30\u2322\u266f\u0449\u0448\u2223\u2225\u00ad\u03c3\u03c2\u03c2\u223c\u2a6a" +
+            "\u2243\u2243\u2a9e\u2aa0\u2a9d\u2a9f\u2246\u2a24\u2972\u2190\u2216\u2a33\u29e4\u2223\u2323\u2aaa\u2aac" +
+            "\u2aac\ufe00\u044c/\u29c4\u233f\ud835\udd64\u2660\u2660\u2225\u2293\u2293\ufe00\u2294\u2294\ufe00\u228f" +
+            "\u2291\u228f\u2291\u2290\u2292\u2290\u2292\u25a1\u25a1\u25aa\u25aa\u2192\ud835\udcc8\u2216\u2323\u22c6" +
+            "\u2606\u2605\u03f5\u03d5\u00af\u2282\u2ac5\u2abd\u2286\u2ac3\u2ac1\u2acb\u228a\u2abf\u2979\u2282\u2286" +
+            "\u2ac5\u228a\u2acb\u2ac7\u2ad5\u2ad3\u227b\u2ab8\u227d\u2ab0\u2aba\u2ab6\u22e9\u227f\u2211\u266a\u2283" +
+            "\u00b9\u00b2\u00b3\u2ac6\u2abe\u2ad8\u2287\u2ac4\u27c9\u2ad7\u297b\u2ac2\u2acc\u228b\u2ac0\u2283\u2287" +
+            "\u2ac6\u228b\u2acc\u2ac8\u2ad4\u2ad6\u21d9\u2926\u2199\u2199\u292a\u00df\u2316\u03c4\u23b4\u0165\u0163" +
+            "\u0442\u20db\u2315\ud835\udd31\u2234\u2234\u03b8\u03d1\u03d1\u2248\u223c\u2009\u2248\u223c\u00fe\u02dc" +
+            "\u00d7\u22a0\u2a31\u2a30\u222d\u2928\u22a4\u2336\u2af1\ud835\udd65\u2ada\u2929\u2034\u2122\u25b5\u25bf" +
+            "\u25c3\u22b4\u225c\u25b9\u22b5\u25ec\u225c\u2a3a\u2a39\u29cd\u2a3b\u23e2\ud835\udcc9\u0446\u045b\u0167" +
+            "\u226c\u219e\u21a0\u21d1\u2963\u00fa\u2191\u045e\u016d\u00fb\u0443\u21c5\u0171\u296e\u297e\ud835\udd32" +
+            "\u00f9\u21bf\u21be\u2580\u231c\u231c\u230f\u25f8\u016b\u00a8\u0173\ud835\udd66\u2191\u2195\u21bf\u21be" +
+            "\u228e\u03c5\u03d2\u03c5\u21c8\u231d\u231d\u230e\u016f\u25f9\ud835\udcca\u22f0\u0169\u25b5\u25b4\u21c8" +
+            "\u00fc\u29a7\u21d5\u2ae8\u2ae9\u22a8\u299c\u03f5\u03f0\u2205\u03d5\u03d6\u221d\u2195\u03f1\u03c2\u228a" +
+            "\ufe00\u2acb\ufe00\u228b\ufe00\u2acc\ufe00\u03d1\u22b2\u22b3\u0432\u22a2\u2228\u22bb\u225a\u22ee||\ud835" +
+            "\udd33\u22b2\u2282\u20d2\u2283\u20d2\ud835\udd67\u221d\u22b3\ud835\udccb\u2acb\ufe00\u228a\ufe00\u2acc" +
+            "\ufe00\u228b\ufe00\u299a\u0175\u2a5f\u2227\u2259\u2118\ud835\udd34\ud835\udd68\u2118\u2240\u2240\ud835" +
+            "\udccc\u22c2\u25ef\u22c3\u25bd\ud835\udd35\u27fa\u27f7\u03be\u27f8\u27f5\u27fc\u22fb\u2a00\ud835\udd69" +
+            "\u2a01\u2a02\u27f9\u27f6\ud835\udccd\u2a06\u2a04\u25b3\u22c1\u22c0\u00fd\u044f\u0177\u044b\u00a5\ud835" +
+            "\udd36\u0457\ud835\udd6a\ud835\udcce\u044e\u00ff\u017a\u017e\u0437\u017c\u2128\u03b6\ud835\udd37\u0436" +
+            "\u21dd\ud835\udd6b\ud835\udccf\u200d\u200c";
+
+    static final String VALUE_OFFSETS =
+            "\u0000\u0001\u0002\u0003\u0004\u0005\u0006\u0008\u0009\n\u000b\u000c\r\u000f\u0010\u0011\u0013\u0014" +
+            "\u0015\u0016\u0017\u0018\u0019\u001a\u001b\u001c\u001d\u001f!\"#$%&'()*+,-./0123456789:;<=>?@ABCEFGH" +
+            "IJKLMNOPQRSUVWXYZ[\\^_`abcdefghijklmnopqrstuvwxyz{|}\u007f\u0080\u0081\u0082\u0083\u0084\u0085\u0086" +
+            "\u0087\u0089\u008a\u008b\u008c\u008d\u008e\u008f\u0091\u0092\u0093\u0094\u0095\u0096\u0097\u0098\u0099" +
+            "\u009a\u009b\u009c\u009e\u009f\u00a0\u00a2\u00a3\u00a4\u00a5\u00a6\u00a7\u00a8\u00a9\u00aa\u00ab\u00ac" +
+            "\u00ad\u00ae\u00b0\u00b1\u00b3\u00b4\u00b5\u00b6\u00b7\u00b8\u00b9\u00ba\u00bc\u00bd\u00be\u00bf\u00c0" +
+            "\u00c1\u00c2\u00c3\u00c4\u00c5\u00c6\u00c7\u00c8\u00c9\u00ca\u00cb\u00cc\u00cd\u00ce\u00cf\u00d0\u00d1" +
+            "\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u00d8\u00d9\u00da\u00db\u00dc\u00de\u00df\u00e0\u00e1\u00e2\u00e3" +
+            "\u00e4\u00e5\u00e7\u00e9\u00eb\u00ec\u00ed\u00ee\u00ef\u00f0\u00f1\u00f2\u00f4\u00f6\u00f8\u00f9\u00fa" +
+            "\u00fb\u00fc\u00fd\u00fe\u00ff\u0100\u0101\u0102\u0103\u0104\u0105\u0106\u0107\u0108\u0109\u010a\u010b" +
+            "\u010c\u010d\u010e\u010f\u0110\u0111\u0112\u0113\u0114\u0115\u0116\u0117\u0118\u0119\u011a\u011b\u011c" +
+            "\u011d\u011e\u011f\u0120\u0121\u0122\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b\u012c\u012d\u012f" +
+            "\u0130\u0131\u0132\u0133\u0134\u0135\u0136\u0137\u0138\u0139\u013b\u013c\u013e\u013f\u0140\u0141\u0142" +
+            "\u0143\u0144\u0145\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u014e\u014f\u0150\u0151\u0152\u0153\u0154" +
+            "\u0155\u0156\u0157\u0159\u015a\u015b\u015c\u015e\u0160\u0161\u0163\u0164\u0166\u0168\u0169\u016b\u016c" +
+            "\u016d\u016e\u016f\u0171\u0173\u0174\u0176\u0178\u0179\u017b\u017c\u017d\u017e\u0180\u0181\u0183\u0184" +
+            "\u0186\u0187\u0189\u018a\u018b\u018d\u018e\u0190\u0192\u0193\u0194\u0195\u0196\u0197\u0198\u019a\u019b" +
+            "\u019c\u019d\u019e\u019f\u01a0\u01a1\u01a3\u01a4\u01a5\u01a6\u01a7\u01a9\u01aa\u01ab\u01ac\u01ae\u01af" +
+            "\u01b0\u01b1\u01b2\u01b3\u01b4\u01b5\u01b6\u01b7\u01b8\u01ba\u01bb\u01bc\u01bd\u01be\u01bf\u01c0\u01c1" +
+            "\u01c2\u01c3\u01c4\u01c5\u01c6\u01c7\u01c8\u01ca\u01cb\u01cc\u01ce\u01cf\u01d1\u01d2\u01d3\u01d4\u01d5" +
+            "\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1\u01e2\u01e3\u01e4\u01e5\u01e6" +
+            "\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1\u01f2\u01f3\u01f4\u01f5\u01f6\u01f7" +
+            "\u01f8\u01f9\u01fa\u01fb\u01fc\u01fd\u01fe\u01ff\u0200\u0201\u0202\u0203\u0204\u0205\u0206\u0208\u0209" +
+            "\u020a\u020b\u020c\u020d\u020e\u0210\u0211\u0212\u0213\u0214\u0215\u0216\u0217\u0218\u021a\u021b\u021c" +
+            "\u021d\u021e\u021f\u0220\u0221\u0222\u0223\u0224\u0225\u0226\u0227\u0228\u0229\u022a\u022b\u022c\u022d" +
+            "\u022e\u022f\u0230\u0231\u0233\u0234\u0235\u0237\u0238\u0239\u023a\u023b\u023c\u023e\u023f\u0241\u0242" +
+            "\u0243\u0244\u0245\u0246\u0247\u0248\u0249\u024a\u024c\u024d\u024e\u024f\u0250\u0251\u0252\u0253\u0254" +
+            "\u0255\u0257\u0258\u0259\u025a\u025b\u025c\u025d\u025e\u025f\u0260\u0261\u0262\u0263\u0264\u0265\u0267" +
+            "\u0268\u0269\u026a\u026b\u026c\u026d\u026e\u026f\u0270\u0271\u0272\u0273\u0274\u0275\u0276\u0278\u027a" +
+            "\u027c\u027d\u027e\u027f\u0281\u0283\u0285\u0287\u0288\u028a\u028c\u028d\u028e\u028f\u0290\u0291\u0292" +
+            "\u0294\u0296\u0298\u0299\u029a\u029b\u029c\u029d\u029e\u029f\u02a0\u02a1\u02a2\u02a4\u02a5\u02a6\u02a7" +
+            "\u02a9\u02aa\u02ab\u02ac\u02ad\u02ae\u02af\u02b1\u02b2\u02b3\u02b4\u02b5\u02b6\u02b7\u02b8\u02b9\u02ba" +
+            "\u02bb\u02bc\u02bd\u02be\u02bf\u02c0\u02c1\u02c2\u02c3\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb" +
+            "\u02cc\u02cd\u02ce\u02cf\u02d0\u02d2\u02d3\u02d4\u02d5\u02d6\u02d7\u02d8\u02d9\u02da\u02db\u02dd\u02de" +
+            "\u02df\u02e0\u02e1\u02e2\u02e3\u02e4\u02e5\u02e6\u02e7\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef" +
+            "\u02f0\u02f1\u02f2\u02f3\u02f4\u02f5\u02f6\u02f7\u02f8\u02f9\u02fa\u02fc\u02fd\u02fe\u02ff\u0300\u0301" +
+            "\u0302\u0303\u0304\u0305\u0306\u0307\u0308\u0309\u030a\u030b\u030c\u030d\u030e\u030f\u0310\u0311\u0312" +
+            "\u0313\u0314\u0315\u0317\u0319\u031a\u031c\u031d\u031e\u031f\u0320\u0321\u0322\u0323\u0324\u0325\u0326" +
+            "\u0327\u0328\u0329\u032a\u032b\u032c\u032d\u032e\u032f\u0330\u0331\u0332\u0333\u0334\u0335\u0336\u0337" +
+            "\u0338\u0339\u033a\u033b\u033c\u033d\u033e\u033f\u0340\u0341\u0342\u0343\u0344\u0345\u0346\u0347\u0348" +
+            "\u0349\u034a\u034b\u034c\u034d\u034e\u0350\u0351\u0352\u0353\u0354\u0355\u0356\u0357\u0358\u0359\u035a" +
+            "\u035b\u035c\u035d\u035e\u035f\u0360\u0361\u0362\u0363\u0365\u0366\u0367\u0368\u0369\u036a\u036b\u036c" +
+            "\u036d\u036e\u036f\u0370\u0371\u0372\u0374\u0375\u0376\u0377\u0378\u0379\u037a\u037b\u037c\u037d\u037e" +
+            "\u037f\u0380\u0381\u0382\u0383\u0384\u0385\u0386\u0387\u0388\u0389\u038a\u038b\u038c\u038d\u038e\u038f" +
+            "\u0390\u0391\u0392\u0393\u0394\u0395\u0397\u0398\u0399\u039a\u039b\u039c\u039e\u039f\u03a0\u03a1\u03a2" +
+            "\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8\u03a9\u03aa\u03ab\u03ac\u03ad\u03ae\u03af\u03b1\u03b2\u03b3\u03b4" +
+            "\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1\u03c2\u03c3\u03c4\u03c5" +
+            "\u03c6\u03c7\u03c8\u03c9\u03ca\u03cb\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2\u03d4\u03d5\u03d6\u03d7" +
+            "\u03d8\u03d9\u03da\u03db\u03dc\u03dd\u03de\u03df\u03e0\u03e1\u03e2\u03e3\u03e4\u03e5\u03e7\u03e8\u03e9" +
+            "\u03ea\u03eb\u03ec\u03ed\u03ee\u03ef\u03f0\u03f1\u03f2\u03f3\u03f4\u03f5\u03f7\u03f8\u03f9\u03fa\u03fb" +
+            "\u03fc\u03fd\u03fe\u03ff\u0400\u0401\u0402\u0403\u0404\u0405\u0406\u0407\u0408\u0409\u040a\u040b\u040c" +
+            "\u040d\u040e\u0410\u0411\u0412\u0413\u0414\u0415\u0416\u0417\u0418\u0419\u041a\u041b\u041c\u041d\u041e" +
+            "\u041f\u0420\u0421\u0422\u0423\u0425\u0426\u0427\u0428\u0429\u042a\u042b\u042c\u042d\u042e\u042f\u0430" +
+            "\u0431\u0432\u0433\u0434\u0435\u0436\u0437\u0438\u0439\u043a\u043b\u043c\u043d\u043e\u043f\u0440\u0441" +
+            "\u0442\u0443\u0444\u0445\u0446\u0447\u0448\u044a\u044b\u044d\u044e\u044f\u0450\u0451\u0453\u0454\u0455" +
+            "\u0456\u0457\u0458\u0459\u045a\u045b\u045c\u045d\u045e\u045f\u0460\u0461\u0462\u0463\u0464\u0465\u0466" +
+            "\u0467\u0468\u046a\u046b\u046c\u046d\u046e\u046f\u0470\u0471\u0472\u0473\u0474\u0475\u0476\u0477\u0478" +
+            "\u0479\u047a\u047b\u047c\u047d\u047e\u0480\u0481\u0483\u0484\u0485\u0486\u0487\u0488\u0489\u048a\u048b" +
+            "\u048c\u048d\u048e\u048f\u0490\u0491\u0492\u0494\u0495\u0496\u0497\u0498\u0499\u049a\u049b\u049c\u049d" +
+            "\u049e\u049f\u04a0\u04a1\u04a2\u04a3\u04a4\u04a5\u04a6\u04a8\u04aa\u04ab\u04ac\u04ad\u04ae\u04af\u04b0" +
+            "\u04b1\u04b2\u04b3\u04b4\u04b5\u04b6\u04b7\u04b8\u04ba\u04bb\u04bc\u04bd\u04be\u04bf\u04c0\u04c2\u04c3" +
+            "\u04c5\u04c6\u04c7\u04c8\u04c9\u04ca\u04cb\u04cc\u04cd\u04ce\u04cf\u04d0\u04d2\u04d3\u04d4\u04d5\u04d6" +
+            "\u04d7\u04d8\u04d9\u04da\u04db\u04dc\u04dd\u04de\u04df\u04e0\u04e1\u04e2\u04e3\u04e4\u04e5\u04e6\u04e7" +
+            "\u04e8\u04e9\u04ea\u04eb\u04ec\u04ed\u04ef\u04f0\u04f1\u04f2\u04f4\u04f5\u04f6\u04f7\u04f8\u04f9\u04fa" +
+            "\u04fb\u04fc\u04fd\u04fe\u04ff\u0500\u0502\u0503\u0505\u0507\u0508\u0509\u050a\u050b\u050c\u050d\u050f" +
+            "\u0510\u0511\u0512\u0514\u0516\u0517\u0518\u0519\u051a\u051b\u051c\u051d\u051e\u051f\u0520\u0521\u0522" +
+            "\u0523\u0524\u0525\u0526\u0527\u0528\u0529\u052a\u052b\u052c\u052d\u052e\u052f\u0530\u0531\u0532\u0534" +
+            "\u0535\u0536\u0537\u0538\u0539\u053a\u053b\u053c\u053d\u053e\u053f\u0540\u0541\u0542\u0543\u0544\u0545" +
+            "\u0546\u0547\u0548\u0549\u054a\u054b\u054c\u054d\u054e\u054f\u0550\u0551\u0552\u0553\u0554\u0555\u0556" +
+            "\u0557\u0558\u0559\u055a\u055c\u055d\u055e\u055f\u0560\u0561\u0562\u0563\u0564\u0565\u0567\u0568\u0569" +
+            "\u056a\u056b\u056c\u056d\u056e\u056f\u0570\u0571\u0572\u0573\u0574\u0575\u0576\u0577\u0578\u0579\u057a" +
+            "\u057b\u057c\u057d\u057e\u057f\u0580\u0581\u0582\u0583\u0584\u0585\u0586\u0587\u0589\u058a\u058b\u058c" +
+            "\u058d\u058e\u058f\u0590\u0591\u0592\u0593\u0594\u0595\u0596\u0597\u0598\u0599\u059b\u059c\u059d\u059e" +
+            "\u059f\u05a0\u05a1\u05a2\u05a3\u05a4\u05a5\u05a6\u05a7\u05a8\u05a9\u05aa\u05ab\u05ac\u05ad\u05ae\u05af" +
+            "\u05b0\u05b1\u05b3\u05b5\u05b6\u05b7\u05b8\u05b9\u05ba\u05bb\u05bc\u05bd\u05be\u05bf\u05c0\u05c1\u05c2" +
+            "\u05c3\u05c4\u05c6\u05c7\u05c8\u05c9\u05ca\u05cb\u05cc\u05cd\u05ce\u05cf\u05d0\u05d1\u05d2\u05d3\u05d4" +
+            "\u05d6\u05d7\u05d9\u05da\u05db\u05dc\u05dd\u05df\u05e1\u05e3\u05e4\u05e5\u05e7\u05e9\u05eb\u05ec\u05ed" +
+            "\u05ee\u05ef\u05f0\u05f2\u05f3\u05f5\u05f7\u05f8\u05f9\u05fa\u05fb\u05fc\u05fd\u05ff\u0601\u0602\u0603" +
+            "\u0604\u0605\u0607\u0608\u0609\u060a\u060b\u060c\u060d\u060e\u060f\u0611\u0612\u0613\u0615\u0616\u0617" +
+            "\u0619\u061b\u061c\u061d\u061f\u0621\u0623\u0624\u0625\u0626\u0627\u0628\u0629\u062a\u062b\u062c\u062d" +
+            "\u062e\u062f\u0631\u0632\u0633\u0634\u0635\u0636\u0637\u0639\u063b\u063d\u063e\u063f\u0640\u0641\u0642" +
+            "\u0643\u0645\u0646\u0647\u0649\u064b\u064c\u064d\u064e\u064f\u0650\u0651\u0652\u0653\u0654\u0656\u0658" +
+            "\u0659\u065a\u065b\u065d\u065e\u0660\u0661\u0662\u0664\u0666\u0667\u0668\u0669\u066a\u066b\u066d\u066f" +
+            "\u0670\u0671\u0672\u0673\u0674\u0675\u0676\u0677\u0678\u0679\u067b\u067c\u067e\u067f\u0681\u0682\u0684" +
+            "\u0685\u0687\u0688\u068a\u068b\u068d\u068e\u068f\u0690\u0691\u0692\u0693\u0694\u0695\u0696\u0697\u0698" +
+            "\u0699\u069a\u069c\u069d\u069f\u06a1\u06a2\u06a3\u06a5\u06a7\u06a9\u06aa\u06ac\u06ae\u06af\u06b0\u06b1" +
+            "\u06b2\u06b3\u06b4\u06b5\u06b6\u06b7\u06b8\u06b9\u06ba\u06bb\u06bc\u06bd\u06be\u06bf\u06c0\u06c2\u06c3" +
+            "\u06c4\u06c5\u06c6\u06c7\u06c8\u06c9\u06ca\u06cb\u06cc\u06cd\u06ce\u06cf\u06d0\u06d1\u06d2\u06d4\u06d5" +
+            "\u06d6\u06d7\u06d8\u06d9\u06da\u06db\u06dc\u06dd\u06de\u06df\u06e0\u06e1\u06e2\u06e3\u06e4\u06e5\u06e6" +
+            "\u06e7\u06e8\u06e9\u06ea\u06eb\u06ec\u06ed\u06ee\u06ef\u06f0\u06f1\u06f2\u06f3\u06f4\u06f5\u06f6\u06f8" +
+            "\u06f9\u06fa\u06fb\u06fc\u06fd\u06fe\u06ff\u0700\u0701\u0702\u0703\u0704\u0705\u0706\u0707\u0708\u0709" +
+            "\u070a\u070b\u070c\u070d\u070e\u0710\u0711\u0712\u0713\u0714\u0715\u0716\u0717\u0718\u0719\u071a\u071b" +
+            "\u071c\u071d\u071e\u071f\u0720\u0721\u0722\u0723\u0724\u0725\u0726\u0727\u0728\u0729\u072a\u072b\u072d" +
+            "\u072e\u072f\u0731\u0732\u0734\u0735\u0737\u0738\u0739\u073a\u073b\u073c\u073d\u073e\u073f\u0740\u0741" +
+            "\u0743\u0744\u0745\u0746\u0747\u0748\u0749\u074a\u074b\u074c\u074d\u074e\u074f\u0750\u0751\u0752\u0753" +
+            "\u0754\u0755\u0756\u0757\u0758\u0759\u075a\u075b\u075c\u075d\u075e\u075f\u0760\u0761\u0762\u0763\u0764" +
+            "\u0765\u0766\u0767\u0768\u0769\u076a\u076b\u076c\u076d\u076e\u076f\u0770\u0771\u0772\u0773\u0775\u0776" +
+            "\u0777\u0778\u0779\u077a\u077b\u077c\u077d\u077e\u077f\u0780\u0781\u0782\u0783\u0784\u0785\u0786\u0787" +
+            "\u0788\u0789\u078a\u078b\u078c\u078d\u078e\u078f\u0791\u0792\u0793\u0794\u0795\u0796\u0797\u0798\u079a" +
+            "\u079b\u079c\u079d\u079e\u079f\u07a0\u07a1\u07a2\u07a3\u07a4\u07a5\u07a6\u07a7\u07a8\u07a9\u07aa\u07ab" +
+            "\u07ac\u07ad\u07ae\u07af\u07b0\u07b1\u07b2\u07b3\u07b4\u07b5\u07b6\u07b7\u07b8\u07b9\u07ba\u07bb\u07bc" +
+            "\u07bd\u07be\u07bf\u07c0\u07c1\u07c2\u07c3\u07c5\u07c6\u07c7\u07c8\u07c9\u07ca\u07cb\u07cc\u07cd\u07ce" +
+            "\u07cf\u07d0\u07d1\u07d2\u07d3\u07d4\u07d5\u07d6\u07d7\u07d8\u07d9\u07da\u07db\u07dc\u07dd\u07de\u07df" +
+            "\u07e0\u07e1\u07e2\u07e4\u07e5\u07e6\u07e7\u07e8\u07ea\u07eb\u07ec\u07ed\u07ee\u07f0\u07f1\u07f3\u07f4" +
+            "\u07f5\u07f6\u07f7\u07f8\u07f9\u07fa\u07fb\u07fc\u07fd\u07fe\u07ff\u0800\u0802\u0803\u0804\u0805\u0806" +
+            "\u0807\u0808\u0809\u080a\u080b\u080c\u080d\u080e\u080f\u0810\u0811\u0812\u0813\u0814\u0815\u0816\u0817" +
+            "\u0818\u0819\u081a\u081b\u081c\u081d\u081e\u081f\u0820\u0821\u0822\u0823\u0824\u0825\u0826\u0827\u0828" +
+            "\u0829\u082a\u082b\u082c\u082d\u082e\u082f\u0830\u0831\u0832\u0833\u0834\u0835\u0836\u0837\u0838\u0839" +
+            "\u083a\u083b\u083c\u083d\u083e\u083f\u0840\u0841\u0842\u0843\u0844\u0845\u0846\u0847\u0848\u0849\u084a" +
+            "\u084b\u084c\u084e\u084f\u0850\u0851\u0852\u0853\u0854\u0855\u0856\u0857\u0858\u0859\u085a\u085b\u085c" +
+            "\u085d\u085e\u085f\u0860\u0861\u0862\u0863\u0865\u0866\u0867\u0868\u0869\u086a\u086b\u086c\u086d\u086e" +
+            "\u086f\u0870\u0871\u0872\u0873\u0874\u0875\u0876\u0877\u0879\u087a\u087b\u087c\u087d\u087e\u087f\u0880" +
+            "\u0881\u0882\u0883\u0884\u0885\u0886\u0887\u0888\u0889\u088a\u088b\u088d\u088e\u088f\u0890\u0891\u0892" +
+            "\u0893\u0894\u0895\u0896\u0897\u0898\u089a\u089b\u089c\u089d\u089e\u089f\u08a0\u08a1\u08a2\u08a3\u08a4" +
+            "\u08a5\u08a6\u08a7\u08a8\u08aa\u08ab\u08ac\u08ad\u08ae\u08af\u08b0\u08b1\u08b2\u08b3\u08b4\u08b5\u08b6" +
+            "\u08b7\u08b8\u08b9\u08ba\u08bb\u08bc\u08bd\u08be\u08bf\u08c1\u08c3\u08c5\u08c7\u08c8\u08c9\u08ca\u08cb" +
+            "\u08cc\u08cd\u08ce\u08cf\u08d0\u08d1\u08d2\u08d4\u08d5\u08d7\u08d9\u08db\u08dc\u08dd\u08df\u08e1\u08e3" +
+            "\u08e5\u08e7\u08e8\u08e9\u08ea\u08eb\u08ec\u08ed\u08ef\u08f1\u08f2\u08f3\u08f4\u08f6\u08f7\u08f8\u08f9" +
+            "\u08fa\u08fc\u08fd\u08fe\u08ff\u0900\u0901\u0902\u0903\u0904\u0906\u0907\u0908\u0909\u090a\u090c\u090d" +
+            "\u090e\u090f\u0910\u0911\u0912\u0913\u0914\u0915\u0916\u0918\u0919\u091b\u091d\u091e\u091f\u0920\u0921" +
+            "\u0922\u0923\u0924\u0925\u0927\u0928\u0929\u092b\u092d\u092e\u092f";
+}
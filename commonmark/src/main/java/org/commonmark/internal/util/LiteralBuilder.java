@@ -0,0 +1,66 @@
+package org.commonmark.internal.util;
+
+/**
+ * Builds a literal from parts (e.g. the lines of a code block). As long as the parts are {@link CharSlice slices}
+ * that are next to each other in the input, the result is a slice as well; otherwise the parts are copied.
+ */
+public class LiteralBuilder {
+
+    private boolean empty = true;
+    // Either the slice of the parts so far, or the builder with a copy of them
+    private CharSlice slice;
+    private StringBuilder sb;
+
+    public void append(CharSequence part) {
+        if (sb != null) {
+            sb.append(part);
+        } else if (empty) {
+            empty = false;
+            if (part instanceof CharSlice) {
+                slice = (CharSlice) part;
+            } else {
+                sb = new StringBuilder(part);
+            }
+        } else {
+            CharSlice joined = part.length() == 0 ? slice : CharSlice.join(slice, part);
+            if (joined != null) {
+                slice = joined;
+            } else {
+                copy().append(part);
+            }
+        }
+    }
+
+    public void append(char c) {
+        if (sb != null) {
+            sb.append(c);
+        } else if (empty) {
+            empty = false;
+            sb = new StringBuilder().append(c);
+        } else {
+            CharSlice extended = slice.extend(c);
+            if (extended != null) {
+                slice = extended;
+            } else {
+                copy().append(c);
+            }
+        }
+    }
+
+    public CharSequence build() {
+        if (sb != null) {
+            return sb.toString();
+        } else if (slice != null) {
+            return slice;
+        } else {
+            return "";
+        }
+    }
+
+    private StringBuilder copy() {
+        sb = new StringBuilder(slice.length() + 16);
+        sb.append(slice);
+        slice = null;
+        return sb;
+    }
+}
@@ -0,0 +1,87 @@
+package org.commonmark.internal.util;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A view of UTF-8 encoded bytes as a {@link CharSequence} where each byte is one char. For ASCII content, that is the
+ * same as the decoded text. For other content, ASCII characters such as line breaks can still be found without
+ * decoding, because in UTF-8 the bytes of multi-byte sequences are never in the ASCII range.
+ * <p>
+ * Use {@link #decode(int, int)} to get the actual characters of a range.
+ */
+public class Utf8Bytes implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int end;
+
+    private Utf8Bytes(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @param buffer the buffer, the bytes between its position and limit are used (the position is not changed)
+     */
+    public static Utf8Bytes of(ByteBuffer buffer) {
+        return new Utf8Bytes(buffer, buffer.position(), buffer.limit());
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for length " + (end - start));
+        }
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    @Override
+    public Utf8Bytes subSequence(int start, int end) {
+        if (start < 0 || end > this.end - this.start || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + (this.end - this.start));
+        }
+        return new Utf8Bytes(buffer, this.start + start, this.start + end);
+    }
+
+    /**
+     * Decode the specified range. If it only contains ASCII, this doesn't copy anything and returns a view of the
+     * bytes. Otherwise, the range is decoded (malformed input is replaced with {@code U+FFFD}).
+     *
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     * @return the decoded characters
+     */
+    public CharSequence decode(int start, int end) {
+        Utf8Bytes bytes = subSequence(start, end);
+        return bytes.isAscii() ? bytes : bytes.toString();
+    }
+
+    /**
+     * @return the decoded characters
+     */
+    @Override
+    public String toString() {
+        ByteBuffer bytes = buffer.duplicate();
+        // Cast to Buffer so that this works with Java 8 at runtime (covariant overrides were added in 9)
+        ((Buffer) bytes).limit(end);
+        ((Buffer) bytes).position(start);
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    private boolean isAscii() {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
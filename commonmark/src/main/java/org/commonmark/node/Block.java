@@ -5,6 +5,8 @@ package org.commonmark.node;
  */
 public abstract class Block extends Node {
 
+    private volatile LazyChildren lazyChildren = null;
+
     public Block getParent() {
         return (Block) super.getParent();
     }
@@ -16,4 +18,74 @@ public abstract class Block extends Node {
         }
         super.setParent(parent);
     }
+
+    @Override
+    public Node getFirstChild() {
+        appendLazyChildren();
+        return super.getFirstChild();
+    }
+
+    @Override
+    public Node getLastChild() {
+        appendLazyChildren();
+        return super.getLastChild();
+    }
+
+    @Override
+    public void appendChild(Node child) {
+        appendLazyChildren();
+        super.appendChild(child);
+    }
+
+    @Override
+    public void prependChild(Node child) {
+        appendLazyChildren();
+        super.prependChild(child);
+    }
+
+    /**
+     * Set children that are only created when the children of this block are first accessed, e.g. inline content that
+     * is parsed on demand (see {@link org.commonmark.parser.Parser.Builder#lazyInlines(boolean)}). They are appended
+     * after the children that the block already has.
+     * <p>
+     * The children are created once, even when the block is accessed from multiple threads at the same time.
+     *
+     * @param lazyChildren the lazy children, or null to not create any
+     * @since 0.22.0
+     */
+    public void setLazyChildren(LazyChildren lazyChildren) {
+        this.lazyChildren = lazyChildren;
+    }
+
+    private void appendLazyChildren() {
+        LazyChildren lazy = lazyChildren;
+        // While the children are being created, the code creating them can access them
+        if (lazy != null && !Thread.holdsLock(lazy)) {
+            synchronized (lazy) {
+                // Another thread might have created them while this one was waiting
+                if (lazyChildren == lazy) {
+                    try {
+                        lazy.appendTo(this);
+                    } finally {
+                        lazyChildren = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Children of a block that are created on demand, see {@link #setLazyChildren(LazyChildren)}.
+     *
+     * @since 0.22.0
+     */
+    public interface LazyChildren {
+
+        /**
+         * Create the children and append them to the block.
+         *
+         * @param block the block that the children belong to
+         */
+        void appendTo(Block block);
+    }
 }
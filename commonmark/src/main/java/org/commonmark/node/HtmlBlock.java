@@ -7,18 +7,40 @@ package org.commonmark.node;
  */
 public class HtmlBlock extends Block {
 
-    private String literal;
+    private CharSequence literal;
 
     @Override
     public void accept(Visitor visitor) {
         visitor.visit(this);
     }
 
+    /**
+     * @return the literal, converted to a string if it's a slice of the input, see {@link Text#getLiteral()}
+     */
     public String getLiteral() {
-        return literal;
+        if (literal != null && !(literal instanceof String)) {
+            literal = literal.toString();
+        }
+        return (String) literal;
     }
 
     public void setLiteral(String literal) {
         this.literal = literal;
     }
+
+    /**
+     * @return the literal without converting it, see {@link Text#getLiteralSequence()}
+     * @since 0.22.0
+     */
+    public CharSequence getLiteralSequence() {
+        return literal;
+    }
+
+    /**
+     * @param literal the literal, must not be changed afterwards
+     * @since 0.22.0
+     */
+    public void setLiteralSequence(CharSequence literal) {
+        this.literal = literal;
+    }
 }
@@ -1,8 +1,10 @@
 package org.commonmark.node;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * The base class of all CommonMark AST nodes ({@link Block} and inlines).
@@ -16,7 +18,10 @@ public abstract class Node {
     private Node lastChild = null;
     private Node prev = null;
     private Node next = null;
-    private List<SourceSpan> sourceSpans = null;
+    // The source spans packed into an array, because a list of span objects would need a lot more memory than the node
+    // itself: The number of spans, followed by line index, column index and length of each span. The array can have
+    // room for more spans.
+    private int[] sourceSpans = null;
 
     public abstract void accept(Visitor visitor);
 
@@ -120,7 +125,7 @@ public abstract class Node {
      * @since 0.16.0
      */
     public List<SourceSpan> getSourceSpans() {
-        return sourceSpans != null ? Collections.unmodifiableList(sourceSpans) : Collections.<SourceSpan>emptyList();
+        return sourceSpans != null ? new SourceSpanList() : Collections.<SourceSpan>emptyList();
     }
 
     /**
@@ -130,10 +135,28 @@ public abstract class Node {
      * @since 0.16.0
      */
     public void setSourceSpans(List<SourceSpan> sourceSpans) {
-        if (sourceSpans.isEmpty()) {
+        int count = sourceSpans.size();
+        if (count == 0) {
             this.sourceSpans = null;
+        } else if (sourceSpans instanceof SourceSpanList) {
+            // Copy the packed spans of the other node directly
+            Node other = ((SourceSpanList) sourceSpans).node();
+            this.sourceSpans = Arrays.copyOf(other.sourceSpans, 1 + count * 3);
         } else {
-            this.sourceSpans = new ArrayList<>(sourceSpans);
+            int[] packed = new int[1 + count * 3];
+            int packedCount = 0;
+            for (int i = 0; i < count; i++) {
+                SourceSpan sourceSpan = sourceSpans.get(i);
+                // Null spans are ignored, as in addSourceSpan
+                if (sourceSpan != null) {
+                    packed[1 + packedCount * 3] = sourceSpan.getLineIndex();
+                    packed[2 + packedCount * 3] = sourceSpan.getColumnIndex();
+                    packed[3 + packedCount * 3] = sourceSpan.getLength();
+                    packedCount++;
+                }
+            }
+            packed[0] = packedCount;
+            this.sourceSpans = packedCount != 0 ? packed : null;
         }
     }
 
@@ -144,10 +167,23 @@ public abstract class Node {
      * @since 0.16.0
      */
     public void addSourceSpan(SourceSpan sourceSpan) {
+        if (sourceSpan == null) {
+            // A null span has nothing to pack, e.g. from block parsers that pass on the span of a line without spans
+            return;
+        }
         if (sourceSpans == null) {
-            this.sourceSpans = new ArrayList<>();
+            sourceSpans = new int[4];
+        }
+        int count = sourceSpans[0];
+        int index = 1 + count * 3;
+        if (index == sourceSpans.length) {
+            // Most nodes have a single span, blocks have one per line and grow by half
+            sourceSpans = Arrays.copyOf(sourceSpans, index + (count + 1) / 2 * 3);
         }
-        this.sourceSpans.add(sourceSpan);
+        sourceSpans[index] = sourceSpan.getLineIndex();
+        sourceSpans[index + 1] = sourceSpan.getColumnIndex();
+        sourceSpans[index + 2] = sourceSpan.getLength();
+        sourceSpans[0] = count + 1;
     }
 
     @Override
@@ -158,4 +194,30 @@ public abstract class Node {
     protected String toStringAttributes() {
         return "";
     }
+
+    /**
+     * Read-only view of the packed source spans, the span objects are created when they're accessed.
+     */
+    private class SourceSpanList extends AbstractList<SourceSpan> implements RandomAccess {
+
+        @Override
+        public SourceSpan get(int index) {
+            int size = size();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            int i = 1 + index * 3;
+            return SourceSpan.of(sourceSpans[i], sourceSpans[i + 1], sourceSpans[i + 2]);
+        }
+
+        @Override
+        public int size() {
+            // The spans can have been removed after the view was created
+            return sourceSpans != null ? sourceSpans[0] : 0;
+        }
+
+        Node node() {
+            return Node.this;
+        }
+    }
 }
@@ -2,7 +2,7 @@ package org.commonmark.node;
 
 public class Text extends Node {
 
-    private String literal;
+    private CharSequence literal;
 
     public Text() {
     }
@@ -16,14 +16,40 @@ public class Text extends Node {
         visitor.visit(this);
     }
 
+    /**
+     * @return the literal; if it's a slice of the input (see
+     * {@link org.commonmark.parser.Parser.Builder#sliceLiterals(boolean)}), it's converted to a string now and kept
+     */
     public String getLiteral() {
-        return literal;
+        if (literal != null && !(literal instanceof String)) {
+            literal = literal.toString();
+        }
+        return (String) literal;
     }
 
     public void setLiteral(String literal) {
         this.literal = literal;
     }
 
+    /**
+     * Get the literal without converting it to a string, for code that only needs to read the chars (e.g. to write
+     * them somewhere). That keeps a slice of the input a slice.
+     *
+     * @return the literal, a string or a slice of the input
+     * @since 0.22.0
+     */
+    public CharSequence getLiteralSequence() {
+        return literal;
+    }
+
+    /**
+     * @param literal the literal, must not be changed afterwards (so not e.g. a {@link StringBuilder} that's reused)
+     * @since 0.22.0
+     */
+    public void setLiteralSequence(CharSequence literal) {
+        this.literal = literal;
+    }
+
     @Override
     protected String toStringAttributes() {
         return "literal=" + literal;
@@ -0,0 +1,24 @@
+package org.commonmark.parser;
+
+import org.commonmark.node.Node;
+
+/**
+ * Receives the top-level blocks of a document one by one while parsing, see
+ * {@link Parser#parse(String, BlockHandler)}.
+ *
+ * @since 0.22.0
+ */
+public interface BlockHandler {
+
+    /**
+     * Handle a top-level block of the document. The block is complete: its inline content has been parsed and post
+     * processors have been applied. It has no parent and no siblings, and the parser doesn't keep a reference to it.
+     * <p>
+     * Blocks are handled in document order. Besides the usual blocks, this also includes
+     * {@link org.commonmark.node.LinkReferenceDefinition} nodes, same as in the document returned by
+     * {@link Parser#parse(String)}.
+     *
+     * @param block the block
+     */
+    void handleBlock(Node block);
+}
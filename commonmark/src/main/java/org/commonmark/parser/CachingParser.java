@@ -0,0 +1,283 @@
+package org.commonmark.parser;
+
+import org.commonmark.node.Node;
+import org.commonmark.serialization.NodeSerializer;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps a {@link Parser} and caches the parsed documents, for applications that parse the same input again and
+ * again. Example:
+ * <pre><code>
+ * CachingParser parser = CachingParser.builder().parser(Parser.builder().build()).build();
+ * Node document = parser.parse("input text");
+ * </code></pre>
+ * The cache is keyed by the input text. It belongs to the wrapped parser, so documents parsed with a different
+ * configuration (extensions, enabled block types, source spans) are never mixed up.
+ * <p>
+ * Documents are cached in serialized form (see {@link NodeSerializer}), so each call returns a new document that the
+ * caller can modify. Getting a document from the cache is a lot faster than parsing it. The size of the cache is
+ * bounded by the weight of the entries, which is roughly the number of bytes that they need. When the cache is full,
+ * the least recently used entries are evicted.
+ * <p>
+ * This class is thread-safe. The cache is split into segments with a lock each, so that threads parsing different
+ * inputs rarely wait for each other. When several threads parse the same uncached input at the same time, each of them
+ * parses it.
+ *
+ * @since 0.22.0
+ */
+public final class CachingParser {
+
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    private final Parser parser;
+    private final NodeSerializer serializer;
+    private final Segment[] segments;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private CachingParser(Builder builder) {
+        this.parser = builder.parser != null ? builder.parser : Parser.builder().build();
+        this.serializer = builder.serializer != null ? builder.serializer : NodeSerializer.builder().build();
+        int segmentCount = 1;
+        while (segmentCount < builder.concurrencyLevel && segmentCount < MAX_SEGMENTS) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        long segmentWeight = Math.max(builder.maximumWeight / segmentCount, 1);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentWeight);
+        }
+    }
+
+    /**
+     * Create a new builder for configuring a {@link CachingParser}.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parse the specified input text into a tree of nodes, or get it from the cache if the same input was parsed
+     * before. See {@link Parser#parse(String)}.
+     *
+     * @param input the text to parse - must not be null
+     * @return the root node, which is not shared with other callers
+     * @throws IllegalArgumentException if the document contains a node that the serializer can't serialize
+     */
+    public Node parse(String input) {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        Segment segment = segmentFor(input);
+        byte[] bytes = segment.get(input);
+        if (bytes != null) {
+            hitCount.incrementAndGet();
+            return serializer.deserialize(bytes);
+        }
+        missCount.incrementAndGet();
+        Node document = parser.parse(input);
+        bytes = serializer.serialize(document);
+        segment.put(input, bytes);
+        return document;
+    }
+
+    /**
+     * Remove all entries from the cache. The counters are not reset.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached documents
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return the total weight of the cached documents, see {@link Builder#maximumWeight(long)}
+     */
+    public long weight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            weight += segment.weight();
+        }
+        return weight;
+    }
+
+    /**
+     * @return the number of times that a document was returned from the cache
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of times that a document was not in the cache and had to be parsed
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of documents that were removed from the cache to make room for others
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private Segment segmentFor(String input) {
+        int h = input.hashCode();
+        h ^= h >>> 16;
+        return segments[h & (segments.length - 1)];
+    }
+
+    private static long weigh(String input, byte[] bytes) {
+        // The key is kept too (two bytes per char), plus some overhead for the objects of the entry
+        return input.length() * 2L + bytes.length + 64;
+    }
+
+    private final class Segment {
+
+        private final long maximumWeight;
+        // In access order, so the eldest entry is the least recently used one
+        private final LinkedHashMap<String, byte[]> map = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight = 0;
+
+        Segment(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        synchronized byte[] get(String input) {
+            return map.get(input);
+        }
+
+        synchronized void put(String input, byte[] bytes) {
+            long entryWeight = weigh(input, bytes);
+            if (entryWeight > maximumWeight) {
+                // Would evict everything else and then not fit either
+                return;
+            }
+            byte[] previous = map.put(input, bytes);
+            if (previous != null) {
+                weight -= weigh(input, previous);
+            }
+            weight += entryWeight;
+
+            Iterator<Map.Entry<String, byte[]>> iterator = map.entrySet().iterator();
+            while (weight > maximumWeight) {
+                Map.Entry<String, byte[]> eldest = iterator.next();
+                weight -= weigh(eldest.getKey(), eldest.getValue());
+                iterator.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        synchronized void clear() {
+            map.clear();
+            weight = 0;
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized long weight() {
+            return weight;
+        }
+    }
+
+    /**
+     * Builder for configuring a {@link CachingParser}.
+     */
+    public static class Builder {
+
+        private Parser parser;
+        private NodeSerializer serializer;
+        private long maximumWeight = 16 * 1024 * 1024;
+        private int concurrencyLevel = 16;
+
+        /**
+         * @return the configured {@link CachingParser}
+         */
+        public CachingParser build() {
+            return new CachingParser(this);
+        }
+
+        /**
+         * @param parser the parser to use for input that's not cached, a parser with the default configuration is
+         *               used if not set
+         * @return {@code this}
+         */
+        public Builder parser(Parser parser) {
+            if (parser == null) {
+                throw new NullPointerException("parser must not be null");
+            }
+            this.parser = parser;
+            return this;
+        }
+
+        /**
+         * Set the serializer for the cached documents. If the parser produces custom nodes (e.g. because of
+         * extensions), the serializer needs to support them, see {@link NodeSerializer.Builder#extensions}.
+         *
+         * @param serializer the serializer, a serializer for core nodes is used if not set
+         * @return {@code this}
+         */
+        public Builder serializer(NodeSerializer serializer) {
+            if (serializer == null) {
+                throw new NullPointerException("serializer must not be null");
+            }
+            this.serializer = serializer;
+            return this;
+        }
+
+        /**
+         * Set the maximum total weight of the cached documents. The weight of a document is an estimate of the number
+         * of bytes that its cache entry needs: two bytes per character of the input plus the size of the serialized
+         * document. Documents that are larger than the maximum weight divided by the concurrency level are not cached.
+         * Default is 16 MB.
+         *
+         * @param maximumWeight the maximum weight, must be positive
+         * @return {@code this}
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight <= 0) {
+                throw new IllegalArgumentException("maximumWeight must be positive but was " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Set the number of segments that the cache is split into (rounded up to a power of two), each with its own
+         * lock. More segments mean less waiting with many threads, but the least recently used entry is only evicted
+         * within its segment. Default is 16.
+         *
+         * @param concurrencyLevel the number of segments, must be positive
+         * @return {@code this}
+         */
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel <= 0) {
+                throw new IllegalArgumentException("concurrencyLevel must be positive but was " + concurrencyLevel);
+            }
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+    }
+}
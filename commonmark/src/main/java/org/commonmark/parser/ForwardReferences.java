@@ -0,0 +1,24 @@
+package org.commonmark.parser;
+
+/**
+ * How link references to definitions that come later in the document are handled when streaming blocks, see
+ * {@link Parser.Builder#forwardReferences(ForwardReferences)}.
+ *
+ * @since 0.22.0
+ */
+public enum ForwardReferences {
+    /**
+     * Hold back a block that uses a link reference without a definition so far (e.g. {@code [foo]}), until the
+     * definition has been parsed or the end of the document is reached. Blocks after it are held back as well to keep
+     * the document order. The result is the same as with {@link Parser#parse(String)}.
+     * <p>
+     * Note that text in brackets that isn't meant to be a link also needs to be held back, because it could become a
+     * link depending on the rest of the document.
+     */
+    BUFFER,
+    /**
+     * Only resolve link references to definitions that come before them in the document, and don't hold back any
+     * blocks. Link references to later definitions are left as text.
+     */
+    IGNORE,
+}
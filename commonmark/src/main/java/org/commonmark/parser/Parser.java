@@ -1,7 +1,10 @@
 package org.commonmark.parser;
 
 import org.commonmark.Extension;
+import org.commonmark.flat.FlatDocument;
+import org.commonmark.internal.BlockParserFactories;
 import org.commonmark.internal.DocumentParser;
+import org.commonmark.internal.DocumentRegion;
 import org.commonmark.internal.InlineParserContextImpl;
 import org.commonmark.internal.InlineParserImpl;
 import org.commonmark.internal.LinkReferenceDefinitions;
@@ -9,11 +12,19 @@ import org.commonmark.node.*;
 import org.commonmark.parser.block.BlockParserFactory;
 import org.commonmark.parser.delimiter.DelimiterProcessor;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -27,18 +38,31 @@ import java.util.Set;
  */
 public class Parser {
 
-    private final List<BlockParserFactory> blockParserFactories;
+    private final BlockParserFactories blockParserFactories;
     private final List<DelimiterProcessor> delimiterProcessors;
     private final InlineParserFactory inlineParserFactory;
     private final List<PostProcessor> postProcessors;
     private final IncludeSourceSpans includeSourceSpans;
+    private final boolean sliceLiterals;
+    private final boolean lazyInlines;
+    private final Executor inlineParsingExecutor;
+    private final int inlineParsingParallelism;
+    private final ForwardReferences forwardReferences;
+    private final int maxBufferedBlocks;
 
     private Parser(Builder builder) {
-        this.blockParserFactories = DocumentParser.calculateBlockParserFactories(builder.blockParserFactories, builder.enabledBlockTypes);
+        this.blockParserFactories = new BlockParserFactories(
+                DocumentParser.calculateBlockParserFactories(builder.blockParserFactories, builder.enabledBlockTypes));
         this.inlineParserFactory = builder.getInlineParserFactory();
         this.postProcessors = builder.postProcessors;
         this.delimiterProcessors = builder.delimiterProcessors;
         this.includeSourceSpans = builder.includeSourceSpans;
+        this.sliceLiterals = builder.sliceLiterals;
+        this.lazyInlines = builder.lazyInlines;
+        this.inlineParsingExecutor = builder.inlineParsingExecutor;
+        this.inlineParsingParallelism = builder.inlineParsingParallelism;
+        this.forwardReferences = builder.forwardReferences;
+        this.maxBufferedBlocks = builder.maxBufferedBlocks;
 
         // Try to construct an inline parser. Invalid configuration might result in an exception, which we want to
         // detect as soon as possible.
@@ -71,6 +95,62 @@ public class Parser {
         return postProcess(document);
     }
 
+    /**
+     * Parse the specified input text into a {@link FlatDocument}, which needs a lot less memory than a tree of nodes
+     * when it's kept around, e.g. for analyzing many documents. The tree of nodes is only created temporarily.
+     * <p>
+     * This method is thread-safe (a new parser state is used for each invocation).
+     *
+     * @param input the text to parse - must not be null
+     * @return the flat document
+     * @throws IllegalArgumentException if the document contains nodes of extensions, see {@link FlatDocument}
+     * @since 0.22.0
+     */
+    public FlatDocument parseFlat(String input) {
+        return FlatDocument.of(parse(input));
+    }
+
+    /**
+     * Parse the specified UTF-8 encoded input into a tree of nodes.
+     * <p>
+     * Compared to decoding the input to a {@link String} first, this avoids a full copy of the input: Lines that only
+     * contain ASCII characters are parsed directly from the bytes, and only lines with other characters get decoded.
+     * Malformed input is replaced with {@code U+FFFD}. Note that a byte order mark (BOM) at the start is not skipped.
+     * <p>
+     * The bytes between the buffer's position and limit are parsed; the position of the buffer is not changed. The
+     * buffer must not be modified while parsing.
+     * <p>
+     * This method is thread-safe (a new parser state is used for each invocation).
+     *
+     * @param input the UTF-8 encoded bytes to parse - must not be null
+     * @return the root node
+     * @since 0.22.0
+     */
+    public Node parse(ByteBuffer input) {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        DocumentParser documentParser = createDocumentParser();
+        Node document = documentParser.parse(input);
+        return postProcess(document);
+    }
+
+    /**
+     * Parse the specified range of UTF-8 encoded input into a tree of nodes, see {@link #parse(ByteBuffer)}.
+     *
+     * @param input the UTF-8 encoded bytes to parse - must not be null
+     * @param offset the index of the first byte to parse
+     * @param length the number of bytes to parse
+     * @return the root node
+     * @since 0.22.0
+     */
+    public Node parse(byte[] input, int offset, int length) {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        return parse(ByteBuffer.wrap(input, offset, length));
+    }
+
     /**
      * Parse the specified reader into a tree of nodes. The caller is responsible for closing the reader.
      * <pre><code>
@@ -99,11 +179,189 @@ public class Parser {
         return postProcess(document);
     }
 
-    private DocumentParser createDocumentParser() {
-        return new DocumentParser(blockParserFactories, inlineParserFactory, delimiterProcessors, includeSourceSpans);
+    /**
+     * Update a document after its input text has been edited, by only parsing the affected part of the new input.
+     * <p>
+     * This requires source spans (see {@link Builder#includeSourceSpans}), which are used to find the run of top-level
+     * blocks that the edit can affect: the blocks touched by the edit, plus the block before and after them. Only those
+     * lines are parsed again, the resulting blocks replace the old ones, and the source spans of the blocks after them
+     * are shifted. If the part can't be parsed on its own (e.g. when an edit opens a fenced code block that continues
+     * past the part), or if link reference definitions change, the whole input is parsed instead.
+     * <p>
+     * The result is the same as {@link #parse(String) parse(newInput)}, as long as the previous document was the
+     * result of parsing the old input with this parser and the edit describes the difference between old and new
+     * input. Post processors are only applied to the new blocks.
+     * <p>
+     * This method is thread-safe, as long as the previous document isn't used concurrently.
+     *
+     * @param previous the document of the old input, is modified if possible - must not be null
+     * @param newInput the new input text - must not be null
+     * @param edit the lines that changed between the old and new input - must not be null
+     * @return the document for the new input, either the updated previous document or a newly parsed one
+     * @since 0.22.0
+     */
+    public Node reparse(Node previous, String newInput, TextEdit edit) {
+        if (previous == null) {
+            throw new NullPointerException("previous must not be null");
+        }
+        if (newInput == null) {
+            throw new NullPointerException("newInput must not be null");
+        }
+        if (edit == null) {
+            throw new NullPointerException("edit must not be null");
+        }
+
+        if (includeSourceSpans != IncludeSourceSpans.NONE && previous instanceof Document) {
+            DocumentRegion region = DocumentRegion.find((Document) previous, newInput, edit.getStartLine(),
+                    edit.getRemovedLineCount(), edit.getInsertedLineCount());
+            if (region != null) {
+                DocumentParser documentParser = createDocumentParser();
+                Document regionDocument = documentParser.parseRegion(region.getContent(), region.getStartLine(),
+                        region.getDefinitions());
+                if (region.canReplaceWith(regionDocument)) {
+                    Node processed = postProcess(regionDocument);
+                    if (processed instanceof Document) {
+                        region.replaceWith((Document) processed);
+                        return previous;
+                    }
+                }
+            }
+        }
+        return parse(newInput);
+    }
+
+    /**
+     * Parse the specified input text and pass each top-level block to the handler as soon as it's complete, instead
+     * of building the whole document tree. This way, memory usage doesn't grow with the size of the document.
+     * <p>
+     * A block is complete when it has been closed and no later line can change it (e.g. a paragraph is complete when
+     * the next line doesn't continue it). The exception are link references to definitions that come later in the
+     * document, which are handled as configured with {@link Builder#forwardReferences(ForwardReferences)}.
+     * <p>
+     * Concatenating the blocks results in the same tree as {@link #parse(String)} (with
+     * {@link ForwardReferences#BUFFER}, as long as the definitions come before the limit of
+     * {@link Builder#maxBufferedBlocks(int)} is exceeded). Post processors are applied to each block separately.
+     * Inline content is always parsed in the calling thread, even if {@link Builder#inlineParsingExecutor} is
+     * configured.
+     * <p>
+     * This method is thread-safe (a new parser state is used for each invocation).
+     *
+     * @param input the text to parse - must not be null
+     * @param handler the handler to pass blocks to - must not be null
+     * @since 0.22.0
+     */
+    public void parse(String input, BlockHandler handler) {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        DocumentParser documentParser = createStreamingDocumentParser(handler);
+        documentParser.parse(input);
+    }
+
+    /**
+     * Parse the specified reader and pass each top-level block to the handler as soon as it's complete, see
+     * {@link #parse(String, BlockHandler)}. The caller is responsible for closing the reader.
+     * <p>
+     * This method is thread-safe (a new parser state is used for each invocation).
+     *
+     * @param input the reader to parse - must not be null
+     * @param handler the handler to pass blocks to - must not be null
+     * @throws IOException when reading throws an exception
+     * @since 0.22.0
+     */
+    public void parseReader(Reader input, BlockHandler handler) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        DocumentParser documentParser = createStreamingDocumentParser(handler);
+        documentParser.parse(input);
+    }
+
+    /**
+     * Parse the specified file into a tree of nodes.
+     * <p>
+     * Instead of reading the file line by line, the file is memory-mapped and parsed from the mapped bytes. For UTF-8,
+     * the bytes are parsed as with {@link #parse(ByteBuffer)}; for other charsets, the file is decoded as a whole
+     * first. This is faster than {@link #parseReader(Reader)} for large files, as it avoids allocating a new string for
+     * each line. Note that a byte order mark (BOM) at the start is not skipped, and malformed input is replaced with
+     * {@code U+FFFD}.
+     * <p>
+     * The mapping is released when it is garbage collected, not when this method returns. On some platforms (e.g.
+     * Windows), the file can't be deleted until then. The file must not be modified while parsing.
+     * <p>
+     * This method is thread-safe (a new parser state is used for each invocation).
+     *
+     * @param file the file to parse - must not be null
+     * @param charset the charset of the file - must not be null
+     * @return the root node
+     * @throws IOException when the file can't be read, or when it is larger than 2 GB
+     * @since 0.22.0
+     */
+    public Node parseFile(File file, Charset charset) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("file must not be null");
+        }
+        if (charset == null) {
+            throw new NullPointerException("charset must not be null");
+        }
+
+        MappedByteBuffer bytes;
+        // Not FileChannel.open(Path), which is not available on older Android versions
+        try (FileInputStream input = new FileInputStream(file)) {
+            FileChannel channel = input.getChannel();
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File " + file + " is too large to be parsed, size: " + size + " bytes");
+            }
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        DocumentParser documentParser = createDocumentParser();
+        Node document;
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            document = documentParser.parse(bytes);
+        } else {
+            document = documentParser.parse(charset.decode(bytes));
+        }
+        return postProcess(document);
+    }
+
+    /**
+     * Create a session for parsing many documents one after another, e.g. lots of small snippets in a service.
+     * <p>
+     * The session reuses its parser state (and inline parser) between documents instead of creating it for each
+     * document like the parse methods of this class do, which saves allocations that are noticeable for small inputs.
+     * Parsing with a session gives the same result as parsing with this parser.
+     * <p>
+     * A session is not thread-safe; use a separate session per thread.
+     *
+     * @return a new session
+     * @since 0.22.0
+     */
+    public ParserSession newSession() {
+        return new ParserSession(this, createDocumentParser());
+    }
+
+    DocumentParser createDocumentParser() {
+        return new DocumentParser(blockParserFactories, inlineParserFactory, delimiterProcessors, includeSourceSpans,
+                sliceLiterals, lazyInlines, inlineParsingExecutor, inlineParsingParallelism);
+    }
+
+    private DocumentParser createStreamingDocumentParser(final BlockHandler handler) {
+        if (handler == null) {
+            throw new NullPointerException("handler must not be null");
+        }
+        DocumentParser documentParser = createDocumentParser();
+        documentParser.setBlockHandler(new BlockHandler() {
+            @Override
+            public void handleBlock(Node block) {
+                handler.handleBlock(postProcess(block));
+            }
+        }, forwardReferences, maxBufferedBlocks);
+        return documentParser;
     }
 
-    private Node postProcess(Node document) {
+    Node postProcess(Node document) {
         for (PostProcessor postProcessor : postProcessors) {
             document = postProcessor.process(document);
         }
@@ -120,6 +378,12 @@ public class Parser {
         private Set<Class<? extends Block>> enabledBlockTypes = DocumentParser.getDefaultBlockParserTypes();
         private InlineParserFactory inlineParserFactory;
         private IncludeSourceSpans includeSourceSpans = IncludeSourceSpans.NONE;
+        private boolean sliceLiterals = false;
+        private boolean lazyInlines = false;
+        private Executor inlineParsingExecutor;
+        private int inlineParsingParallelism = 1;
+        private ForwardReferences forwardReferences = ForwardReferences.BUFFER;
+        private int maxBufferedBlocks = 100;
 
         /**
          * @return the configured {@link Parser}
@@ -195,6 +459,50 @@ public class Parser {
             return this;
         }
 
+        /**
+         * Whether the literals of {@link Text}, {@link Code}, {@link HtmlInline} and code and HTML blocks should be
+         * slices of the input instead of copies where possible. The lines of the input are not copied either then.
+         * <p>
+         * That saves memory when documents are kept around together with their input (e.g. in a cache), because
+         * the chars of the input are not copied. On the other hand, the whole input is kept in memory as long as any
+         * literal of the document is. Use
+         * {@link Text#getLiteralSequence()} (and the same method of the other nodes) to read a literal without
+         * converting it to a string; {@link Text#getLiteral()} converts it. The HTML renderer doesn't convert them.
+         * <p>
+         * By default, literals are strings.
+         *
+         * @param sliceLiterals true to use slices of the input for literals
+         * @return {@code this}
+         * @since 0.22.0
+         */
+        public Builder sliceLiterals(boolean sliceLiterals) {
+            this.sliceLiterals = sliceLiterals;
+            return this;
+        }
+
+        /**
+         * Whether the inline content of blocks (e.g. the text, emphasis and links of a paragraph) should only be parsed
+         * when the children of the block are first accessed, instead of while parsing the document. That makes parsing
+         * faster for applications that only need the block structure, e.g. for a table of contents that only looks at
+         * headings. The result is the same as without this option; each block is parsed once, also when the document
+         * is accessed from multiple threads.
+         * <p>
+         * Until their inline content is parsed, blocks keep their lines (and with them, the input) in memory. Note that
+         * {@link PostProcessor}s usually visit the whole document, which parses all inline content right away. This
+         * option doesn't apply to {@link Parser#parse(String, BlockHandler) streaming}.
+         * <p>
+         * By default, inline content is parsed while parsing the document.
+         *
+         * @param lazyInlines true to parse inline content on demand
+         * @return {@code this}
+         * @see Block#setLazyChildren(Block.LazyChildren)
+         * @since 0.22.0
+         */
+        public Builder lazyInlines(boolean lazyInlines) {
+            this.lazyInlines = lazyInlines;
+            return this;
+        }
+
         /**
          * Adds a custom block parser factory.
          * <p>
@@ -262,16 +570,76 @@ public class Parser {
             return this;
         }
 
+        /**
+         * Parse inline content (emphasis, links, etc.) of large documents in parallel using the specified executor.
+         * <p>
+         * Inline parsing happens after all blocks of a document have been parsed. The blocks are then split into
+         * up to {@code parallelism} chunks, and each chunk is parsed with its own inline parser (see
+         * {@link InlineParserFactory#create}). The calling thread parses one of the chunks itself and also runs chunks
+         * that the executor hasn't started yet, so a busy executor can't cause a deadlock. Small documents are always
+         * parsed in the calling thread.
+         * <p>
+         * The resulting tree is identical to the one from sequential parsing. Note that custom inline parsers and
+         * delimiter processors need to be thread-safe (which is already required for {@link DelimiterProcessor}), and
+         * an inline parser must not depend on the blocks it parsed before.
+         *
+         * @param executor the executor to submit inline parsing tasks to, or {@code null} to parse sequentially
+         * @param parallelism the maximum number of chunks to split the blocks into, must be at least 1
+         * @return {@code this}
+         * @since 0.22.0
+         */
+        public Builder inlineParsingExecutor(Executor executor, int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1, was " + parallelism);
+            }
+            this.inlineParsingExecutor = executor;
+            this.inlineParsingParallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Configure how link references to later definitions are handled when streaming blocks with
+         * {@link Parser#parse(String, BlockHandler)}, see {@link ForwardReferences}. Default is
+         * {@link ForwardReferences#BUFFER}. This has no effect on parsing a whole document.
+         *
+         * @param forwardReferences how to handle forward references, must not be null
+         * @return {@code this}
+         * @since 0.22.0
+         */
+        public Builder forwardReferences(ForwardReferences forwardReferences) {
+            if (forwardReferences == null) {
+                throw new NullPointerException("forwardReferences must not be null");
+            }
+            this.forwardReferences = forwardReferences;
+            return this;
+        }
+
+        /**
+         * Limit the number of blocks that are held back with {@link ForwardReferences#BUFFER} when streaming blocks
+         * with {@link Parser#parse(String, BlockHandler)}. Default is 100, so that a block with text in brackets that
+         * is not a link (e.g. {@code [note]}) doesn't hold back the rest of the document.
+         * <p>
+         * When the limit is exceeded, the oldest blocks are passed on even if they use link references without a
+         * definition so far; those references are then left as text (as with {@link ForwardReferences#IGNORE}).
+         * Use {@link Integer#MAX_VALUE} for no limit.
+         *
+         * @param maxBufferedBlocks the maximum number of blocks to hold back, must not be negative
+         * @return {@code this}
+         * @since 0.22.0
+         */
+        public Builder maxBufferedBlocks(int maxBufferedBlocks) {
+            if (maxBufferedBlocks < 0) {
+                throw new IllegalArgumentException("maxBufferedBlocks must not be negative, was " + maxBufferedBlocks);
+            }
+            this.maxBufferedBlocks = maxBufferedBlocks;
+            return this;
+        }
+
         private InlineParserFactory getInlineParserFactory() {
             if (inlineParserFactory != null) {
                 return inlineParserFactory;
             }
-            return new InlineParserFactory() {
-                @Override
-                public InlineParser create(InlineParserContext inlineParserContext) {
-                    return new InlineParserImpl(inlineParserContext);
-                }
-            };
+            return InlineParserImpl.factory();
         }
     }
 
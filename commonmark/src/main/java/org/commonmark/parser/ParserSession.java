@@ -0,0 +1,66 @@
+package org.commonmark.parser;
+
+import org.commonmark.internal.DocumentParser;
+import org.commonmark.node.Node;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A session for parsing many documents one after another with the same parser state, see {@link Parser#newSession()}.
+ * <p>
+ * Not thread-safe, use a separate session per thread. A session can still be used after a parse method threw an
+ * exception, the state is reset at the start of each parse.
+ *
+ * @since 0.22.0
+ */
+public final class ParserSession {
+
+    private final Parser parser;
+    private final DocumentParser documentParser;
+    private boolean used = false;
+
+    ParserSession(Parser parser, DocumentParser documentParser) {
+        this.parser = parser;
+        this.documentParser = documentParser;
+    }
+
+    /**
+     * Parse the specified input text into a tree of nodes, see {@link Parser#parse(String)}.
+     *
+     * @param input the text to parse - must not be null
+     * @return the root node
+     */
+    public Node parse(String input) {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        reset();
+        Node document = documentParser.parse(input);
+        return parser.postProcess(document);
+    }
+
+    /**
+     * Parse the specified reader into a tree of nodes, see {@link Parser#parseReader(Reader)}. The caller is
+     * responsible for closing the reader.
+     *
+     * @param input the reader to parse - must not be null
+     * @return the root node
+     * @throws IOException when reading throws an exception
+     */
+    public Node parseReader(Reader input) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        reset();
+        Node document = documentParser.parse(input);
+        return parser.postProcess(document);
+    }
+
+    private void reset() {
+        if (used) {
+            documentParser.reset();
+        }
+        used = true;
+    }
+}
@@ -0,0 +1,75 @@
+package org.commonmark.parser;
+
+/**
+ * Describes a change of the input text in terms of lines, for use with {@link Parser#reparse}.
+ * <p>
+ * The lines {@code [startLine, startLine + removedLineCount)} of the old input were replaced with the lines
+ * {@code [startLine, startLine + insertedLineCount)} of the new input. Lines are numbered the same way as in
+ * {@link org.commonmark.node.SourceSpan}, starting at 0.
+ * <p>
+ * For example, typing a character within line 3 is {@code TextEdit.of(3, 1, 1)}. Splitting line 3 into two lines by
+ * inserting a line break is {@code TextEdit.of(3, 1, 2)}. Deleting lines 3 and 4 is {@code TextEdit.of(3, 2, 0)}.
+ *
+ * @since 0.22.0
+ */
+public class TextEdit {
+
+    private final int startLine;
+    private final int removedLineCount;
+    private final int insertedLineCount;
+
+    /**
+     * @param startLine 0-based index of the first changed line
+     * @param removedLineCount number of lines of the old input that were replaced
+     * @param insertedLineCount number of lines in the new input that replaced them
+     * @return the edit
+     */
+    public static TextEdit of(int startLine, int removedLineCount, int insertedLineCount) {
+        if (startLine < 0) {
+            throw new IllegalArgumentException("startLine must not be negative, was " + startLine);
+        }
+        if (removedLineCount < 0) {
+            throw new IllegalArgumentException("removedLineCount must not be negative, was " + removedLineCount);
+        }
+        if (insertedLineCount < 0) {
+            throw new IllegalArgumentException("insertedLineCount must not be negative, was " + insertedLineCount);
+        }
+        return new TextEdit(startLine, removedLineCount, insertedLineCount);
+    }
+
+    private TextEdit(int startLine, int removedLineCount, int insertedLineCount) {
+        this.startLine = startLine;
+        this.removedLineCount = removedLineCount;
+        this.insertedLineCount = insertedLineCount;
+    }
+
+    /**
+     * @return 0-based index of the first changed line
+     */
+    public int getStartLine() {
+        return startLine;
+    }
+
+    /**
+     * @return number of lines of the old input that were replaced
+     */
+    public int getRemovedLineCount() {
+        return removedLineCount;
+    }
+
+    /**
+     * @return number of lines in the new input that replaced them
+     */
+    public int getInsertedLineCount() {
+        return insertedLineCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TextEdit{" +
+                "startLine=" + startLine +
+                ", removedLineCount=" + removedLineCount +
+                ", insertedLineCount=" + insertedLineCount +
+                "}";
+    }
+}
@@ -47,6 +47,10 @@ public interface BlockParser {
 
     void closeBlock();
 
+    /**
+     * Parse the inline content of the block. Only called for block parsers that have inline content, see
+     * {@link BlockParserWithInlines}.
+     */
     void parseInlines(InlineParser inlineParser);
 
 }
@@ -0,0 +1,25 @@
+package org.commonmark.parser.block;
+
+import org.commonmark.parser.InlineParser;
+
+/**
+ * A block parser for a block with inline content, e.g. the text of a paragraph or heading.
+ * <p>
+ * After the document is parsed, {@link #parseInlines(InlineParser)} is only called for block parsers that have inline
+ * content, so most blocks (e.g. list items, block quotes and code blocks) are not remembered until then. Block parsers
+ * that implement this interface have inline content. So do others that override
+ * {@link AbstractBlockParser#parseInlines(InlineParser)} (or implement {@link BlockParser} directly), so that parsers
+ * written before this interface keep working.
+ *
+ * @since 0.22.0
+ */
+public interface BlockParserWithInlines extends BlockParser {
+
+    /**
+     * Parse the inline content of the block, with the lines that were added to it.
+     *
+     * @param inlineParser the parser to use for the content, which appends the parsed nodes to the given node
+     */
+    @Override
+    void parseInlines(InlineParser inlineParser);
+}
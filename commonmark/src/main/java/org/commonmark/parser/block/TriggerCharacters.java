@@ -0,0 +1,23 @@
+package org.commonmark.parser.block;
+
+import java.util.Set;
+
+/**
+ * Optional interface for a {@link BlockParserFactory} to declare which characters a block can start with.
+ * <p>
+ * The parser uses this to only call {@link BlockParserFactory#tryStart} if the first non-space character of the line
+ * (at {@link ParserState#getNextNonSpaceIndex()}) is one of the trigger characters. Factories that don't implement
+ * this interface are tried for every line.
+ * <p>
+ * Note that lines that are blank or start with a letter (and aren't indented by 4 or more columns) are never tried
+ * as block starts.
+ *
+ * @since 0.22.0
+ */
+public interface TriggerCharacters {
+
+    /**
+     * @return the characters that a block of this factory can start with
+     */
+    Set<Character> getTriggerCharacters();
+}
@@ -0,0 +1,16 @@
+package org.commonmark.renderer;
+
+/**
+ * Implemented by node renderers and attribute providers that keep state about the document that is being rendered
+ * (e.g. which IDs were already used), so that they can be reused for rendering other documents.
+ *
+ * @see org.commonmark.renderer.html.HtmlRenderer#newSession()
+ * @since 0.22.0
+ */
+public interface Resettable {
+
+    /**
+     * Forget the state about the previous document, called before rendering another document.
+     */
+    void reset();
+}
@@ -0,0 +1,153 @@
+package org.commonmark.renderer.html;
+
+import java.util.*;
+
+/**
+ * Map for the attributes of a tag, in insertion order (like {@link LinkedHashMap}). The keys and values are kept in
+ * one flat array and looked up with a linear search, which is faster than hashing for the few attributes of a tag and
+ * doesn't need an object per entry.
+ */
+final class AttributeMap extends AbstractMap<String, String> {
+
+    // Key at even indexes, value at the following odd index
+    private String[] entries;
+    private int size = 0;
+
+    AttributeMap(int capacity) {
+        entries = new String[Math.max(capacity, 1) * 2];
+    }
+
+    AttributeMap(Map<String, String> map) {
+        this(map.size() + 2);
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    String keyAt(int index) {
+        return entries[index * 2];
+    }
+
+    String valueAt(int index) {
+        return entries[index * 2 + 1];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(key);
+        return index != -1 ? valueAt(index) : null;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        int index = indexOf(key);
+        if (index != -1) {
+            String old = valueAt(index);
+            entries[index * 2 + 1] = value;
+            return old;
+        }
+        if (size * 2 == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[size * 2] = key;
+        entries[size * 2 + 1] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public String remove(Object key) {
+        int index = indexOf(key);
+        if (index == -1) {
+            return null;
+        }
+        String old = valueAt(index);
+        removeAt(index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(entries, 0, size * 2, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<Map.Entry<String, String>>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            String k = entries[i * 2];
+            if (k == null ? key == null : k.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(entries, index * 2 + 2, entries, index * 2, (size - index - 1) * 2);
+        size--;
+        entries[size * 2] = null;
+        entries[size * 2 + 1] = null;
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+        private int next = 0;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            final int index = last;
+            return new AbstractMap.SimpleEntry<String, String>(keyAt(index), valueAt(index)) {
+                @Override
+                public String setValue(String value) {
+                    entries[index * 2 + 1] = value;
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+        }
+    }
+}
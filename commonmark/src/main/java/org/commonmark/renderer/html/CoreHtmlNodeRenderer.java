@@ -97,8 +97,8 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
 
     @Override
     public void visit(FencedCodeBlock fencedCodeBlock) {
-        String literal = fencedCodeBlock.getLiteral();
-        Map<String, String> attributes = new LinkedHashMap<>();
+        CharSequence literal = fencedCodeBlock.getLiteralSequence();
+        Map<String, String> attributes = new AttributeMap(1);
         String info = fencedCodeBlock.getInfo();
         if (info != null && !info.isEmpty()) {
             int space = info.indexOf(" ");
@@ -118,10 +118,12 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
         html.line();
         if (context.shouldEscapeHtml()) {
             html.tag("p", getAttrs(htmlBlock, "p"));
-            html.text(htmlBlock.getLiteral());
+            text(htmlBlock.getLiteralSequence());
             html.tag("/p");
         } else {
-            html.raw(htmlBlock.getLiteral());
+            // The literal can be a slice of the input (see Parser.Builder#sliceLiterals), write it without a copy
+            CharSequence literal = htmlBlock.getLiteralSequence();
+            html.raw(literal, 0, literal.length());
         }
         html.line();
     }
@@ -135,12 +137,12 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
 
     @Override
     public void visit(IndentedCodeBlock indentedCodeBlock) {
-        renderCodeBlock(indentedCodeBlock.getLiteral(), indentedCodeBlock, Collections.<String, String>emptyMap());
+        renderCodeBlock(indentedCodeBlock.getLiteralSequence(), indentedCodeBlock, Collections.<String, String>emptyMap());
     }
 
     @Override
     public void visit(Link link) {
-        Map<String, String> attrs = new LinkedHashMap<>();
+        Map<String, String> attrs = new AttributeMap(3);
         String url = link.getDestination();
 
         if (context.shouldSanitizeUrls()) {
@@ -169,7 +171,7 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
     @Override
     public void visit(OrderedList orderedList) {
         int start = orderedList.getStartNumber();
-        Map<String, String> attrs = new LinkedHashMap<>();
+        Map<String, String> attrs = new AttributeMap(1);
         if (start != 1) {
             attrs.put("start", String.valueOf(start));
         }
@@ -184,7 +186,7 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
         image.accept(altTextVisitor);
         String altText = altTextVisitor.getAltText();
 
-        Map<String, String> attrs = new LinkedHashMap<>();
+        Map<String, String> attrs = new AttributeMap(3);
         if (context.shouldSanitizeUrls()) {
             url = context.urlSanitizer().sanitizeImageUrl(url);
         }
@@ -214,22 +216,23 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
 
     @Override
     public void visit(Text text) {
-        html.text(text.getLiteral());
+        text(text.getLiteralSequence());
     }
 
     @Override
     public void visit(Code code) {
         html.tag("code", getAttrs(code, "code"));
-        html.text(code.getLiteral());
+        text(code.getLiteralSequence());
         html.tag("/code");
     }
 
     @Override
     public void visit(HtmlInline htmlInline) {
         if (context.shouldEscapeHtml()) {
-            html.text(htmlInline.getLiteral());
+            text(htmlInline.getLiteralSequence());
         } else {
-            html.raw(htmlInline.getLiteral());
+            CharSequence literal = htmlInline.getLiteralSequence();
+            html.raw(literal, 0, literal.length());
         }
     }
 
@@ -254,16 +257,20 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
         }
     }
 
-    private void renderCodeBlock(String literal, Node node, Map<String, String> attributes) {
+    private void renderCodeBlock(CharSequence literal, Node node, Map<String, String> attributes) {
         html.line();
         html.tag("pre", getAttrs(node, "pre"));
         html.tag("code", getAttrs(node, "code", attributes));
-        html.text(literal);
+        text(literal);
         html.tag("/code");
         html.tag("/pre");
         html.line();
     }
 
+    private void text(CharSequence literal) {
+        html.text(literal, 0, literal.length());
+    }
+
     private void renderListBlock(ListBlock listBlock, String tagName, Map<String, String> attributes) {
         html.line();
         html.tag(tagName, attributes);
@@ -304,7 +311,7 @@ public class CoreHtmlNodeRenderer extends AbstractVisitor implements NodeRendere
 
         @Override
         public void visit(Text text) {
-            sb.append(text.getLiteral());
+            sb.append(text.getLiteralSequence());
         }
 
         @Override
@@ -2,13 +2,17 @@ package org.commonmark.renderer.html;
 
 import org.commonmark.Extension;
 import org.commonmark.internal.renderer.NodeRendererMap;
+import org.commonmark.internal.renderer.Utf8Output;
 import org.commonmark.internal.util.Escaping;
 import org.commonmark.node.*;
 import org.commonmark.renderer.NodeRenderer;
 import org.commonmark.renderer.Renderer;
+import org.commonmark.renderer.Resettable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +27,13 @@ import java.util.Map;
  */
 public class HtmlRenderer implements Renderer {
 
+    private static final HtmlNodeRendererFactory CORE_NODE_RENDERER_FACTORY = new HtmlNodeRendererFactory() {
+        @Override
+        public NodeRenderer create(HtmlNodeRendererContext context) {
+            return new CoreHtmlNodeRenderer(context);
+        }
+    };
+
     private final String softbreak;
     private final boolean escapeHtml;
     private final boolean sanitizeUrls;
@@ -42,12 +53,7 @@ public class HtmlRenderer implements Renderer {
         this.nodeRendererFactories = new ArrayList<>(builder.nodeRendererFactories.size() + 1);
         this.nodeRendererFactories.addAll(builder.nodeRendererFactories);
         // Add as last. This means clients can override the rendering of core nodes if they want.
-        this.nodeRendererFactories.add(new HtmlNodeRendererFactory() {
-            @Override
-            public NodeRenderer create(HtmlNodeRendererContext context) {
-                return new CoreHtmlNodeRenderer(context);
-            }
-        });
+        this.nodeRendererFactories.add(CORE_NODE_RENDERER_FACTORY);
     }
 
     /**
@@ -78,6 +84,76 @@ public class HtmlRenderer implements Renderer {
         return sb.toString();
     }
 
+    /**
+     * Render the tree of nodes as UTF-8 encoded bytes to the stream. The bytes are written in chunks as the rendering
+     * goes, without creating the whole output as a string first. The stream is not flushed or closed.
+     *
+     * @param node the root node - must not be null
+     * @param output the stream to write to - must not be null
+     * @throws IOException when writing to the stream throws an exception
+     * @since 0.22.0
+     */
+    public void render(Node node, OutputStream output) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output must not be null");
+        }
+        render(node, new Utf8Output(output));
+    }
+
+    /**
+     * Render the tree of nodes as UTF-8 encoded bytes to the channel, see {@link #render(Node, OutputStream)}. The
+     * channel needs to be in blocking mode.
+     *
+     * @param node the root node - must not be null
+     * @param output the channel to write to - must not be null
+     * @throws IOException when writing to the channel throws an exception
+     * @since 0.22.0
+     */
+    public void render(Node node, WritableByteChannel output) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output must not be null");
+        }
+        render(node, new Utf8Output(output));
+    }
+
+    private void render(Node node, Utf8Output output) throws IOException {
+        try {
+            render(node, (Appendable) output);
+        } catch (RuntimeException e) {
+            // HtmlWriter wraps exceptions of the output, unwrap them again
+            if (output.getException() != null) {
+                throw output.getException();
+            }
+            throw e;
+        }
+        output.finish();
+    }
+
+    /**
+     * Create a session for rendering many documents one after another, e.g. lots of small snippets in a service.
+     * <p>
+     * The render methods of this class create the node renderers and attribute providers for each document. A session
+     * creates them once and reuses them for each document instead. Node renderers and attribute providers that keep
+     * state about the document need to implement {@link Resettable}, they are reset before rendering the next
+     * document.
+     * <p>
+     * A session is not thread-safe; use a separate session per thread.
+     *
+     * @return a new session
+     * @since 0.22.0
+     */
+    public HtmlRendererSession newSession() {
+        return new HtmlRendererSession(this);
+    }
+
+    /**
+     * Create a context for rendering multiple nodes to the same output, one after the other. State such as attribute
+     * providers and the last written character is kept between the nodes.
+     */
+    RendererContext createContext(Appendable output) {
+        return new RendererContext(new HtmlWriter(output));
+    }
+
     /**
      * Builder for configuring an {@link HtmlRenderer}. See methods for default configuration.
      */
@@ -228,25 +304,46 @@ public class HtmlRenderer implements Renderer {
         void extend(Builder rendererBuilder);
     }
 
-    private class RendererContext implements HtmlNodeRendererContext, AttributeProviderContext {
+    class RendererContext implements HtmlNodeRendererContext, AttributeProviderContext {
 
         private final HtmlWriter htmlWriter;
         private final List<AttributeProvider> attributeProviders;
         private final NodeRendererMap nodeRendererMap = new NodeRendererMap();
+        private final List<Resettable> resettables = new ArrayList<>();
 
         private RendererContext(HtmlWriter htmlWriter) {
             this.htmlWriter = htmlWriter;
 
             attributeProviders = new ArrayList<>(attributeProviderFactories.size());
             for (AttributeProviderFactory attributeProviderFactory : attributeProviderFactories) {
-                attributeProviders.add(attributeProviderFactory.create(this));
+                AttributeProvider attributeProvider = attributeProviderFactory.create(this);
+                attributeProviders.add(attributeProvider);
+                if (attributeProvider instanceof Resettable) {
+                    resettables.add((Resettable) attributeProvider);
+                }
             }
 
             // The first node renderer for a node type "wins".
             for (int i = nodeRendererFactories.size() - 1; i >= 0; i--) {
                 HtmlNodeRendererFactory nodeRendererFactory = nodeRendererFactories.get(i);
-                NodeRenderer nodeRenderer = nodeRendererFactory.create(this);
+                // The core renderer only passes the extended attributes to the writer, so it doesn't need copies
+                HtmlNodeRendererContext context = nodeRendererFactory == CORE_NODE_RENDERER_FACTORY ?
+                        new WritingAttributesContext() : this;
+                NodeRenderer nodeRenderer = nodeRendererFactory.create(context);
                 nodeRendererMap.add(nodeRenderer);
+                if (nodeRenderer instanceof Resettable) {
+                    resettables.add((Resettable) nodeRenderer);
+                }
+            }
+        }
+
+        /**
+         * Prepare for rendering another document to the output.
+         */
+        void reset(Appendable output) {
+            htmlWriter.reset(output);
+            for (Resettable resettable : resettables) {
+                resettable.reset();
             }
         }
 
@@ -276,7 +373,7 @@ public class HtmlRenderer implements Renderer {
 
         @Override
         public Map<String, String> extendAttributes(Node node, String tagName, Map<String, String> attributes) {
-            Map<String, String> attrs = new LinkedHashMap<>(attributes);
+            Map<String, String> attrs = new AttributeMap(attributes);
             setCustomAttributes(node, tagName, attrs);
             return attrs;
         }
@@ -301,5 +398,55 @@ public class HtmlRenderer implements Renderer {
                 attributeProvider.setAttributes(node, tagName, attrs);
             }
         }
+
+        /**
+         * The context for a renderer that doesn't modify the extended attributes: When there are no attribute
+         * providers, {@link #extendAttributes} returns the passed map instead of a copy.
+         */
+        private class WritingAttributesContext implements HtmlNodeRendererContext {
+
+            @Override
+            public String encodeUrl(String url) {
+                return RendererContext.this.encodeUrl(url);
+            }
+
+            @Override
+            public Map<String, String> extendAttributes(Node node, String tagName, Map<String, String> attributes) {
+                if (attributeProviders.isEmpty()) {
+                    return attributes;
+                }
+                return RendererContext.this.extendAttributes(node, tagName, attributes);
+            }
+
+            @Override
+            public HtmlWriter getWriter() {
+                return htmlWriter;
+            }
+
+            @Override
+            public String getSoftbreak() {
+                return softbreak;
+            }
+
+            @Override
+            public void render(Node node) {
+                nodeRendererMap.render(node);
+            }
+
+            @Override
+            public boolean shouldEscapeHtml() {
+                return escapeHtml;
+            }
+
+            @Override
+            public boolean shouldSanitizeUrls() {
+                return sanitizeUrls;
+            }
+
+            @Override
+            public UrlSanitizer urlSanitizer() {
+                return urlSanitizer;
+            }
+        }
     }
 }
@@ -0,0 +1,54 @@
+package org.commonmark.renderer.html;
+
+import org.commonmark.node.Node;
+
+/**
+ * A session for rendering many documents one after another with the same node renderers and attribute providers, see
+ * {@link HtmlRenderer#newSession()}.
+ * <p>
+ * Not thread-safe, use a separate session per thread.
+ *
+ * @since 0.22.0
+ */
+public final class HtmlRendererSession {
+
+    private final HtmlRenderer renderer;
+    private HtmlRenderer.RendererContext context;
+
+    HtmlRendererSession(HtmlRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Render the tree of nodes to output, see {@link HtmlRenderer#render(Node, Appendable)}.
+     *
+     * @param node the root node - must not be null
+     * @param output output for rendering - must not be null
+     */
+    public void render(Node node, Appendable output) {
+        if (node == null) {
+            throw new NullPointerException("node must not be null");
+        }
+        if (output == null) {
+            throw new NullPointerException("output must not be null");
+        }
+        if (context == null) {
+            context = renderer.createContext(output);
+        } else {
+            context.reset(output);
+        }
+        context.render(node);
+    }
+
+    /**
+     * Render the tree of nodes to string, see {@link HtmlRenderer#render(Node)}.
+     *
+     * @param node the root node - must not be null
+     * @return the rendered string
+     */
+    public String render(Node node) {
+        StringBuilder sb = new StringBuilder();
+        render(node, sb);
+        return sb.toString();
+    }
+}
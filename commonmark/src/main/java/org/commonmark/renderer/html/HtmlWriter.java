@@ -1,7 +1,5 @@
 package org.commonmark.renderer.html;
 
-import org.commonmark.internal.util.Escaping;
-
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
@@ -10,7 +8,9 @@ public class HtmlWriter {
 
     private static final Map<String, String> NO_ATTRIBUTES = Collections.emptyMap();
 
-    private final Appendable buffer;
+    private final boolean appendStringOverridden;
+
+    private Appendable buffer;
     private char lastChar = 0;
 
     public HtmlWriter(Appendable out) {
@@ -18,14 +18,47 @@ public class HtmlWriter {
             throw new NullPointerException("out must not be null");
         }
         this.buffer = out;
+        this.appendStringOverridden = overridesAppendString(getClass());
     }
 
     public void raw(String s) {
         append(s);
     }
 
+    /**
+     * Write the range {@code [start, end)} of the text as is, without escaping. This allows writing slices of a larger
+     * text (e.g. the source) without creating substrings first.
+     *
+     * @param s the text
+     * @param start the start index of the range (inclusive)
+     * @param end the end index of the range (exclusive)
+     * @since 0.22.0
+     */
+    public void raw(CharSequence s, int start, int end) {
+        if (start < 0 || end > s.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + s.length());
+        }
+        appendRange(s, start, end);
+    }
+
     public void text(String text) {
-        append(Escaping.escapeHtml(text));
+        appendEscaped(text, 0, text.length());
+    }
+
+    /**
+     * Write the range {@code [start, end)} of the text, escaping it for HTML. This allows escaping slices of a larger
+     * text (e.g. the source) without creating substrings first.
+     *
+     * @param text the text
+     * @param start the start index of the range (inclusive)
+     * @param end the end index of the range (exclusive)
+     * @since 0.22.0
+     */
+    public void text(CharSequence text, int start, int end) {
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + text.length());
+        }
+        appendEscaped(text, start, end);
     }
 
     public void tag(String name) {
@@ -39,13 +72,15 @@ public class HtmlWriter {
     public void tag(String name, Map<String, String> attrs, boolean voidElement) {
         append("<");
         append(name);
-        if (attrs != null && !attrs.isEmpty()) {
+        if (attrs instanceof AttributeMap) {
+            // Without iterator and entry objects
+            AttributeMap attributeMap = (AttributeMap) attrs;
+            for (int i = 0; i < attributeMap.size(); i++) {
+                attribute(attributeMap.keyAt(i), attributeMap.valueAt(i));
+            }
+        } else if (attrs != null && !attrs.isEmpty()) {
             for (Map.Entry<String, String> attrib : attrs.entrySet()) {
-                append(" ");
-                append(Escaping.escapeHtml(attrib.getKey()));
-                append("=\"");
-                append(Escaping.escapeHtml(attrib.getValue()));
-                append("\"");
+                attribute(attrib.getKey(), attrib.getValue());
             }
         }
         if (voidElement) {
@@ -55,21 +90,119 @@ public class HtmlWriter {
         append(">");
     }
 
+    private void attribute(String key, String value) {
+        append(" ");
+        appendEscaped(key, 0, key.length());
+        append("=\"");
+        appendEscaped(value, 0, value.length());
+        append("\"");
+    }
+
     public void line() {
         if (lastChar != 0 && lastChar != '\n') {
             append("\n");
         }
     }
 
+    /**
+     * Start writing to another output, as if this was a new writer.
+     */
+    void reset(Appendable out) {
+        this.buffer = out;
+        this.lastChar = 0;
+    }
+
+    /**
+     * Write the text to the output. All output of the writer goes through this method or
+     * {@link #append(CharSequence, int, int)}, so subclasses can override either to e.g. count or redirect the output.
+     * When a subclass overrides this method, all output goes through it (including escaped text and attributes).
+     *
+     * @param s the text
+     */
     protected void append(String s) {
+        append(s, 0, s.length());
+    }
+
+    /**
+     * Write the range {@code [start, end)} of the text to the output. Unless a subclass overrides
+     * {@link #append(String)}, all output of the writer goes through this method (including escaped text and
+     * attributes), without creating substrings for ranges.
+     *
+     * @param s the text
+     * @param start the start index of the range (inclusive)
+     * @param end the end index of the range (exclusive)
+     * @since 0.22.0
+     */
+    protected void append(CharSequence s, int start, int end) {
         try {
-            buffer.append(s);
+            buffer.append(s, start, end);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        int length = s.length();
-        if (length != 0) {
-            lastChar = s.charAt(length - 1);
+        if (start != end) {
+            lastChar = s.charAt(end - 1);
+        }
+    }
+
+    /**
+     * Escape the range for HTML, writing the runs that don't need escaping directly to the output instead of building
+     * an escaped copy first.
+     */
+    private void appendEscaped(CharSequence s, int start, int end) {
+        int runStart = start;
+        for (int i = start; i < end; i++) {
+            String replacement;
+            switch (s.charAt(i)) {
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                case '\"':
+                    replacement = "&quot;";
+                    break;
+                default:
+                    continue;
+            }
+            if (runStart != i) {
+                appendRange(s, runStart, i);
+            }
+            appendRange(replacement, 0, replacement.length());
+            runStart = i + 1;
+        }
+        if (runStart != end) {
+            appendRange(s, runStart, end);
+        }
+    }
+
+    /**
+     * Write a range through {@link #append(String)} if a subclass overrides it, so that it sees all output as
+     * before {@link #append(CharSequence, int, int)} existed. Otherwise, write it without creating a substring.
+     */
+    private void appendRange(CharSequence s, int start, int end) {
+        if (appendStringOverridden) {
+            append(start == 0 && end == s.length() ? s.toString() : s.subSequence(start, end).toString());
+        } else {
+            append(s, start, end);
+        }
+    }
+
+    private static boolean overridesAppendString(Class<?> type) {
+        for (Class<?> c = type; c != HtmlWriter.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("append", String.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not in this class, check the superclass
+            } catch (SecurityException e) {
+                // Can't check, assume that it does
+                return true;
+            }
         }
+        return false;
     }
 }
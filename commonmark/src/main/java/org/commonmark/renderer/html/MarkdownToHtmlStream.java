@@ -0,0 +1,148 @@
+package org.commonmark.renderer.html;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.BlockHandler;
+import org.commonmark.parser.ForwardReferences;
+import org.commonmark.parser.Parser;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Parses Markdown and renders it to HTML at the same time: Each top-level block is rendered as soon as it has been
+ * parsed (see {@link Parser#parseReader(Reader, BlockHandler)}), so the first part of the output is available before
+ * the whole input has been read. Example:
+ * <pre><code>
+ * MarkdownToHtmlStream stream = new MarkdownToHtmlStream(parser, renderer);
+ * stream.render(reader, response.getWriter());
+ * </code></pre>
+ * Blocks that use link references without a definition so far are held back (see {@link ForwardReferences#BUFFER}),
+ * but at most {@link Parser.Builder#maxBufferedBlocks(int)} blocks, so the output doesn't wait for the end of the input.
+ * So the output is the same as rendering the result of {@link Parser#parseReader(Reader)}, unless the parser is
+ * configured with {@link ForwardReferences#IGNORE} or a definition comes after more blocks than the limit.
+ * <p>
+ * If the output is {@link Flushable}, it is flushed after each rendered block.
+ * <p>
+ * This class is thread-safe if the parser and renderer are.
+ *
+ * @since 0.22.0
+ */
+public class MarkdownToHtmlStream {
+
+    private final Parser parser;
+    private final HtmlRenderer renderer;
+
+    /**
+     * @param parser the parser to use - must not be null
+     * @param renderer the renderer to use - must not be null
+     */
+    public MarkdownToHtmlStream(Parser parser, HtmlRenderer renderer) {
+        if (parser == null) {
+            throw new NullPointerException("parser must not be null");
+        }
+        if (renderer == null) {
+            throw new NullPointerException("renderer must not be null");
+        }
+        this.parser = parser;
+        this.renderer = renderer;
+    }
+
+    /**
+     * Parse the input and render it to the output block by block. The caller is responsible for closing the reader
+     * and output.
+     *
+     * @param input the reader to parse - must not be null
+     * @param output the output to render to - must not be null
+     * @throws IOException when reading the input or writing the output throws an exception
+     */
+    public void render(Reader input, Appendable output) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output must not be null");
+        }
+        RenderingBlockHandler handler = new RenderingBlockHandler(output);
+        try {
+            parser.parseReader(input, handler);
+        } catch (RuntimeException e) {
+            // HtmlWriter wraps exceptions of the output, unwrap them again
+            if (handler.output.exception != null) {
+                throw handler.output.exception;
+            }
+            throw e;
+        }
+    }
+
+    private class RenderingBlockHandler implements BlockHandler {
+
+        private final RememberingAppendable output;
+        private final HtmlNodeRendererContext context;
+
+        RenderingBlockHandler(Appendable output) {
+            this.output = new RememberingAppendable(output);
+            this.context = renderer.createContext(this.output);
+        }
+
+        @Override
+        public void handleBlock(Node block) {
+            context.render(block);
+            output.flush();
+        }
+    }
+
+    /**
+     * Remembers the exception thrown by the output, so that it can be rethrown as-is.
+     */
+    private static class RememberingAppendable implements Appendable {
+
+        private final Appendable appendable;
+        private IOException exception;
+
+        RememberingAppendable(Appendable appendable) {
+            this.appendable = appendable;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            try {
+                appendable.append(csq);
+            } catch (IOException e) {
+                exception = e;
+                throw e;
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            try {
+                appendable.append(csq, start, end);
+            } catch (IOException e) {
+                exception = e;
+                throw e;
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            try {
+                appendable.append(c);
+            } catch (IOException e) {
+                exception = e;
+                throw e;
+            }
+            return this;
+        }
+
+        void flush() {
+            if (appendable instanceof Flushable) {
+                try {
+                    ((Flushable) appendable).flush();
+                } catch (IOException e) {
+                    exception = e;
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+}
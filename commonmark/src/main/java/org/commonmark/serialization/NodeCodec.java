@@ -0,0 +1,42 @@
+package org.commonmark.serialization;
+
+import org.commonmark.node.Node;
+
+/**
+ * Writes and reads the fields of one type of custom node (e.g. from an extension) for {@link NodeSerializer}.
+ * <p>
+ * Only the node's own fields need to be handled, its children and source spans are written and read by the
+ * serializer.
+ *
+ * @param <T> the node type
+ * @since 0.22.0
+ */
+public interface NodeCodec<T extends Node> {
+
+    /**
+     * @return the node type that this codec handles (exactly that class, not subclasses)
+     */
+    Class<T> getNodeType();
+
+    /**
+     * @return the name that identifies the node type in serialized data, e.g. the class name; it must stay the same so
+     * that data written by an earlier version can still be read (so keep the old name when moving the class)
+     */
+    String getName();
+
+    /**
+     * Write the fields of the node.
+     *
+     * @param node the node to write
+     * @param output the output to write the fields to
+     */
+    void write(T node, NodeOutput output);
+
+    /**
+     * Read the fields written by {@link #write} in the same order and create the node.
+     *
+     * @param input the input to read the fields from
+     * @return the node (without children and source spans)
+     */
+    T read(NodeInput input);
+}
@@ -0,0 +1,98 @@
+package org.commonmark.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Input for reading the fields of a node, see {@link NodeCodec#read}. The methods correspond to the ones of
+ * {@link NodeOutput}.
+ * <p>
+ * Reading malformed data throws an {@link IllegalArgumentException}.
+ *
+ * @since 0.22.0
+ */
+public final class NodeInput {
+
+    private final byte[] bytes;
+    private final int end;
+    private int position;
+    private final List<String> strings = new ArrayList<>();
+
+    NodeInput(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public int readInt() {
+        int value = readUnsignedInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public char readChar() {
+        int value = readUnsignedInt();
+        if (value > Character.MAX_VALUE) {
+            throw malformed("Invalid char " + value);
+        }
+        return (char) value;
+    }
+
+    /**
+     * @return the string, can be null
+     */
+    public String readString() {
+        int value = readUnsignedInt();
+        if (value == NodeOutput.NULL_STRING) {
+            return null;
+        } else if (value == NodeOutput.NEW_STRING) {
+            int length = readUnsignedInt();
+            if (length < 0 || length > end - position) {
+                throw malformed("Invalid string length " + length);
+            }
+            String s = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            if (length <= NodeOutput.MAX_INTERNED_LENGTH) {
+                strings.add(s);
+            }
+            return s;
+        } else {
+            int index = value - NodeOutput.REFERENCE_OFFSET;
+            if (index < 0 || index >= strings.size()) {
+                throw malformed("Invalid string reference " + index);
+            }
+            return strings.get(index);
+        }
+    }
+
+    int readUnsignedInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw malformed("Invalid variable length integer");
+    }
+
+    int readByte() {
+        if (position >= end) {
+            throw malformed("Unexpected end of data");
+        }
+        return bytes[position++];
+    }
+
+    boolean isAtEnd() {
+        return position == end;
+    }
+
+    IllegalArgumentException malformed(String message) {
+        return new IllegalArgumentException("Malformed serialized node: " + message + " at byte " + position);
+    }
+}
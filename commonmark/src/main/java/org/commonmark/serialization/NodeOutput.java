@@ -0,0 +1,109 @@
+package org.commonmark.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Output for writing the fields of a node, see {@link NodeCodec#write}.
+ * <p>
+ * Numbers are written as variable length integers, so small ones take a single byte. Short strings are interned: A
+ * string that was already written is written as a reference to the first occurrence.
+ *
+ * @since 0.22.0
+ */
+public final class NodeOutput {
+
+    /**
+     * Strings of up to this many bytes are interned, longer ones (e.g. paragraph text) are rarely repeated.
+     */
+    static final int MAX_INTERNED_LENGTH = 64;
+
+    // Encoding of strings: NULL_STRING, or NEW_STRING followed by the bytes, or the index of an interned string
+    // plus REFERENCE_OFFSET.
+    static final int NULL_STRING = 0;
+    static final int NEW_STRING = 1;
+    static final int REFERENCE_OFFSET = 2;
+
+    private byte[] bytes = new byte[256];
+    private int position = 0;
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    NodeOutput() {
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write an int, small positive and negative values take less space.
+     */
+    public void writeInt(int value) {
+        // Zigzag encoding
+        writeUnsignedInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeChar(char value) {
+        writeUnsignedInt(value);
+    }
+
+    /**
+     * @param value the string to write, can be null
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeUnsignedInt(NULL_STRING);
+            return;
+        }
+        boolean intern = value.length() <= MAX_INTERNED_LENGTH;
+        if (intern) {
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeUnsignedInt(index + REFERENCE_OFFSET);
+                return;
+            }
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        // Decide with the same criteria as the reader has
+        if (intern && encoded.length <= MAX_INTERNED_LENGTH) {
+            strings.put(value, strings.size());
+        }
+        writeUnsignedInt(NEW_STRING);
+        writeUnsignedInt(encoded.length);
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, bytes, position, encoded.length);
+        position += encoded.length;
+    }
+
+    void writeUnsignedInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        bytes[position++] = (byte) value;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, position);
+    }
+
+    void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(bytes, 0, position);
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + length));
+        }
+    }
+}
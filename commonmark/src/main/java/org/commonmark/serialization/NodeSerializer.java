@@ -0,0 +1,320 @@
+package org.commonmark.serialization;
+
+import org.commonmark.Extension;
+import org.commonmark.internal.serialization.CoreNodeCodecs;
+import org.commonmark.node.Node;
+import org.commonmark.node.SourceSpan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+
+/**
+ * Serializes a tree of nodes (e.g. a parsed document) into a compact binary format and back, so that parsed documents
+ * can be stored and rendered again later without parsing them again. Deserializing is a lot faster than parsing.
+ * <p>
+ * All core node types are supported, custom nodes need a {@link NodeCodec}. Extensions with custom nodes provide
+ * those, configure them with {@link Builder#extensions(Iterable)}. Example:
+ * <pre><code>
+ * NodeSerializer serializer = NodeSerializer.builder().extensions(extensions).build();
+ * byte[] bytes = serializer.serialize(document);
+ * // ...
+ * Node document = serializer.deserialize(bytes);
+ * </code></pre>
+ * Source spans are included. The format may change in a later version, but that version will then also be able to
+ * read the old format.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @since 0.22.0
+ */
+public class NodeSerializer {
+
+    private static final byte[] MAGIC = {'C', 'M', 'N'};
+    private static final int VERSION = 1;
+
+    // Encoding of node types: The ID of a core type, or NEW_CUSTOM_TYPE followed by the codec name, or the index of a
+    // custom type that was already written plus CUSTOM_TYPE_OFFSET.
+    private static final int NEW_CUSTOM_TYPE = CoreNodeCodecs.COUNT;
+    private static final int CUSTOM_TYPE_OFFSET = NEW_CUSTOM_TYPE + 1;
+
+    private final Map<Class<? extends Node>, NodeCodec<?>> codecsByType;
+    private final Map<String, NodeCodec<?>> codecsByName;
+
+    private NodeSerializer(Builder builder) {
+        this.codecsByType = new HashMap<>(builder.codecsByType);
+        this.codecsByName = new HashMap<>(builder.codecsByName);
+    }
+
+    /**
+     * Create a new builder for configuring a {@link NodeSerializer}.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Serialize the node and its descendants.
+     *
+     * @param node the root node - must not be null
+     * @return the serialized bytes
+     * @throws IllegalArgumentException if there's a node without a codec
+     */
+    public byte[] serialize(Node node) {
+        return write(node).toByteArray();
+    }
+
+    /**
+     * Serialize the node and its descendants to the stream, see {@link #serialize(Node)}. The stream is not closed.
+     *
+     * @param node the root node - must not be null
+     * @param output the stream to write to - must not be null
+     * @throws IOException when writing to the stream throws an exception
+     */
+    public void serialize(Node node, OutputStream output) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output must not be null");
+        }
+        write(node).writeTo(output);
+    }
+
+    /**
+     * Deserialize a node and its descendants.
+     *
+     * @param bytes the bytes written by {@link #serialize} - must not be null
+     * @return the root node
+     * @throws IllegalArgumentException if the bytes are not valid, or contain a custom node type without a codec
+     */
+    public Node deserialize(byte[] bytes) {
+        if (bytes == null) {
+            throw new NullPointerException("bytes must not be null");
+        }
+        return deserialize(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Deserialize a node and its descendants from the specified range of the array, see {@link #deserialize(byte[])}.
+     *
+     * @param bytes the array - must not be null
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the root node
+     */
+    public Node deserialize(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new NullPointerException("bytes must not be null");
+        }
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + bytes.length);
+        }
+        NodeInput input = new NodeInput(bytes, offset, length);
+        for (byte b : MAGIC) {
+            if (input.readByte() != b) {
+                throw input.malformed("Not serialized nodes");
+            }
+        }
+        int version = input.readByte();
+        if (version != VERSION) {
+            throw input.malformed("Unsupported version " + version);
+        }
+        Node node = readNode(input, new ArrayList<NodeCodec<?>>());
+        if (!input.isAtEnd()) {
+            throw input.malformed("Unexpected data after node");
+        }
+        return node;
+    }
+
+    /**
+     * Deserialize a node and its descendants from the stream, see {@link #deserialize(byte[])}. The stream is read
+     * to the end, but not closed.
+     *
+     * @param input the stream to read - must not be null
+     * @return the root node
+     * @throws IOException when reading the stream throws an exception
+     */
+    public Node deserialize(InputStream input) throws IOException {
+        if (input == null) {
+            throw new NullPointerException("input must not be null");
+        }
+        byte[] bytes = new byte[8192];
+        int length = 0;
+        int read;
+        while ((read = input.read(bytes, length, bytes.length - length)) != -1) {
+            length += read;
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+        }
+        return deserialize(bytes, 0, length);
+    }
+
+    private NodeOutput write(Node node) {
+        if (node == null) {
+            throw new NullPointerException("node must not be null");
+        }
+        NodeOutput output = new NodeOutput();
+        for (byte b : MAGIC) {
+            output.writeByte(b);
+        }
+        output.writeByte(VERSION);
+        writeNode(node, output, new HashMap<Class<? extends Node>, Integer>());
+        return output;
+    }
+
+    private void writeNode(Node node, NodeOutput output, Map<Class<? extends Node>, Integer> customTypes) {
+        Class<? extends Node> nodeType = node.getClass();
+        int coreId = CoreNodeCodecs.getId(nodeType);
+        if (coreId != -1) {
+            output.writeUnsignedInt(coreId);
+            CoreNodeCodecs.write(coreId, node, output);
+        } else {
+            NodeCodec<?> codec = codecsByType.get(nodeType);
+            if (codec == null) {
+                throw new IllegalArgumentException("No codec for node type " + nodeType.getName());
+            }
+            Integer index = customTypes.get(nodeType);
+            if (index == null) {
+                customTypes.put(nodeType, customTypes.size());
+                output.writeUnsignedInt(NEW_CUSTOM_TYPE);
+                output.writeString(codec.getName());
+            } else {
+                output.writeUnsignedInt(index + CUSTOM_TYPE_OFFSET);
+            }
+            writeFields(codec, node, output);
+        }
+
+        List<SourceSpan> sourceSpans = node.getSourceSpans();
+        output.writeUnsignedInt(sourceSpans.size());
+        for (SourceSpan sourceSpan : sourceSpans) {
+            // Signed, spans are written the way they are (the parser can produce a negative length for lazy lines)
+            output.writeInt(sourceSpan.getLineIndex());
+            output.writeInt(sourceSpan.getColumnIndex());
+            output.writeInt(sourceSpan.getLength());
+        }
+
+        int childCount = 0;
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            childCount++;
+        }
+        output.writeUnsignedInt(childCount);
+        for (Node child = node.getFirstChild(); child != null; child = child.getNext()) {
+            writeNode(child, output, customTypes);
+        }
+    }
+
+    private Node readNode(NodeInput input, List<NodeCodec<?>> customTypes) {
+        int type = input.readUnsignedInt();
+        Node node;
+        if (type >= 0 && type < NEW_CUSTOM_TYPE) {
+            node = CoreNodeCodecs.read(type, input);
+        } else {
+            NodeCodec<?> codec;
+            if (type == NEW_CUSTOM_TYPE) {
+                String name = input.readString();
+                codec = codecsByName.get(name);
+                if (codec == null) {
+                    throw new IllegalArgumentException("No codec for node type " + name);
+                }
+                customTypes.add(codec);
+            } else {
+                int index = type - CUSTOM_TYPE_OFFSET;
+                if (index < 0 || index >= customTypes.size()) {
+                    throw input.malformed("Invalid node type " + type);
+                }
+                codec = customTypes.get(index);
+            }
+            node = codec.read(input);
+            if (node == null) {
+                throw new IllegalStateException("Codec " + codec.getName() + " returned null");
+            }
+        }
+
+        int sourceSpanCount = input.readUnsignedInt();
+        for (int i = 0; i < sourceSpanCount; i++) {
+            int lineIndex = input.readInt();
+            int columnIndex = input.readInt();
+            int length = input.readInt();
+            node.addSourceSpan(SourceSpan.of(lineIndex, columnIndex, length));
+        }
+
+        int childCount = input.readUnsignedInt();
+        for (int i = 0; i < childCount; i++) {
+            node.appendChild(readNode(input, customTypes));
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Node> void writeFields(NodeCodec<T> codec, Node node, NodeOutput output) {
+        codec.write((T) node, output);
+    }
+
+    /**
+     * Builder for configuring a {@link NodeSerializer}.
+     */
+    public static class Builder {
+
+        private final Map<Class<? extends Node>, NodeCodec<?>> codecsByType = new HashMap<>();
+        private final Map<String, NodeCodec<?>> codecsByName = new HashMap<>();
+
+        /**
+         * @return the configured {@link NodeSerializer}
+         */
+        public NodeSerializer build() {
+            return new NodeSerializer(this);
+        }
+
+        /**
+         * Add a codec for a custom node type. Core node types are always supported and can't have a codec.
+         *
+         * @param codec the codec to add
+         * @return {@code this}
+         * @throws IllegalArgumentException if there's already a codec with the same node type or name
+         */
+        public Builder codec(NodeCodec<?> codec) {
+            if (codec == null) {
+                throw new NullPointerException("codec must not be null");
+            }
+            Class<? extends Node> nodeType = codec.getNodeType();
+            if (CoreNodeCodecs.getId(nodeType) != -1) {
+                throw new IllegalArgumentException("Core node type " + nodeType.getName() + " can't have a codec");
+            }
+            if (codecsByType.containsKey(nodeType)) {
+                throw new IllegalArgumentException("Duplicate codec for node type " + nodeType.getName());
+            }
+            if (codecsByName.containsKey(codec.getName())) {
+                throw new IllegalArgumentException("Duplicate codec name " + codec.getName());
+            }
+            codecsByType.put(nodeType, codec);
+            codecsByName.put(codec.getName(), codec);
+            return this;
+        }
+
+        /**
+         * @param extensions extensions to use on this serializer
+         * @return {@code this}
+         */
+        public Builder extensions(Iterable<? extends Extension> extensions) {
+            if (extensions == null) {
+                throw new NullPointerException("extensions must not be null");
+            }
+            for (Extension extension : extensions) {
+                if (extension instanceof NodeSerializerExtension) {
+                    NodeSerializerExtension serializerExtension = (NodeSerializerExtension) extension;
+                    serializerExtension.extend(this);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Extension for {@link NodeSerializer}, for adding the codecs for the extension's custom nodes.
+     */
+    public interface NodeSerializerExtension extends Extension {
+        void extend(Builder builder);
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Binary serialization of AST nodes, e.g. for caching parsed documents (see
+ * {@link org.commonmark.serialization.NodeSerializer})
+ */
+package org.commonmark.serialization;
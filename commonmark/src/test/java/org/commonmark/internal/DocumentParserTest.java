@@ -49,6 +49,20 @@ public class DocumentParserTest {
         assertTrue(hasInstance(blockParserFactories, IndentedCodeBlockParser.Factory.class));
     }
 
+    @Test
+    public void blockParserFactories_onlyIncludesFactoriesWithMatchingTriggerCharacters() {
+        BlockParserFactory indentedCode = new IndentedCodeBlockParser.Factory();
+        BlockParserFactory list = new ListBlockParser.Factory();
+        BlockParserFactory thematicBreak = new ThematicBreakParser.Factory();
+        BlockParserFactories factories = new BlockParserFactories(Arrays.asList(list, indentedCode, thematicBreak));
+
+        assertThat(Arrays.asList(factories.getFactories('-')), is(Arrays.asList(list, indentedCode, thematicBreak)));
+        assertThat(Arrays.asList(factories.getFactories('1')), is(Arrays.asList(list, indentedCode)));
+        assertThat(Arrays.asList(factories.getFactories('_')), is(Arrays.asList(indentedCode, thematicBreak)));
+        assertThat(Arrays.asList(factories.getFactories('a')), is(Collections.singletonList(indentedCode)));
+        assertThat(Arrays.asList(factories.getFactories('\u00e4')), is(Collections.singletonList(indentedCode)));
+    }
+
     private boolean hasInstance(List<BlockParserFactory> blockParserFactories, Class<? extends BlockParserFactory> factoryClass) {
         for (BlockParserFactory factory : blockParserFactories) {
             if (factory.getClass().equals(factoryClass)) {
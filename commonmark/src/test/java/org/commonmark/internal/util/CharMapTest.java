@@ -0,0 +1,41 @@
+package org.commonmark.internal.util;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CharMapTest {
+
+    @Test
+    public void asciiAndOtherCharacters() {
+        Map<Character, String> map = new HashMap<>();
+        map.put('*', "asterisk");
+        map.put('§', "section");
+        map.put('☃', "snowman");
+        CharMap<String> charMap = new CharMap<>(map);
+
+        assertEquals("asterisk", charMap.get('*'));
+        assertEquals("section", charMap.get('§'));
+        assertEquals("snowman", charMap.get('☃'));
+        assertNull(charMap.get('_'));
+        assertNull(charMap.get('☄'));
+    }
+
+    @Test
+    public void clear() {
+        CharMap<String> charMap = new CharMap<>();
+        charMap.put('_', "underscore");
+        charMap.put('☃', "snowman");
+        charMap.clear();
+
+        assertNull(charMap.get('_'));
+        assertNull(charMap.get('☃'));
+
+        charMap.put('_', "again");
+        assertEquals("again", charMap.get('_'));
+    }
+}
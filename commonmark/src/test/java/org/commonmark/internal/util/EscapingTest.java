@@ -18,4 +18,17 @@ public class EscapingTest {
         assertEquals("&lt; both &gt;", Escaping.escapeHtml("< both >"));
         assertEquals("&lt; middle &amp; too &gt;", Escaping.escapeHtml("< middle & too >"));
     }
+
+    @Test
+    public void testUnescapeString() {
+        assertEquals("nothing to unescape", Escaping.unescapeString("nothing to unescape"));
+        assertEquals("*foo* [bar] \\q", Escaping.unescapeString("\\*foo\\* \\[bar\\] \\\\q"));
+        assertEquals("\\a", Escaping.unescapeString("\\a"));
+        assertEquals("trailing \\", Escaping.unescapeString("trailing \\"));
+        assertEquals("& \u00a9 \u2014 \u00e4", Escaping.unescapeString("&amp; &copy; &#x2014; &#228;"));
+        assertEquals("&#X41; is A", Escaping.unescapeString("\\&#X41; is &#X41;"));
+        assertEquals("\uFFFD \uFFFD", Escaping.unescapeString("&#0; &#x110000;"));
+        assertEquals("&unknown; &#; &#x; &#12345678; &a; & amp;", Escaping.unescapeString("&unknown; &#; &#x; &#12345678; &a; & amp;"));
+        assertEquals("R&D \ud83d\ude00", Escaping.unescapeString("R&D &#128512;"));
+    }
 }
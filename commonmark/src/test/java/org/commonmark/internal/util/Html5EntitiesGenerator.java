@@ -0,0 +1,111 @@
+package org.commonmark.internal.util;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates {@code Html5EntitiesData} from {@code entities.properties} (the HTML5 named character references). Run
+ * with the path of the commonmark module as the argument after changing the entities; {@link Html5EntitiesTest}
+ * checks that the generated class is up to date.
+ */
+public class Html5EntitiesGenerator {
+
+    static final String ENTITIES_RESOURCE = "/org/commonmark/internal/util/entities.properties";
+    static final String GENERATED_PATH = "src/main/java/org/commonmark/internal/util/Html5EntitiesData.java";
+
+    private static final int LINE_LENGTH = 100;
+
+    public static void main(String[] args) throws IOException {
+        File file = new File(args.length > 0 ? args[0] : ".", GENERATED_PATH);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(generate());
+        }
+    }
+
+    static String generate() throws IOException {
+        Map<String, String> entities = readEntities();
+
+        StringBuilder names = new StringBuilder();
+        StringBuilder nameOffsets = new StringBuilder();
+        StringBuilder values = new StringBuilder();
+        StringBuilder valueOffsets = new StringBuilder();
+        for (Map.Entry<String, String> entry : entities.entrySet()) {
+            nameOffsets.append((char) names.length());
+            valueOffsets.append((char) values.length());
+            names.append(entry.getKey());
+            values.append(entry.getValue());
+        }
+        nameOffsets.append((char) names.length());
+        valueOffsets.append((char) values.length());
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("package org.commonmark.internal.util;\n");
+        sb.append("\n");
+        sb.append("/**\n");
+        sb.append(" * HTML5 named character references, generated from entities.properties by Html5EntitiesGenerator (in the\n");
+        sb.append(" * tests). Don't edit manually.\n");
+        sb.append(" * <p>\n");
+        sb.append(" * The names are sorted and concatenated, and the offsets of name {@code i} are at index {@code i} and\n");
+        sb.append(" * {@code i + 1} of the offsets (encoded as chars). Same for the values.\n");
+        sb.append(" */\n");
+        sb.append("class Html5EntitiesData {\n");
+        sb.append("\n");
+        sb.append("    static final int COUNT = ").append(entities.size()).append(";\n");
+        appendConstant(sb, "NAMES", names);
+        appendConstant(sb, "NAME_OFFSETS", nameOffsets);
+        appendConstant(sb, "VALUES", values);
+        appendConstant(sb, "VALUE_OFFSETS", valueOffsets);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static Map<String, String> readEntities() throws IOException {
+        // Sorted by name, for binary search
+        Map<String, String> entities = new TreeMap<>();
+        InputStream stream = Html5EntitiesGenerator.class.getResourceAsStream(ENTITIES_RESOURCE);
+        Charset charset = StandardCharsets.UTF_8;
+        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(stream, charset))) {
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                if (line.length() == 0) {
+                    continue;
+                }
+                int equal = line.indexOf("=");
+                String key = line.substring(0, equal);
+                String value = line.substring(equal + 1);
+                entities.put(key, value);
+            }
+        }
+        entities.put("NewLine", "\n");
+        return entities;
+    }
+
+    private static void appendConstant(StringBuilder sb, String name, CharSequence value) {
+        sb.append("\n");
+        sb.append("    static final String ").append(name).append(" =\n");
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c == '\n') {
+                line.append("\\n");
+            } else if (c == '\r') {
+                line.append("\\r");
+            } else if (c >= ' ' && c <= '~') {
+                line.append(c);
+            } else {
+                // Note that unicode escapes for line breaks, quotes and backslashes wouldn't work in string literals
+                line.append(String.format("\\u%04x", (int) c));
+            }
+            if (line.length() >= LINE_LENGTH || i == value.length() - 1) {
+                sb.append("            \"").append(line).append("\"");
+                sb.append(i == value.length() - 1 ? ";\n" : " +\n");
+                line.setLength(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.commonmark.internal.util;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+
+public class Html5EntitiesTest {
+
+    @Test
+    public void generatedDataIsUpToDate() throws IOException {
+        String generated = new String(Files.readAllBytes(Paths.get(Html5EntitiesGenerator.GENERATED_PATH)), StandardCharsets.UTF_8);
+        assertEquals("Html5EntitiesData is out of date, run Html5EntitiesGenerator", Html5EntitiesGenerator.generate(), generated);
+    }
+
+    @Test
+    public void named() {
+        assertEquals("&", Html5Entities.entityToString("&amp;"));
+        assertEquals("Æ", Html5Entities.entityToString("&AElig;"));
+        assertEquals("‌", Html5Entities.entityToString("&zwnj;"));
+        assertEquals("≦̸", Html5Entities.entityToString("&nlE;"));
+        assertEquals("\n", Html5Entities.entityToString("&NewLine;"));
+        assertEquals("&AMp;", Html5Entities.entityToString("&AMp;"));
+        assertEquals("&ampx;", Html5Entities.entityToString("&ampx;"));
+        assertEquals("&;", Html5Entities.entityToString("&;"));
+    }
+
+    @Test
+    public void numeric() {
+        assertEquals("#", Html5Entities.entityToString("&#35;"));
+        assertEquals("Ӓ", Html5Entities.entityToString("&#X4D2;"));
+        assertEquals("😀", Html5Entities.entityToString("&#x1F600;"));
+        assertEquals("�", Html5Entities.entityToString("&#0;"));
+        assertEquals("�", Html5Entities.entityToString("&#x110000;"));
+        assertEquals("�", Html5Entities.entityToString("&#;"));
+        assertEquals("�", Html5Entities.entityToString("&#xFFFFFFFF;"));
+    }
+
+    @Test
+    public void appendEntity() {
+        StringBuilder sb = new StringBuilder();
+        String s = "a &copy; &#65; &unknown; b";
+        Html5Entities.appendEntity(s, 2, 8, sb);
+        Html5Entities.appendEntity(s, 9, 14, sb);
+        Html5Entities.appendEntity(s, 15, 24, sb);
+        assertEquals("©A&unknown;", sb.toString());
+    }
+}
@@ -0,0 +1,76 @@
+package org.commonmark.internal.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LiteralBuilderTest {
+
+    @Test
+    public void adjacentSlices() {
+        String s = "one\ntwo\nthree";
+        LiteralBuilder builder = new LiteralBuilder();
+        builder.append(CharSlice.of(s, 0, 3));
+        builder.append('\n');
+        builder.append(CharSlice.of(s, 4, 7));
+        builder.append('\n');
+        CharSequence literal = builder.build();
+        assertTrue(literal instanceof CharSlice);
+        assertEquals("one\ntwo\n", literal.toString());
+    }
+
+    @Test
+    public void gap() {
+        String s = "one\n> two";
+        LiteralBuilder builder = new LiteralBuilder();
+        builder.append(CharSlice.of(s, 0, 3));
+        builder.append('\n');
+        builder.append(CharSlice.of(s, 6, 9));
+        CharSequence literal = builder.build();
+        assertTrue(literal instanceof String);
+        assertEquals("one\ntwo", literal);
+    }
+
+    @Test
+    public void differentChar() {
+        String s = "one\r\ntwo";
+        LiteralBuilder builder = new LiteralBuilder();
+        builder.append(CharSlice.of(s, 0, 3));
+        builder.append('\n');
+        builder.append(CharSlice.of(s, 5, 8));
+        assertEquals("one\ntwo", builder.build());
+    }
+
+    @Test
+    public void differentStrings() {
+        LiteralBuilder builder = new LiteralBuilder();
+        builder.append(CharSlice.of(new String("ab"), 0, 1));
+        builder.append(CharSlice.of(new String("ab"), 1, 2));
+        assertEquals("ab", builder.build());
+    }
+
+    @Test
+    public void strings() {
+        LiteralBuilder builder = new LiteralBuilder();
+        assertEquals("", builder.build());
+        builder.append("a");
+        builder.append('b');
+        builder.append(CharSlice.of("c"));
+        assertEquals("abc", builder.build());
+    }
+
+    @Test
+    public void slice() {
+        CharSlice slice = CharSlice.of("abcdef", 1, 5);
+        assertEquals(4, slice.length());
+        assertEquals('b', slice.charAt(0));
+        assertEquals("cd", slice.subSequence(1, 3).toString());
+        assertSame(slice, slice.subSequence(0, 4));
+        try {
+            slice.charAt(4);
+            fail("expected exception");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+}
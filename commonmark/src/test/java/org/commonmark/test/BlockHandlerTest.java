@@ -0,0 +1,138 @@
+package org.commonmark.test;
+
+import org.commonmark.node.*;
+import org.commonmark.parser.BlockHandler;
+import org.commonmark.parser.ForwardReferences;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BlockHandlerTest {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Test
+    public void specExamples() {
+        for (String example : ExampleReader.readExampleSources(TestResources.getSpec())) {
+            assertEquals(example, RENDERER.render(PARSER.parse(example)), RENDERER.render(parseStreaming(PARSER, example)));
+        }
+    }
+
+    @Test
+    public void wholeSpecWithSourceSpans() {
+        Parser parser = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+        String spec = TestResources.readAsString(TestResources.getSpec());
+
+        Node expected = parser.parse(spec);
+        Node document = parseStreaming(parser, spec);
+
+        assertEquals(RENDERER.render(expected), RENDERER.render(document));
+        assertEquals(SourceSpanRenderer.render(expected, spec), SourceSpanRenderer.render(document, spec));
+    }
+
+    @Test
+    public void blocksAreHandledBeforeEndOfInput() throws IOException {
+        StringBuilder sb = new StringBuilder("# Heading\n\n");
+        for (int i = 0; i < 10000; i++) {
+            sb.append("Paragraph ").append(i).append("\n\n");
+        }
+        final CountingReader reader = new CountingReader(new StringReader(sb.toString()));
+        final List<Integer> charsReadAtBlock = new ArrayList<>();
+
+        PARSER.parseReader(reader, new BlockHandler() {
+            @Override
+            public void handleBlock(Node block) {
+                assertThat(block.getParent(), nullValue());
+                assertThat(block.getNext(), nullValue());
+                charsReadAtBlock.add(reader.count);
+            }
+        });
+
+        assertEquals(10001, charsReadAtBlock.size());
+        assertTrue(charsReadAtBlock.get(0) < reader.count);
+    }
+
+    @Test
+    public void forwardReferenceBuffered() {
+        String input = "[foo]\n\nbar\n\n[foo]: /url\n\nbaz";
+        final List<Node> blocks = new ArrayList<>();
+        PARSER.parse(input, new BlockHandler() {
+            @Override
+            public void handleBlock(Node block) {
+                blocks.add(block);
+            }
+        });
+
+        assertEquals(4, blocks.size());
+        assertThat(blocks.get(0).getFirstChild(), instanceOf(Link.class));
+        assertThat(blocks.get(1), instanceOf(Paragraph.class));
+        assertThat(blocks.get(2), instanceOf(LinkReferenceDefinition.class));
+        assertThat(blocks.get(3), instanceOf(Paragraph.class));
+    }
+
+    @Test
+    public void forwardReferenceIgnored() {
+        Parser parser = Parser.builder().forwardReferences(ForwardReferences.IGNORE).build();
+        String input = "[foo]\n\n[foo]: /url\n\n[foo]";
+
+        assertEquals("<p>[foo]</p>\n<p><a href=\"/url\">foo</a></p>\n", RENDERER.render(parseStreaming(parser, input)));
+    }
+
+    @Test
+    public void forwardReferenceInLaterContainer() {
+        String input = "* [foo]\n\n> [foo]: /url";
+
+        assertEquals(RENDERER.render(PARSER.parse(input)), RENDERER.render(parseStreaming(PARSER, input)));
+    }
+
+    private static Node parseStreaming(Parser parser, String input) {
+        final Document document = new Document();
+        parser.parse(input, new BlockHandler() {
+            @Override
+            public void handleBlock(Node block) {
+                document.appendChild(block);
+            }
+        });
+        return document;
+    }
+
+    private static class CountingReader extends Reader {
+
+        private final Reader reader;
+        private int count = 0;
+
+        CountingReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int read = reader.read(cbuf, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.commonmark.test;
+
+import org.commonmark.node.*;
+import org.commonmark.parser.CachingParser;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.parser.PostProcessor;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.serialization.NodeSerializer;
+import org.commonmark.testutil.TestResources;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class CachingParserTest {
+
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Test
+    public void hitsAndMisses() {
+        CachingParser parser = CachingParser.builder().build();
+        Node first = parser.parse("# Heading\n\n*text*");
+        Node second = parser.parse("# Heading\n\n*text*");
+        parser.parse("other");
+
+        assertEquals(1, parser.getHitCount());
+        assertEquals(2, parser.getMissCount());
+        assertEquals(0, parser.getEvictionCount());
+        assertEquals(2, parser.size());
+        assertEquals(RENDERER.render(first), RENDERER.render(second));
+    }
+
+    @Test
+    public void returnsCopies() {
+        CachingParser parser = CachingParser.builder().build();
+        Node first = parser.parse("paragraph");
+        first.getFirstChild().unlink();
+
+        Node second = parser.parse("paragraph");
+        assertNotSame(first, second);
+        assertEquals("<p>paragraph</p>\n", RENDERER.render(second));
+
+        second.getFirstChild().getFirstChild().unlink();
+        assertEquals("<p>paragraph</p>\n", RENDERER.render(parser.parse("paragraph")));
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        String a = "a";
+        String b = "b";
+        String c = "c";
+        CachingParser measure = CachingParser.builder().build();
+        measure.parse(a);
+        long weight = measure.weight();
+
+        CachingParser parser = CachingParser.builder().concurrencyLevel(1).maximumWeight(weight * 2).build();
+        parser.parse(a);
+        parser.parse(b);
+        // Use a, so that b is the least recently used
+        parser.parse(a);
+        parser.parse(c);
+        assertEquals(1, parser.getEvictionCount());
+        assertEquals(2, parser.size());
+        assertTrue(parser.weight() <= weight * 2);
+
+        parser.parse(a);
+        assertEquals(2, parser.getHitCount());
+        parser.parse(b);
+        assertEquals(4, parser.getMissCount());
+    }
+
+    @Test
+    public void tooLargeIsNotCached() {
+        CachingParser parser = CachingParser.builder().concurrencyLevel(1).maximumWeight(1000).build();
+        String input = TestResources.readAsString(TestResources.getSpec());
+        parser.parse(input);
+        parser.parse(input);
+        assertEquals(0, parser.getHitCount());
+        assertEquals(0, parser.size());
+        assertEquals(0, parser.weight());
+    }
+
+    @Test
+    public void invalidateAll() {
+        CachingParser parser = CachingParser.builder().build();
+        parser.parse("one");
+        parser.parse("two");
+        parser.invalidateAll();
+        assertEquals(0, parser.size());
+        assertEquals(0, parser.weight());
+        parser.parse("one");
+        assertEquals(3, parser.getMissCount());
+    }
+
+    @Test
+    public void sourceSpans() {
+        CachingParser parser = CachingParser.builder()
+                .parser(Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS).build())
+                .build();
+        parser.parse("# heading");
+        Node document = parser.parse("# heading");
+        assertEquals(1, parser.getHitCount());
+        assertEquals(SourceSpan.of(0, 0, 9), document.getFirstChild().getSourceSpans().get(0));
+    }
+
+    @Test
+    public void customNodeWithoutCodec() {
+        Parser customParser = Parser.builder().postProcessor(new PostProcessor() {
+            @Override
+            public Node process(Node node) {
+                node.appendChild(new CustomBlock() {
+                });
+                return node;
+            }
+        }).build();
+        CachingParser parser = CachingParser.builder().parser(customParser).serializer(NodeSerializer.builder().build()).build();
+        try {
+            parser.parse("text");
+            fail("expected exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        final CachingParser parser = CachingParser.builder().maximumWeight(20000).build();
+        final List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inputs.add("# Heading " + i + "\n\nParagraph with *emphasis* and [a link](/url/" + i + ")");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        for (int round = 0; round < 20; round++) {
+                            for (int i = 0; i < inputs.size(); i++) {
+                                String expected = "<h1>Heading " + i + "</h1>";
+                                String html = RENDERER.render(parser.parse(inputs.get(i)));
+                                assertTrue(html, html.startsWith(expected));
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(4 * 20 * 100, parser.getHitCount() + parser.getMissCount());
+        assertTrue(parser.weight() <= 20000);
+    }
+}
@@ -0,0 +1,48 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parsing of input with a lot of delimiter runs (emphasis, strong emphasis and unmatched delimiters). Run with
+ * {@code -prof gc} to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class EmphasisBenchmark {
+
+    private static final String EMPHASIS = createInput();
+    private static final Parser PARSER = Parser.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(EmphasisBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public Node parseEmphasis() {
+        return PARSER.parse(EMPHASIS);
+    }
+
+    private static String createInput() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("Some *emphasis* and **strong emphasis** with ***both*** and _under_score_ words, ");
+            sb.append("snake_case_names, 2 * 3 * 4 and **unclosed *runs and __nested _emphasis_ inside__.\n");
+            if (i % 5 == 4) {
+                sb.append("\n");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,152 @@
+package org.commonmark.test;
+
+import org.commonmark.flat.FlatCursor;
+import org.commonmark.flat.FlatDocument;
+import org.commonmark.node.*;
+import org.commonmark.parser.Parser;
+import org.commonmark.testutil.TestResources;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares {@link FlatDocument} with a tree of nodes: Parsing (use {@code -prof gc} for the allocation rate), and
+ * analyzing a parsed document. Before running the benchmarks, the {@code main} method prints the memory that a
+ * parsed document retains for each.
+ */
+@State(Scope.Benchmark)
+@Fork(5)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class FlatDocumentBenchmark {
+
+    private static final String SPEC = TestResources.readAsString(TestResources.getSpec());
+    private static final Parser PARSER = Parser.builder().build();
+
+    private static final Node SPEC_NODE = PARSER.parse(SPEC);
+    private static final FlatDocument SPEC_FLAT = FlatDocument.of(SPEC_NODE);
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("Node: " + retainedBytesPerDocument(false) + " bytes retained per document");
+        System.out.println("FlatDocument: " + retainedBytesPerDocument(true) + " bytes retained per document");
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(FlatDocumentBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public Node parseWholeSpec() {
+        return PARSER.parse(SPEC);
+    }
+
+    @Benchmark
+    public FlatDocument parseWholeSpecFlat() {
+        return PARSER.parseFlat(SPEC);
+    }
+
+    @Benchmark
+    public int countLinks() {
+        final int[] count = {0};
+        SPEC_NODE.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Link link) {
+                count[0]++;
+                visitChildren(link);
+            }
+        });
+        return count[0];
+    }
+
+    @Benchmark
+    public int countLinksFlat() {
+        FlatCursor cursor = SPEC_FLAT.cursor();
+        int count = 0;
+        for (int i = 0; i < SPEC_FLAT.getNodeCount(); i++) {
+            cursor.moveTo(i);
+            if (cursor.getNodeType() == Link.class) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<String> extractHeadings() {
+        final List<String> headings = new ArrayList<>();
+        SPEC_NODE.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                StringBuilder sb = new StringBuilder();
+                for (Node child = heading.getFirstChild(); child != null; child = child.getNext()) {
+                    if (child instanceof Text) {
+                        sb.append(((Text) child).getLiteralSequence());
+                    }
+                }
+                headings.add(sb.toString());
+            }
+        });
+        return headings;
+    }
+
+    @Benchmark
+    public List<String> extractHeadingsFlat() {
+        List<String> headings = new ArrayList<>();
+        FlatCursor cursor = SPEC_FLAT.cursor();
+        for (int i = 0; i < SPEC_FLAT.getNodeCount(); i++) {
+            cursor.moveTo(i);
+            if (cursor.getNodeType() == Heading.class) {
+                StringBuilder sb = new StringBuilder();
+                if (cursor.moveToFirstChild()) {
+                    do {
+                        if (cursor.getNodeType() == Text.class) {
+                            sb.append(cursor.getLiteral());
+                        }
+                    } while (cursor.moveToNext());
+                }
+                headings.add(sb.toString());
+            }
+        }
+        return headings;
+    }
+
+    @Benchmark
+    public Node materializeWholeSpec() {
+        return SPEC_FLAT.toNode();
+    }
+
+    private static long retainedBytesPerDocument(boolean flat) throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            PARSER.parseFlat(SPEC);
+        }
+
+        int count = 100;
+        Object[] documents = new Object[count];
+        long before = usedMemory();
+        for (int i = 0; i < count; i++) {
+            documents[i] = flat ? PARSER.parseFlat(SPEC) : PARSER.parse(SPEC);
+        }
+        long after = usedMemory();
+        // Keep the documents reachable until after the measurement
+        if (documents[count - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return (after - before) / count;
+    }
+
+    private static long usedMemory() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,226 @@
+package org.commonmark.test;
+
+import org.commonmark.flat.FlatCursor;
+import org.commonmark.flat.FlatDocument;
+import org.commonmark.node.*;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.serialization.NodeSerializer;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FlatDocumentTest {
+
+    private static final Parser PARSER = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+    // Compares all fields and source spans of the nodes
+    private static final NodeSerializer SERIALIZER = NodeSerializer.builder().build();
+
+    @Test
+    public void specExamples() {
+        List<String> examples = ExampleReader.readExampleSources(TestResources.getSpec());
+        for (String example : examples) {
+            assertRoundTrip(example);
+        }
+    }
+
+    @Test
+    public void wholeSpec() {
+        assertRoundTrip(TestResources.readAsString(TestResources.getSpec()));
+    }
+
+    @Test
+    public void fields() {
+        assertRoundTrip("1) tight\n2) list\n\n" +
+                "5. loose\n\n   list\n\n" +
+                "+ bullet\n\n" +
+                "  ~~~~ info string\n  code\n  ~~~~\n\n" +
+                "    indented\n\n" +
+                "<div>\nhtml\n</div>\n\n" +
+                "Setext\n---\n\n" +
+                "[ref]: /url 'title'\n\n" +
+                "__strong__ _em_ [link](/dest \"title\") ![image](/src) <span> \\\n" +
+                "`code` &auml;&#x1F600;");
+    }
+
+    @Test
+    public void parseFlat() {
+        String input = "# Heading\n\nParagraph *with* emphasis";
+        FlatDocument document = PARSER.parseFlat(input);
+        assertArrayEquals(SERIALIZER.serialize(PARSER.parse(input)), SERIALIZER.serialize(document.toNode()));
+    }
+
+    @Test
+    public void cursor() {
+        FlatDocument document = PARSER.parseFlat("# Title\n\nSee [the docs](/docs \"Docs\") and `code`.\n");
+        assertEquals(10, document.getNodeCount());
+
+        FlatCursor cursor = document.cursor();
+        assertEquals(0, cursor.getIndex());
+        assertEquals(Document.class, cursor.getNodeType());
+        assertFalse(cursor.moveToParent());
+        assertFalse(cursor.moveToNext());
+
+        assertTrue(cursor.moveToFirstChild());
+        assertEquals(Heading.class, cursor.getNodeType());
+        assertEquals(1, cursor.getIndex());
+        assertEquals(1, cursor.getLevel());
+        assertNull(cursor.getLiteral());
+        assertEquals(Arrays.asList(SourceSpan.of(0, 0, 7)), cursor.getSourceSpans());
+
+        assertTrue(cursor.moveToFirstChild());
+        assertEquals(Text.class, cursor.getNodeType());
+        assertEquals("Title", cursor.getLiteral().toString());
+        assertEquals(0, cursor.getLevel());
+        assertFalse(cursor.moveToFirstChild());
+        assertFalse(cursor.moveToNext());
+        assertEquals(2, cursor.getIndex());
+
+        assertTrue(cursor.moveToParent());
+        assertTrue(cursor.moveToNext());
+        assertEquals(Paragraph.class, cursor.getNodeType());
+        List<Class<? extends Node>> children = new ArrayList<>();
+        assertTrue(cursor.moveToFirstChild());
+        do {
+            children.add(cursor.getNodeType());
+        } while (cursor.moveToNext());
+        assertEquals(Arrays.<Class<? extends Node>>asList(Text.class, Link.class, Text.class, Code.class, Text.class), children);
+
+        cursor.moveTo(5);
+        assertEquals(Link.class, cursor.getNodeType());
+        assertEquals("/docs", cursor.getDestination());
+        assertEquals("Docs", cursor.getTitle());
+        assertTrue(cursor.moveToFirstChild());
+        assertEquals("the docs", cursor.getLiteral().toString());
+        assertNull(cursor.getDestination());
+    }
+
+    @Test
+    public void cursorLiterals() {
+        FlatDocument document = PARSER.parseFlat("caf\u00e9 \u2192 [x](/\u00fc\u2192)");
+        FlatCursor cursor = document.cursor();
+        cursor.moveTo(2);
+        assertEquals(Text.class, cursor.getNodeType());
+        assertEquals("caf\u00e9 \u2192 ", cursor.getLiteral().toString());
+        cursor.moveToNext();
+        assertEquals("/\u00fc\u2192", cursor.getDestination());
+        cursor.moveToFirstChild();
+        CharSequence literal = cursor.getLiteral();
+        assertEquals("x", literal.toString());
+        assertEquals('x', literal.charAt(0));
+        assertEquals("", literal.subSequence(1, 1).toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void cursorMoveToInvalidIndex() {
+        FlatDocument document = PARSER.parseFlat("text");
+        document.cursor().moveTo(document.getNodeCount());
+    }
+
+    @Test
+    public void documentOrder() {
+        Node node = PARSER.parse("> - *a*\n>   b\n>\n> c\n\nd");
+        final List<Class<? extends Node>> visited = new ArrayList<>();
+        node.accept(new AbstractVisitor() {
+            @Override
+            protected void visitChildren(Node parent) {
+                visited.add(parent.getClass());
+                super.visitChildren(parent);
+            }
+
+            @Override
+            public void visit(Text text) {
+                visited.add(Text.class);
+            }
+
+            @Override
+            public void visit(SoftLineBreak softLineBreak) {
+                visited.add(SoftLineBreak.class);
+            }
+        });
+
+        FlatDocument document = FlatDocument.of(node);
+        FlatCursor cursor = document.cursor();
+        List<Class<? extends Node>> types = new ArrayList<>();
+        for (int i = 0; i < document.getNodeCount(); i++) {
+            cursor.moveTo(i);
+            types.add(cursor.getNodeType());
+        }
+        assertEquals(visited, types);
+    }
+
+    @Test
+    public void subtree() {
+        Node node = PARSER.parse("- one\n- two *three*\n\nafter");
+        FlatDocument document = FlatDocument.of(node);
+        FlatCursor cursor = document.cursor();
+        cursor.moveToFirstChild();
+        cursor.moveToFirstChild();
+        cursor.moveToNext();
+        assertEquals(ListItem.class, cursor.getNodeType());
+
+        Node listItem = cursor.toNode();
+        assertNull(listItem.getParent());
+        assertNull(listItem.getNext());
+        Node expected = node.getFirstChild().getLastChild();
+        assertArrayEquals(SERIALIZER.serialize(expected), SERIALIZER.serialize(listItem));
+        assertEquals(Arrays.asList(SourceSpan.of(1, 0, 13)), listItem.getSourceSpans());
+
+        // Each call creates new nodes
+        assertNotSame(listItem, cursor.toNode());
+    }
+
+    @Test
+    public void withoutSourceSpans() {
+        Node node = Parser.builder().build().parse("Some *text*");
+        FlatDocument document = FlatDocument.of(node);
+        assertEquals(Collections.<SourceSpan>emptyList(), document.cursor().getSourceSpans());
+        assertArrayEquals(SERIALIZER.serialize(node), SERIALIZER.serialize(document.toNode()));
+    }
+
+    @Test
+    public void sliceLiterals() {
+        Parser parser = Parser.builder().sliceLiterals(true).build();
+        String input = "Some `code` and *text*";
+        assertEquals(RENDERER.render(parser.parse(input)), RENDERER.render(parser.parseFlat(input).toNode()));
+    }
+
+    @Test
+    public void nodeWithoutParent() {
+        Paragraph paragraph = new Paragraph();
+        paragraph.appendChild(new Text("text"));
+        Document document = new Document();
+        document.appendChild(paragraph);
+        document.appendChild(new ThematicBreak());
+
+        FlatDocument flat = FlatDocument.of(paragraph);
+        assertEquals(2, flat.getNodeCount());
+        assertEquals("<p>text</p>\n", RENDERER.render(flat.toNode()));
+        assertSame(document, paragraph.getParent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void customNode() {
+        Document document = new Document();
+        document.appendChild(new CustomNode() {
+        });
+        FlatDocument.of(document);
+    }
+
+    private static void assertRoundTrip(String input) {
+        Node node = PARSER.parse(input);
+        byte[] expected = SERIALIZER.serialize(node);
+        Node materialized = FlatDocument.of(node).toNode();
+        assertArrayEquals(input, expected, SERIALIZER.serialize(materialized));
+        assertEquals(RENDERER.render(node), RENDERER.render(materialized));
+    }
+}
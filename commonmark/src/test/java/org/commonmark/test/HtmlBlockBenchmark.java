@@ -0,0 +1,57 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parsing of HTML-heavy input (like documents exported from a CMS), where a lot of lines start with {@code <} and have
+ * to be checked for the start of an HTML block.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class HtmlBlockBenchmark {
+
+    private static final String HTML = createInput();
+    private static final Parser PARSER = Parser.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(HtmlBlockBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public Node parseHtml() {
+        return PARSER.parse(HTML);
+    }
+
+    private static String createInput() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sb.append("<div class=\"section\" id=\"s").append(i).append("\">\n");
+            sb.append("<p>Some <b>bold</b> text</p>\n");
+            sb.append("<TABLE border=1><tr><td>cell</td></tr></TABLE>\n");
+            sb.append("</div>\n\n");
+            sb.append("<custom-element data-index='").append(i).append("' hidden>\n");
+            sb.append("*markdown* inside\n");
+            sb.append("</custom-element>\n\n");
+            sb.append("<!-- comment ").append(i).append(" -->\n\n");
+            sb.append("<script type=\"text/javascript\">\n");
+            sb.append("var x = 1 < 2;\n");
+            sb.append("</script>\n\n");
+            sb.append("Paragraph with <span>inline</span> HTML\n");
+            sb.append("<span>continuation</span>\n\n");
+            sb.append("<img src=\"image.png\" alt=\"image\" />\n\n");
+        }
+        return sb.toString();
+    }
+}
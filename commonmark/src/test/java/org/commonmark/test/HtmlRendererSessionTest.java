@@ -0,0 +1,76 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.Resettable;
+import org.commonmark.renderer.html.*;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class HtmlRendererSessionTest {
+
+    private static final Parser PARSER = Parser.builder().build();
+
+    @Test
+    public void specExamples() {
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        List<String> examples = ExampleReader.readExampleSources(TestResources.getSpec());
+        HtmlRendererSession session = renderer.newSession();
+        for (String example : examples) {
+            Node document = PARSER.parse(example);
+            assertEquals(example, renderer.render(document), session.render(document));
+        }
+    }
+
+    @Test
+    public void lastCharIsNotShared() {
+        HtmlRendererSession session = HtmlRenderer.builder().build().newSession();
+        StringBuilder sb = new StringBuilder();
+        session.render(PARSER.parse("foo"), sb);
+        // Would start with a line break if the writer still knew about the previous output
+        session.render(PARSER.parse("bar"), sb);
+        assertEquals("<p>foo</p>\n<p>bar</p>\n", sb.toString());
+    }
+
+    @Test
+    public void providersAreCreatedOnceAndReset() {
+        final int[] created = {0};
+        HtmlRenderer renderer = HtmlRenderer.builder().attributeProviderFactory(new AttributeProviderFactory() {
+            @Override
+            public AttributeProvider create(AttributeProviderContext context) {
+                created[0]++;
+                return new CountingAttributeProvider();
+            }
+        }).build();
+
+        HtmlRendererSession session = renderer.newSession();
+        assertEquals("<h1 data-count=\"1\">a</h1>\n<h1 data-count=\"2\">b</h1>\n", session.render(PARSER.parse("# a\n# b")));
+        assertEquals("<h1 data-count=\"1\">c</h1>\n", session.render(PARSER.parse("# c")));
+        assertEquals(1, created[0]);
+    }
+
+    private static class CountingAttributeProvider implements AttributeProvider, Resettable {
+
+        private int count = 0;
+
+        @Override
+        public void setAttributes(Node node, String tagName, Map<String, String> attributes) {
+            if (node instanceof Heading) {
+                count++;
+                attributes.put("data-count", String.valueOf(count));
+            }
+        }
+
+        @Override
+        public void reset() {
+            count = 0;
+        }
+    }
+}
@@ -7,6 +7,11 @@ import org.commonmark.renderer.html.*;
 import org.commonmark.testutil.TestResources;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -14,8 +19,11 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class HtmlRendererTest {
 
@@ -183,6 +191,39 @@ public class HtmlRendererTest {
         assertEquals("<p><img src=\"/url\" test=\"hey\" /></p>\n", rendered);
     }
 
+    @Test
+    public void attributeProviderUsingMapApi() {
+        AttributeProviderFactory custom = new AttributeProviderFactory() {
+            @Override
+            public AttributeProvider create(AttributeProviderContext context) {
+                return new AttributeProvider() {
+                    @Override
+                    public void setAttributes(Node node, String tagName, Map<String, String> attributes) {
+                        if (node instanceof Link) {
+                            for (Iterator<Map.Entry<String, String>> it = attributes.entrySet().iterator(); it.hasNext(); ) {
+                                Map.Entry<String, String> entry = it.next();
+                                if (entry.getKey().equals("rel")) {
+                                    it.remove();
+                                } else if (entry.getKey().equals("title")) {
+                                    entry.setValue(entry.getValue().toUpperCase());
+                                }
+                            }
+                            attributes.put("target", "_blank");
+                            // Replacing keeps the position
+                            attributes.put("href", attributes.get("href") + "#x");
+                            assertEquals(3, attributes.size());
+                            assertEquals(false, attributes.containsKey("rel"));
+                        }
+                    }
+                };
+            }
+        };
+
+        HtmlRenderer renderer = HtmlRenderer.builder().attributeProviderFactory(custom).sanitizeUrls(true).build();
+        String rendered = renderer.render(parse("[a](/url \"title\")"));
+        assertEquals("<p><a href=\"/url#x\" title=\"TITLE\" target=\"_blank\">a</a></p>\n", rendered);
+    }
+
     @Test
     public void attributeProviderFactoryNewInstanceForEachRender() {
         AttributeProviderFactory factory = new AttributeProviderFactory() {
@@ -230,6 +271,71 @@ public class HtmlRendererTest {
         assertEquals("<p>foo test</p>\n", rendered);
     }
 
+    @Test
+    public void extendedAttributesAreModifiableCopy() {
+        final Map<String, String> shared = new LinkedHashMap<>();
+        shared.put("class", "link");
+        HtmlNodeRendererFactory nodeRendererFactory = new HtmlNodeRendererFactory() {
+            @Override
+            public NodeRenderer create(final HtmlNodeRendererContext context) {
+                return new NodeRenderer() {
+                    @Override
+                    public Set<Class<? extends Node>> getNodeTypes() {
+                        return Collections.<Class<? extends Node>>singleton(Link.class);
+                    }
+
+                    @Override
+                    public void render(Node node) {
+                        Map<String, String> attrs = context.extendAttributes(node, "a", shared);
+                        attrs.put("href", ((Link) node).getDestination());
+                        Map<String, String> empty = context.extendAttributes(node, "span",
+                                Collections.<String, String>emptyMap());
+                        empty.put("id", "x");
+                        context.getWriter().tag("a", attrs);
+                        context.getWriter().tag("span", empty);
+                    }
+                };
+            }
+        };
+
+        // No attribute providers, so there is nothing to extend
+        HtmlRenderer renderer = HtmlRenderer.builder().nodeRendererFactory(nodeRendererFactory).build();
+        String rendered = renderer.render(parse("[a](/a) [b](/b)"));
+        assertEquals("<p><a class=\"link\" href=\"/a\"><span id=\"x\"> <a class=\"link\" href=\"/b\"><span id=\"x\"></p>\n",
+                rendered);
+        assertEquals(Collections.singletonMap("class", "link"), shared);
+    }
+
+    @Test
+    public void subclassUsesRendererOfSuperclass() {
+        HtmlNodeRendererFactory nodeRendererFactory = new HtmlNodeRendererFactory() {
+            @Override
+            public NodeRenderer create(final HtmlNodeRendererContext context) {
+                return new NodeRenderer() {
+                    @Override
+                    public Set<Class<? extends Node>> getNodeTypes() {
+                        return Collections.<Class<? extends Node>>singleton(CustomInline.class);
+                    }
+
+                    @Override
+                    public void render(Node node) {
+                        context.getWriter().text("custom");
+                    }
+                };
+            }
+        };
+        HtmlRenderer renderer = HtmlRenderer.builder().nodeRendererFactory(nodeRendererFactory).build();
+
+        Paragraph paragraph = new SubParagraph();
+        paragraph.appendChild(new SubCustomInline());
+        paragraph.appendChild(new Text(" "));
+        paragraph.appendChild(new CustomInline());
+        paragraph.appendChild(new OtherCustomNode());
+        Document document = new Document();
+        document.appendChild(paragraph);
+        assertEquals("<p>custom custom</p>\n", renderer.render(document));
+    }
+
     @Test
     public void orderedListStartZero() {
         assertEquals("<ol start=\"0\">\n<li>Test</li>\n</ol>\n", defaultRenderer().render(parse("0. Test\n")));
@@ -299,6 +405,62 @@ public class HtmlRendererTest {
         }
     }
 
+    @Test
+    public void renderToOutputStream() throws IOException {
+        // Non-ASCII chars of all lengths, unpaired surrogates (encoded as "?") and more than one buffer of output
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("* caf\u00e9 \u20ac \uD83D\uDE00 \uD83D *a\uDE00* &lt; `\uD83D` ").append(i).append("\n");
+        }
+        Node document = parse(sb.toString());
+        byte[] expected = defaultRenderer().render(document).getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        defaultRenderer().render(document, out);
+        assertArrayEquals(expected, out.toByteArray());
+
+        ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+        defaultRenderer().render(document, Channels.newChannel(channelOut));
+        assertArrayEquals(expected, channelOut.toByteArray());
+    }
+
+    @Test
+    public void renderToOutputStreamSpec() throws IOException {
+        Node document = parse(TestResources.readAsString(TestResources.getSpec()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        defaultRenderer().render(document, out);
+        assertArrayEquals(defaultRenderer().render(document).getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void renderToOutputStreamException() {
+        final IOException exception = new IOException("test");
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw exception;
+            }
+        };
+        try {
+            defaultRenderer().render(parse("foo"), out);
+            fail("expected exception");
+        } catch (IOException e) {
+            assertSame(exception, e);
+        }
+    }
+
+    private static class SubParagraph extends Paragraph {
+    }
+
+    private static class CustomInline extends CustomNode {
+    }
+
+    private static class SubCustomInline extends CustomInline {
+    }
+
+    private static class OtherCustomNode extends CustomNode {
+    }
+
     private static HtmlRenderer defaultRenderer() {
         return HtmlRenderer.builder().build();
     }
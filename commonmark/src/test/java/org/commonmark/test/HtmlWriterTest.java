@@ -0,0 +1,107 @@
+package org.commonmark.test;
+
+import org.commonmark.renderer.html.HtmlWriter;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class HtmlWriterTest {
+
+    @Test
+    public void text() {
+        StringBuilder sb = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(sb);
+        writer.text("nothing to escape, ");
+        writer.text("<a & \"b\">");
+        assertEquals("nothing to escape, &lt;a &amp; &quot;b&quot;&gt;", sb.toString());
+    }
+
+    @Test
+    public void textRange() {
+        StringBuilder sb = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(sb);
+        String source = "foo <b>&</b> bar";
+        writer.text(source, 4, 12);
+        writer.text(source, 0, 0);
+        writer.text(new StringBuilder(source), 12, 16);
+        assertEquals("&lt;b&gt;&amp;&lt;/b&gt; bar", sb.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void textRangeOutOfBounds() {
+        new HtmlWriter(new StringBuilder()).text("foo", 2, 4);
+    }
+
+    @Test
+    public void rawRange() {
+        StringBuilder sb = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(sb);
+        String source = "foo <b>&amp;</b> bar";
+        writer.raw(source, 4, 16);
+        writer.raw(new StringBuilder(source), 0, 0);
+        assertEquals("<b>&amp;</b>", sb.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rawRangeOutOfBounds() {
+        new HtmlWriter(new StringBuilder()).raw("foo", 2, 4);
+    }
+
+    @Test
+    public void lineAfterEscapedText() {
+        StringBuilder sb = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(sb);
+        writer.text("a <");
+        writer.line();
+        writer.text("b\n");
+        writer.line();
+        assertEquals("a &lt;\nb\n", sb.toString());
+    }
+
+    @Test
+    public void attributes() {
+        StringBuilder sb = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(sb);
+        writer.tag("a", Collections.singletonMap("title", "\"x\" & <y>"));
+        assertEquals("<a title=\"&quot;x&quot; &amp; &lt;y&gt;\">", sb.toString());
+    }
+
+    @Test
+    public void appendOverride() {
+        final StringBuilder seen = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(new StringBuilder()) {
+            @Override
+            protected void append(CharSequence s, int start, int end) {
+                seen.append(s, start, end);
+                super.append(s, start, end);
+            }
+        };
+        writer.tag("a", Collections.singletonMap("title", "x & y"));
+        writer.text("<text>");
+        writer.raw("</a>");
+        assertEquals("<a title=\"x &amp; y\">&lt;text&gt;</a>", seen.toString());
+    }
+
+    @Test
+    public void appendStringOverride() {
+        // Subclasses that only override append(String) see all output, including escaped text and attributes
+        final StringBuilder seen = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
+        HtmlWriter writer = new HtmlWriter(sb) {
+            @Override
+            protected void append(String s) {
+                seen.append(s);
+                super.append(s);
+            }
+        };
+        writer.tag("a", Collections.singletonMap("title", "x & y"));
+        writer.text("<text>");
+        writer.text("a <b> c", 2, 5);
+        writer.raw("x<br>y", 1, 5);
+        writer.raw("</a>");
+        assertEquals("<a title=\"x &amp; y\">&lt;text&gt;&lt;b&gt;<br></a>", seen.toString());
+        assertEquals(seen.toString(), sb.toString());
+    }
+}
@@ -0,0 +1,132 @@
+package org.commonmark.test;
+
+import org.commonmark.internal.InlineParserImpl;
+import org.commonmark.node.*;
+import org.commonmark.parser.*;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.serialization.NodeSerializer;
+import org.commonmark.testutil.TestResources;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LazyInlinesTest {
+
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Test
+    public void inlinesAreParsedOnAccess() {
+        CountingInlineParserFactory factory = new CountingInlineParserFactory();
+        Parser parser = Parser.builder().lazyInlines(true).inlineParserFactory(factory).build();
+        Node document = parser.parse("# Heading *one*\n\nParagraph\n\n- item *two*\n");
+        assertEquals(0, factory.parsed.get());
+
+        Heading heading = (Heading) document.getFirstChild();
+        assertEquals(0, factory.parsed.get());
+        assertEquals(Text.class, heading.getFirstChild().getClass());
+        assertEquals(1, factory.parsed.get());
+        assertEquals(Emphasis.class, heading.getLastChild().getClass());
+        assertEquals(1, factory.parsed.get());
+
+        // Block children are there without parsing inlines
+        ListItem listItem = (ListItem) document.getLastChild().getFirstChild();
+        Paragraph itemParagraph = (Paragraph) listItem.getFirstChild();
+        assertEquals(1, factory.parsed.get());
+        assertEquals("item ", ((Text) itemParagraph.getFirstChild()).getLiteral());
+        assertEquals(2, factory.parsed.get());
+
+        assertEquals("<h1>Heading <em>one</em></h1>\n<p>Paragraph</p>\n<ul>\n<li>item <em>two</em></li>\n</ul>\n",
+                RENDERER.render(document));
+        assertEquals(3, factory.parsed.get());
+        // Each block only once
+        RENDERER.render(document);
+        assertEquals(3, factory.parsed.get());
+    }
+
+    @Test
+    public void sameResultAsEager() {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        Parser eager = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+        Parser lazy = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).lazyInlines(true).build();
+        NodeSerializer serializer = NodeSerializer.builder().build();
+        assertArrayEquals(serializer.serialize(eager.parse(spec)), serializer.serialize(lazy.parse(spec)));
+    }
+
+    @Test
+    public void appendBeforeAccess() {
+        Parser parser = Parser.builder().lazyInlines(true).build();
+        Node document = parser.parse("text");
+        Paragraph paragraph = (Paragraph) document.getFirstChild();
+        paragraph.appendChild(new Text(" appended"));
+        paragraph.prependChild(new Text("prepended "));
+        assertEquals("<p>prepended text appended</p>\n", RENDERER.render(document));
+    }
+
+    @Test
+    public void definitionsAfterParsing() {
+        // Reusing the parser state for the next document must not change the definitions of the first one
+        ParserSession session = Parser.builder().lazyInlines(true).build().newSession();
+        Node first = session.parse("[foo]\n\n[foo]: /first\n");
+        Node second = session.parse("[foo]: /second\n\n[bar]: /bar\n");
+        assertEquals("<p><a href=\"/first\">foo</a></p>\n", RENDERER.render(first));
+        assertEquals("", RENDERER.render(second));
+    }
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append("Paragraph ").append(i).append(" with *emphasis* and [a link](/").append(i).append(")\n\n");
+        }
+        String input = sb.toString();
+        final String expected = RENDERER.render(Parser.builder().build().parse(input));
+
+        CountingInlineParserFactory factory = new CountingInlineParserFactory();
+        final Node document = Parser.builder().lazyInlines(true).inlineParserFactory(factory).build().parse(input);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        start.await();
+                        return RENDERER.render(document);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(200, factory.parsed.get());
+    }
+
+    private static class CountingInlineParserFactory implements InlineParserFactory {
+
+        private final AtomicInteger parsed = new AtomicInteger();
+
+        @Override
+        public InlineParser create(InlineParserContext inlineParserContext) {
+            final InlineParser inlineParser = new InlineParserImpl(inlineParserContext);
+            return new InlineParser() {
+                @Override
+                public void parse(SourceLines lines, Node node) {
+                    parsed.incrementAndGet();
+                    inlineParser.parse(lines, node);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parsing of list-heavy input (like outlines or changelogs), where most blocks are lists and list items that don't have
+ * inline content themselves. Use {@code -prof gc} for the allocation rate.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ListBenchmark {
+
+    private static final String LISTS = createInput();
+    private static final Parser PARSER = Parser.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ListBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public Node parseLists() {
+        return PARSER.parse(LISTS);
+    }
+
+    private static String createInput() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sb.append("- Item ").append(i).append("\n");
+            sb.append("  - Nested *item*\n");
+            sb.append("    1. Ordered\n");
+            sb.append("    2. Ordered with `code`\n");
+            sb.append("  - > Quoted\n");
+            sb.append("- Item\n\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,167 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.*;
+import org.commonmark.testutil.TestResources;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MarkdownToHtmlStreamTest {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Test
+    public void spec() throws IOException {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        StringBuilder sb = new StringBuilder();
+        new MarkdownToHtmlStream(PARSER, RENDERER).render(new StringReader(spec), sb);
+
+        assertEquals(RENDERER.render(PARSER.parse(spec)), sb.toString());
+    }
+
+    @Test
+    public void outputIsFlushedPerBlock() throws IOException {
+        final StringWriter writer = new StringWriter();
+        final int[] flushedLength = {-1};
+        Writer flushRecorder = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                writer.write(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+                if (flushedLength[0] == -1) {
+                    flushedLength[0] = writer.getBuffer().length();
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        new MarkdownToHtmlStream(PARSER, RENDERER).render(new StringReader("# Heading\n\nParagraph"), flushRecorder);
+
+        assertEquals("<h1>Heading</h1>\n<p>Paragraph</p>\n", writer.toString());
+        assertEquals("<h1>Heading</h1>\n".length(), flushedLength[0]);
+    }
+
+    @Test
+    public void forwardReferences() throws IOException {
+        String input = "[foo]\n\n[bar]\n\n[foo]: /url";
+        StringBuilder sb = new StringBuilder();
+        new MarkdownToHtmlStream(PARSER, RENDERER).render(new StringReader(input), sb);
+        assertEquals("<p><a href=\"/url\">foo</a></p>\n<p>[bar]</p>\n", sb.toString());
+
+        Parser bounded = Parser.builder().maxBufferedBlocks(1).build();
+        sb = new StringBuilder();
+        new MarkdownToHtmlStream(bounded, RENDERER).render(new StringReader(input), sb);
+        assertEquals("<p>[foo]</p>\n<p>[bar]</p>\n", sb.toString());
+    }
+
+    @Test
+    public void unresolvedReferenceDoesNotHoldBackOutput() throws IOException {
+        StringBuilder input = new StringBuilder("- [x] done\n\n");
+        for (int i = 0; i < 5000; i++) {
+            input.append("Paragraph ").append(i).append("\n\n");
+        }
+        final int[] read = {0};
+        Reader reader = new StringReader(input.toString()) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                int n = super.read(cbuf, off, len);
+                read[0] += Math.max(n, 0);
+                return n;
+            }
+        };
+        final StringWriter writer = new StringWriter();
+        final int[] readAtFirstOutput = {-1};
+        Writer recorder = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                writer.write(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+                if (readAtFirstOutput[0] == -1 && writer.getBuffer().length() > 0) {
+                    readAtFirstOutput[0] = read[0];
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        new MarkdownToHtmlStream(PARSER, RENDERER).render(reader, recorder);
+
+        assertTrue(writer.toString().startsWith("<ul>\n<li>[x] done</li>\n</ul>\n<p>Paragraph 0</p>\n"));
+        assertTrue("first output after reading " + readAtFirstOutput[0] + " of " + input.length() + " chars",
+                readAtFirstOutput[0] < input.length() / 2);
+    }
+
+    @Test
+    public void attributeProviderIsSharedBetweenBlocks() throws IOException {
+        HtmlRenderer renderer = HtmlRenderer.builder().attributeProviderFactory(new AttributeProviderFactory() {
+            @Override
+            public AttributeProvider create(AttributeProviderContext context) {
+                return new AttributeProvider() {
+                    private int count = 0;
+
+                    @Override
+                    public void setAttributes(Node node, String tagName, Map<String, String> attributes) {
+                        if (node instanceof Heading) {
+                            attributes.put("id", "h" + count++);
+                        }
+                    }
+                };
+            }
+        }).build();
+
+        StringBuilder sb = new StringBuilder();
+        new MarkdownToHtmlStream(PARSER, renderer).render(new StringReader("# a\n# b"), sb);
+        assertEquals("<h1 id=\"h0\">a</h1>\n<h1 id=\"h1\">b</h1>\n", sb.toString());
+    }
+
+    @Test
+    public void outputException() {
+        final IOException exception = new IOException("broken pipe");
+        Writer failingWriter = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw exception;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try {
+            new MarkdownToHtmlStream(PARSER, RENDERER).render(new StringReader("foo"), failingWriter);
+            fail("expected exception");
+        } catch (IOException e) {
+            assertSame(exception, e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.commonmark.test;
+
+import org.commonmark.node.*;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.serialization.NodeCodec;
+import org.commonmark.serialization.NodeInput;
+import org.commonmark.serialization.NodeOutput;
+import org.commonmark.serialization.NodeSerializer;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NodeSerializerTest {
+
+    private static final Parser PARSER = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+    private static final NodeSerializer SERIALIZER = NodeSerializer.builder().build();
+
+    @Test
+    public void specExamples() {
+        List<String> examples = ExampleReader.readExampleSources(TestResources.getSpec());
+        for (String example : examples) {
+            assertRoundTrip(example);
+        }
+    }
+
+    @Test
+    public void wholeSpec() {
+        assertRoundTrip(TestResources.readAsString(TestResources.getSpec()));
+    }
+
+    @Test
+    public void fields() {
+        assertRoundTrip("1) tight\n2) list\n\n" +
+                "5. loose\n\n   list\n\n" +
+                "+ bullet\n\n" +
+                "  ~~~~ info string\n  code\n  ~~~~\n\n" +
+                "Setext\n---\n\n" +
+                "[ref]: /url 'title'\n\n" +
+                "__strong__ _em_ [link](/dest \"title\") ![image](/src) <span> \\\n" +
+                "`code` &auml;&#x1F600;");
+    }
+
+    @Test
+    public void streams() throws IOException {
+        Node document = PARSER.parse("# Heading\n\nParagraph *with* emphasis");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SERIALIZER.serialize(document, out);
+        assertArrayEquals(SERIALIZER.serialize(document), out.toByteArray());
+
+        Node deserialized = SERIALIZER.deserialize(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(RENDERER.render(document), RENDERER.render(deserialized));
+    }
+
+    @Test
+    public void repeatedStringsAreInterned() {
+        String link = "[a](https://example.com/some/long/path/to/a/page) ";
+        int once = SERIALIZER.serialize(PARSER.parse(link)).length;
+        int tenTimes = SERIALIZER.serialize(PARSER.parse(repeat(link, 10))).length;
+        // The destination is only written once, the other occurrences are references
+        assertTrue(tenTimes + " should be much less than 10 * " + once, tenTimes < once * 4);
+    }
+
+    @Test
+    public void customNode() {
+        NodeSerializer serializer = NodeSerializer.builder().codec(new CustomCodec()).build();
+        Document document = new Document();
+        Paragraph paragraph = new Paragraph();
+        document.appendChild(paragraph);
+        paragraph.appendChild(new Custom("one"));
+        Custom second = new Custom("two");
+        second.appendChild(new Text("child"));
+        paragraph.appendChild(second);
+
+        Node deserialized = serializer.deserialize(serializer.serialize(document));
+        Node first = deserialized.getFirstChild().getFirstChild();
+        assertEquals("one", ((Custom) first).value);
+        assertEquals("two", ((Custom) first.getNext()).value);
+        assertEquals("child", ((Text) first.getNext().getFirstChild()).getLiteral());
+    }
+
+    @Test
+    public void customNodeWithoutCodec() {
+        Document document = new Document();
+        document.appendChild(new Custom("value"));
+        try {
+            SERIALIZER.serialize(document);
+            fail("expected exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(Custom.class.getName()));
+        }
+
+        byte[] bytes = NodeSerializer.builder().codec(new CustomCodec()).build().serialize(document);
+        try {
+            SERIALIZER.deserialize(bytes);
+            fail("expected exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("custom"));
+        }
+    }
+
+    @Test
+    public void coreNodeTypeCantHaveCodec() {
+        try {
+            NodeSerializer.builder().codec(new NodeCodec<Text>() {
+                @Override
+                public Class<Text> getNodeType() {
+                    return Text.class;
+                }
+
+                @Override
+                public String getName() {
+                    return "text";
+                }
+
+                @Override
+                public void write(Text node, NodeOutput output) {
+                }
+
+                @Override
+                public Text read(NodeInput input) {
+                    return new Text();
+                }
+            });
+            fail("expected exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void malformed() {
+        byte[] bytes = SERIALIZER.serialize(PARSER.parse("Some *text* and [a link](/url)"));
+        for (int length = 0; length < bytes.length; length++) {
+            try {
+                SERIALIZER.deserialize(bytes, 0, length);
+                fail("expected exception for length " + length);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        try {
+            SERIALIZER.deserialize("not serialized".getBytes());
+            fail("expected exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        byte[] extra = Arrays.copyOf(bytes, bytes.length + 1);
+        try {
+            SERIALIZER.deserialize(extra);
+            fail("expected exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static void assertRoundTrip(String source) {
+        Node document = PARSER.parse(source);
+        byte[] bytes = SERIALIZER.serialize(document);
+        Node deserialized = SERIALIZER.deserialize(bytes);
+        assertEquals(source, RENDERER.render(document), RENDERER.render(deserialized));
+        assertEquals(source, SourceSpanRenderer.render(document, source), SourceSpanRenderer.render(deserialized, source));
+        // All the fields are written, so they have to be the same if the result is the same
+        assertArrayEquals(source, bytes, SERIALIZER.serialize(deserialized));
+    }
+
+    private static String repeat(String s, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private static class Custom extends CustomNode {
+
+        private final String value;
+
+        Custom(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class CustomCodec implements NodeCodec<Custom> {
+
+        @Override
+        public Class<Custom> getNodeType() {
+            return Custom.class;
+        }
+
+        @Override
+        public String getName() {
+            return "custom";
+        }
+
+        @Override
+        public void write(Custom node, NodeOutput output) {
+            output.writeString(node.value);
+        }
+
+        @Override
+        public Custom read(NodeInput input) {
+            return new Custom(input.readString());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.testutil.TestResources;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compares {@link Parser#parseFile} with {@link Parser#parseReader} for a large file (the spec repeated until the file
+ * is at least 10 MB).
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ParseFileBenchmark {
+
+    private static final String SPEC = TestResources.readAsString(TestResources.getSpec());
+    private static final Parser PARSER = Parser.builder().build();
+
+    @Param({"10"})
+    public int sizeInMegabytes;
+
+    private Path file;
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ParseFileBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("commonmark-benchmark", ".md");
+        long size = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            while (size < sizeInMegabytes * 1024L * 1024L) {
+                writer.write(SPEC);
+                writer.write("\n");
+                size += SPEC.length() + 1;
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Node parseFile() throws IOException {
+        return PARSER.parseFile(file.toFile(), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Node parseReader() throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return PARSER.parseReader(reader);
+        }
+    }
+}
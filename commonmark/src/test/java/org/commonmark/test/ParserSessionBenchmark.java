@@ -0,0 +1,68 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.parser.ParserSession;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+
+/**
+ * Compares parsing lots of small snippets (spec examples) with {@link Parser#parse} and with a
+ * {@link ParserSession} per thread. The score is in snippets per second.
+ */
+@State(Scope.Thread)
+@Fork(2)
+@Threads(4)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ParserSessionBenchmark {
+
+    private static final int SNIPPETS_PER_INVOCATION = 500;
+    private static final List<String> SNIPPETS =
+            ExampleReader.readExampleSources(TestResources.getSpec()).subList(0, SNIPPETS_PER_INVOCATION);
+    private static final Parser PARSER = Parser.builder().build();
+
+    private ParserSession session;
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ParserSessionBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        session = PARSER.newSession();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SNIPPETS_PER_INVOCATION)
+    public long parse() {
+        long count = 0;
+        for (String snippet : SNIPPETS) {
+            Node document = PARSER.parse(snippet);
+            count += document.getFirstChild() == null ? 0 : 1;
+        }
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SNIPPETS_PER_INVOCATION)
+    public long parseWithSession() {
+        long count = 0;
+        for (String snippet : SNIPPETS) {
+            Node document = session.parse(snippet);
+            count += document.getFirstChild() == null ? 0 : 1;
+        }
+        return count;
+    }
+}
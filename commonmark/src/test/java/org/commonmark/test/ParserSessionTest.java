@@ -0,0 +1,86 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.parser.ParserSession;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.testutil.TestResources;
+import org.commonmark.testutil.example.ExampleReader;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+
+public class ParserSessionTest {
+
+    private static final Parser PARSER = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    @Test
+    public void specExamples() {
+        List<String> examples = ExampleReader.readExampleSources(TestResources.getSpec());
+        ParserSession session = PARSER.newSession();
+        for (String example : examples) {
+            Node expected = PARSER.parse(example);
+            Node document = session.parse(example);
+            assertEquals(example, RENDERER.render(expected), RENDERER.render(document));
+            assertEquals(example, SourceSpanRenderer.render(expected, example), SourceSpanRenderer.render(document, example));
+        }
+    }
+
+    @Test
+    public void stateIsNotShared() {
+        ParserSession session = PARSER.newSession();
+        Node first = session.parse("[foo]: /url\n\n```\ncode");
+        Node second = session.parse("[foo]");
+
+        assertNotSame(first, second);
+        assertEquals("<pre><code>code\n</code></pre>\n", RENDERER.render(first));
+        assertEquals("<p>[foo]</p>\n", RENDERER.render(second));
+    }
+
+    @Test
+    public void canBeUsedAfterException() {
+        ParserSession session = PARSER.newSession();
+        Reader failingReader = new Reader() {
+            private boolean read = false;
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                if (!read) {
+                    read = true;
+                    String s = "> quote\n- item";
+                    s.getChars(0, s.length(), cbuf, off);
+                    return s.length();
+                }
+                throw new IOException("failed");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        try {
+            session.parseReader(failingReader);
+            fail("expected exception");
+        } catch (IOException e) {
+            assertEquals("failed", e.getMessage());
+        }
+
+        assertEquals("<p>foo</p>\n", RENDERER.render(session.parse("foo")));
+    }
+
+    @Test
+    public void parseReader() throws IOException {
+        ParserSession session = PARSER.newSession();
+        assertEquals("<h1>foo</h1>\n", RENDERER.render(session.parseReader(new StringReader("# foo"))));
+        assertEquals("<p><em>bar</em></p>\n", RENDERER.render(session.parseReader(new StringReader("*bar*"))));
+    }
+}
@@ -5,17 +5,25 @@ import org.commonmark.parser.*;
 import org.commonmark.parser.block.*;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.testutil.TestResources;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertEquals;
@@ -23,6 +31,9 @@ import static org.junit.Assert.assertThat;
 
 public class ParserTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void ioReaderTest() throws IOException {
         Parser parser = Parser.builder().build();
@@ -40,6 +51,69 @@ public class ParserTest {
         assertEquals(renderer.render(document2), renderer.render(document1));
     }
 
+    @Test
+    public void utf8BytesTest() {
+        Parser parser = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        byte[] bytes = spec.getBytes(StandardCharsets.UTF_8);
+
+        Node document1 = parser.parse(bytes, 0, bytes.length);
+        Node document2 = parser.parse(spec);
+
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        assertEquals(renderer.render(document2), renderer.render(document1));
+        assertEquals(SourceSpanRenderer.render(document2, spec), SourceSpanRenderer.render(document1, spec));
+    }
+
+    @Test
+    public void utf8ByteBuffer() {
+        Parser parser = Parser.builder().build();
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        byte[] bytes = "xx# Überschrift\r\n\r\n*emph* ☃\r\nfoo\u0000bar".getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.position(2);
+        Node document = parser.parse(buffer);
+
+        assertEquals(2, buffer.position());
+        assertEquals("<h1>Überschrift</h1>\n<p><em>emph</em> ☃\nfoo�bar</p>\n", renderer.render(document));
+    }
+
+    @Test
+    public void parseFile() throws IOException {
+        Parser parser = Parser.builder().build();
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        String spec = TestResources.readAsString(TestResources.getSpec());
+
+        File file = temporaryFolder.newFile("spec.md");
+        Files.write(file.toPath(), spec.getBytes(StandardCharsets.UTF_8));
+        Node document = parser.parseFile(file, StandardCharsets.UTF_8);
+
+        assertEquals(renderer.render(parser.parse(spec)), renderer.render(document));
+    }
+
+    @Test
+    public void parseFileWithOtherCharset() throws IOException {
+        Parser parser = Parser.builder().build();
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+
+        File file = temporaryFolder.newFile("latin1.md");
+        Files.write(file.toPath(), "# Größe\r\n\n*Maß*".getBytes(StandardCharsets.ISO_8859_1));
+        Node document = parser.parseFile(file, StandardCharsets.ISO_8859_1);
+
+        assertEquals("<h1>Größe</h1>\n<p><em>Maß</em></p>\n", renderer.render(document));
+    }
+
+    @Test
+    public void parseEmptyFile() throws IOException {
+        Parser parser = Parser.builder().build();
+        File file = temporaryFolder.newFile("empty.md");
+        Node document = parser.parseFile(file, StandardCharsets.UTF_8);
+
+        assertThat(document.getFirstChild(), nullValue());
+    }
+
     @Test
     public void customBlockParserFactory() {
         Parser parser = Parser.builder().customBlockParserFactory(new DashBlockParserFactory()).build();
@@ -52,6 +126,43 @@ public class ParserTest {
         assertThat(document.getLastChild(), instanceOf(DashBlock.class));
     }
 
+    @Test
+    public void customBlockParserFactoryWithTriggerCharacters() {
+        final List<Character> triedCharacters = new ArrayList<>();
+        class PercentBlockParserFactory extends AbstractBlockParserFactory implements TriggerCharacters {
+            @Override
+            public Set<Character> getTriggerCharacters() {
+                return Collections.singleton('%');
+            }
+
+            @Override
+            public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
+                triedCharacters.add(state.getLine().getContent().charAt(state.getNextNonSpaceIndex()));
+                return BlockStart.none();
+            }
+        }
+        Parser parser = Parser.builder().customBlockParserFactory(new PercentBlockParserFactory()).build();
+
+        Node document = parser.parse("> %\n\n  %\n\n# heading\n\n- item");
+
+        assertEquals(Arrays.asList('%', '%'), triedCharacters);
+        assertThat(document.getLastChild(), instanceOf(BulletList.class));
+    }
+
+    @Test
+    public void customBlockParserWithInlines() {
+        Parser parser = Parser.builder().customBlockParserFactory(new PercentBlockParserFactory()).build();
+
+        // Both the parser implementing BlockParserWithInlines and the one that only overrides parseInlines get called
+        Node document = parser.parse("% *inline*\n\n- %% *legacy*\n");
+
+        assertThat(document.getFirstChild(), instanceOf(PercentBlock.class));
+        assertThat(document.getFirstChild().getFirstChild(), instanceOf(Emphasis.class));
+        Node legacy = document.getLastChild().getFirstChild().getFirstChild();
+        assertThat(legacy, instanceOf(PercentBlock.class));
+        assertThat(legacy.getFirstChild(), instanceOf(Emphasis.class));
+    }
+
     @Test
     public void enabledBlockTypes() {
         String given = "# heading 1\n\nnot a heading";
@@ -149,6 +260,43 @@ public class ParserTest {
         }
     }
 
+    @Test
+    public void inlineParsingExecutor() throws Exception {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        Parser sequential = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+        Node expected = sequential.parse(spec);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            Parser parallel = Parser.builder()
+                    .includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES)
+                    .inlineParsingExecutor(executorService, 8)
+                    .build();
+            Node document = parallel.parse(spec);
+
+            HtmlRenderer renderer = HtmlRenderer.builder().build();
+            assertEquals(renderer.render(expected), renderer.render(document));
+            assertEquals(SourceSpanRenderer.render(expected, spec), SourceSpanRenderer.render(document, spec));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void inlineParsingExecutorRejecting() {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        Executor rejecting = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        };
+        Parser parser = Parser.builder().inlineParsingExecutor(rejecting, 4).build();
+
+        HtmlRenderer renderer = HtmlRenderer.builder().build();
+        assertEquals(renderer.render(Parser.builder().build().parse(spec)), renderer.render(parser.parse(spec)));
+    }
+
     private String firstText(Node n) {
         while (!(n instanceof Text)) {
             assertThat(n, notNullValue());
@@ -175,6 +323,60 @@ public class ParserTest {
         }
     }
 
+    private static class PercentBlock extends CustomBlock {
+    }
+
+    private static class LegacyPercentBlockParser extends AbstractBlockParser {
+
+        private final PercentBlock block = new PercentBlock();
+        private final SourceLine content;
+
+        LegacyPercentBlockParser(SourceLine content) {
+            this.content = content;
+        }
+
+        @Override
+        public Block getBlock() {
+            return block;
+        }
+
+        @Override
+        public BlockContinue tryContinue(ParserState parserState) {
+            return BlockContinue.none();
+        }
+
+        @Override
+        public void parseInlines(InlineParser inlineParser) {
+            inlineParser.parse(SourceLines.of(content), block);
+        }
+    }
+
+    private static class PercentBlockParser extends LegacyPercentBlockParser implements BlockParserWithInlines {
+
+        PercentBlockParser(SourceLine content) {
+            super(content);
+        }
+    }
+
+    private static class PercentBlockParserFactory extends AbstractBlockParserFactory {
+
+        @Override
+        public BlockStart tryStart(ParserState state, MatchedBlockParser matchedBlockParser) {
+            SourceLine line = state.getLine();
+            int index = state.getNextNonSpaceIndex();
+            CharSequence content = line.getContent();
+            if (content.length() > index + 2 && content.charAt(index) == '%') {
+                if (content.charAt(index + 1) == '%') {
+                    return BlockStart.of(new LegacyPercentBlockParser(line.substring(index + 3, content.length())))
+                            .atIndex(content.length());
+                }
+                return BlockStart.of(new PercentBlockParser(line.substring(index + 2, content.length())))
+                        .atIndex(content.length());
+            }
+            return BlockStart.none();
+        }
+    }
+
     private static class DashBlockParserFactory extends AbstractBlockParserFactory {
 
         @Override
@@ -0,0 +1,66 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.testutil.TestResources;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Rendering the spec to UTF-8 bytes, via a string and {@link String#getBytes} compared to rendering to an
+ * {@link OutputStream} directly (a stream that discards the bytes, like a socket would from our point of view).
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class RenderBytesBenchmark {
+
+    private static final Node SPEC_NODE = Parser.builder().build().parse(TestResources.readAsString(TestResources.getSpec()));
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(RenderBytesBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public long renderToStringBytes() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        out.write(RENDERER.render(SPEC_NODE).getBytes(StandardCharsets.UTF_8));
+        return out.count;
+    }
+
+    @Benchmark
+    public long renderToOutputStream() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        RENDERER.render(SPEC_NODE, out);
+        return out.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SourceSpan;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.parser.TextEdit;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.testutil.TestResources;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ReparseTest {
+
+    private static final Parser PARSER = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
+
+    private static final List<String> SNIPPETS = Arrays.asList("", "foo", "bar *baz*", "===", "---", "> quote", "- item",
+            "1. item", "    code", "```", "~~~", "<div>", "</div>", "<!--", "-->", "# heading", "[foo]", "[foo]: /url",
+            "  continued", "|a|b|", "\tfoo");
+
+    @Test
+    public void editWithinParagraph() {
+        String input = "# Heading\n\nfoo\nbar\n\n> quote\n\n- item";
+        Node document = PARSER.parse(input);
+        Node list = document.getLastChild();
+
+        Node updated = PARSER.reparse(document, "# Heading\n\nfoo\nbar *baz*\n\n> quote\n\n- item", TextEdit.of(3, 1, 1));
+
+        assertSame(document, updated);
+        // Only the paragraph and the blocks before and after it are parsed again
+        assertSame(list, document.getLastChild());
+        assertEquals("<h1>Heading</h1>\n<p>foo\nbar <em>baz</em></p>\n<blockquote>\n<p>quote</p>\n</blockquote>\n<ul>\n<li>item</li>\n</ul>\n",
+                RENDERER.render(updated));
+    }
+
+    @Test
+    public void insertedLinesShiftSourceSpans() {
+        Node document = PARSER.parse("foo\n\nbar\n\nbaz");
+
+        Node updated = PARSER.reparse(document, "foo\n\nnew\n\nparagraph\n\nbar\n\nbaz", TextEdit.of(2, 0, 4));
+
+        assertSame(document, updated);
+        Node last = updated.getLastChild();
+        assertEquals(Arrays.asList(SourceSpan.of(8, 0, 3)), last.getSourceSpans());
+        assertEquals(Arrays.asList(SourceSpan.of(8, 0, 3)), last.getFirstChild().getSourceSpans());
+    }
+
+    @Test
+    public void changedDefinitionParsesWholeDocument() {
+        Node document = PARSER.parse("[foo]\n\n[foo]: /url\n\n[foo]");
+
+        Node updated = PARSER.reparse(document, "[foo]\n\n[foo]: /other\n\n[foo]", TextEdit.of(2, 1, 1));
+
+        assertNotSame(document, updated);
+        assertEquals("<p><a href=\"/other\">foo</a></p>\n<p><a href=\"/other\">foo</a></p>\n", RENDERER.render(updated));
+    }
+
+    @Test
+    public void openedFenceParsesWholeDocument() {
+        Node document = PARSER.parse("foo\n\nbar\n\nbaz\n\nqux");
+
+        Node updated = PARSER.reparse(document, "foo\n\n```\n\nbar\n\nbaz\n\nqux", TextEdit.of(2, 0, 2));
+
+        assertEquals(RENDERER.render(PARSER.parse("foo\n\n```\n\nbar\n\nbaz\n\nqux")), RENDERER.render(updated));
+        assertEquals(Paragraph.class, updated.getFirstChild().getClass());
+    }
+
+    @Test
+    public void randomEditsOfSpec() {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        // Only use the start of the spec to keep the test fast
+        List<String> lines = new ArrayList<>(Arrays.asList(spec.split("\n")).subList(0, 1500));
+        Random random = new Random(42);
+
+        Node document = PARSER.parse(join(lines));
+        for (int i = 0; i < 200; i++) {
+            int startLine = random.nextInt(lines.size() + 1);
+            int removed = Math.min(random.nextInt(3), lines.size() - startLine);
+            int inserted = random.nextInt(3);
+            for (int j = 0; j < removed; j++) {
+                lines.remove(startLine);
+            }
+            for (int j = 0; j < inserted; j++) {
+                lines.add(startLine + j, randomLine(random, lines));
+            }
+
+            String input = join(lines);
+            TextEdit edit = TextEdit.of(startLine, removed, inserted);
+            document = PARSER.reparse(document, input, edit);
+
+            Node expected = PARSER.parse(input);
+            assertEquals(edit.toString(), RENDERER.render(expected), RENDERER.render(document));
+            assertEquals(edit.toString(), SourceSpanRenderer.render(expected, input), SourceSpanRenderer.render(document, input));
+        }
+    }
+
+    private static String randomLine(Random random, List<String> lines) {
+        if (random.nextBoolean() || lines.isEmpty()) {
+            return SNIPPETS.get(random.nextInt(SNIPPETS.size()));
+        } else {
+            return lines.get(random.nextInt(lines.size()));
+        }
+    }
+
+    private static String join(List<String> lines) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append("\n");
+        }
+        return sb.toString();
+    }
+}
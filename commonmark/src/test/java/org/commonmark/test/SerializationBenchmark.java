@@ -0,0 +1,64 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.serialization.NodeSerializer;
+import org.commonmark.testutil.TestResources;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares getting a document by deserializing it with parsing it again.
+ */
+@State(Scope.Benchmark)
+@Fork(5)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class SerializationBenchmark {
+
+    private static final String SPEC = TestResources.readAsString(TestResources.getSpec());
+    private static final Parser PARSER = Parser.builder().build();
+    private static final Parser PARSER_WITH_SOURCE_SPANS = Parser.builder().includeSourceSpans(IncludeSourceSpans.BLOCKS_AND_INLINES).build();
+    private static final NodeSerializer SERIALIZER = NodeSerializer.builder().build();
+
+    private static final Node SPEC_NODE = PARSER.parse(SPEC);
+    private static final byte[] SPEC_BYTES = SERIALIZER.serialize(SPEC_NODE);
+    private static final byte[] SPEC_BYTES_WITH_SOURCE_SPANS = SERIALIZER.serialize(PARSER_WITH_SOURCE_SPANS.parse(SPEC));
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SerializationBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public Node parseWholeSpec() {
+        return PARSER.parse(SPEC);
+    }
+
+    @Benchmark
+    public Node parseWholeSpecWithSourceSpans() {
+        return PARSER_WITH_SOURCE_SPANS.parse(SPEC);
+    }
+
+    @Benchmark
+    public Node deserializeWholeSpec() {
+        return SERIALIZER.deserialize(SPEC_BYTES);
+    }
+
+    @Benchmark
+    public Node deserializeWholeSpecWithSourceSpans() {
+        return SERIALIZER.deserialize(SPEC_BYTES_WITH_SOURCE_SPANS);
+    }
+
+    @Benchmark
+    public byte[] serializeWholeSpec() {
+        return SERIALIZER.serialize(SPEC_NODE);
+    }
+}
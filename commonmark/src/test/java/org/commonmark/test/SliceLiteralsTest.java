@@ -0,0 +1,107 @@
+package org.commonmark.test;
+
+import org.commonmark.node.*;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.text.TextContentRenderer;
+import org.commonmark.testutil.TestResources;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+public class SliceLiteralsTest {
+
+    private static final Parser PARSER = Parser.builder().build();
+    private static final Parser SLICE_PARSER = Parser.builder().sliceLiterals(true).build();
+
+    @Test
+    public void literalsAreSlices() {
+        Node document = SLICE_PARSER.parse("Some *text* `code` <span>\n\n" +
+                "```\nfenced\ncode\n```\n\n" +
+                "    indented\n\n" +
+                "<div>\nhtml\n</div>\n");
+
+        Paragraph paragraph = (Paragraph) document.getFirstChild();
+        Text text = (Text) paragraph.getFirstChild();
+        assertSlice("Some ", text.getLiteralSequence());
+        assertSlice("text", ((Text) text.getNext().getFirstChild()).getLiteralSequence());
+        Code code = (Code) text.getNext().getNext().getNext();
+        assertSlice("code", code.getLiteralSequence());
+        HtmlInline htmlInline = (HtmlInline) code.getNext().getNext();
+        assertSlice("<span>", htmlInline.getLiteralSequence());
+
+        FencedCodeBlock fencedCodeBlock = (FencedCodeBlock) paragraph.getNext();
+        assertSlice("fenced\ncode\n", fencedCodeBlock.getLiteralSequence());
+        IndentedCodeBlock indentedCodeBlock = (IndentedCodeBlock) fencedCodeBlock.getNext();
+        assertSlice("indented\n", indentedCodeBlock.getLiteralSequence());
+        HtmlBlock htmlBlock = (HtmlBlock) indentedCodeBlock.getNext();
+        assertSlice("<div>\nhtml\n</div>", htmlBlock.getLiteralSequence());
+    }
+
+    @Test
+    public void getLiteralConverts() {
+        Node document = SLICE_PARSER.parse("text");
+        Text text = (Text) document.getFirstChild().getFirstChild();
+        assertFalse(text.getLiteralSequence() instanceof String);
+
+        assertEquals("text", text.getLiteral());
+        assertSame(text.getLiteral(), text.getLiteralSequence());
+        assertEquals("Text{literal=text}", text.toString());
+
+        text.setLiteral("other");
+        assertEquals("other", text.getLiteralSequence());
+    }
+
+    @Test
+    public void mergedTextStaysSlice() {
+        // The delimiter isn't emphasis, so it's merged with the surrounding text
+        Node document = SLICE_PARSER.parse("a * b");
+        Text text = (Text) document.getFirstChild().getFirstChild();
+        assertNull(text.getNext());
+        assertSlice("a * b", text.getLiteralSequence());
+    }
+
+    @Test
+    public void notContiguousIsCopied() {
+        // The block quote markers are between the lines
+        Node document = SLICE_PARSER.parse("> ```\n> one\n> two\n> ```\n");
+        FencedCodeBlock fencedCodeBlock = (FencedCodeBlock) document.getFirstChild().getFirstChild();
+        assertEquals("one\ntwo\n", fencedCodeBlock.getLiteralSequence().toString());
+        assertTrue(fencedCodeBlock.getLiteralSequence() instanceof String);
+    }
+
+    @Test
+    public void defaultIsStrings() {
+        Node document = PARSER.parse("text `code`");
+        Text text = (Text) document.getFirstChild().getFirstChild();
+        assertTrue(text.getLiteralSequence() instanceof String);
+        assertTrue(((Code) text.getNext()).getLiteralSequence() instanceof String);
+    }
+
+    @Test
+    public void reader() throws IOException {
+        String input = "# Heading\n\nparagraph with `code`\n";
+        Node document = SLICE_PARSER.parseReader(new StringReader(input));
+        Text text = (Text) document.getFirstChild().getFirstChild();
+        assertSlice("Heading", text.getLiteralSequence());
+        assertEquals(render(PARSER.parse(input)), render(document));
+    }
+
+    @Test
+    public void textContent() {
+        String spec = TestResources.readAsString(TestResources.getSpec());
+        TextContentRenderer renderer = TextContentRenderer.builder().build();
+        assertEquals(renderer.render(PARSER.parse(spec)), renderer.render(SLICE_PARSER.parse(spec)));
+    }
+
+    private static String render(Node node) {
+        return TextContentRenderer.builder().build().render(node);
+    }
+
+    private static void assertSlice(String expected, CharSequence literal) {
+        assertFalse(literal + " should be a slice", literal instanceof String);
+        assertEquals(expected, literal.toString());
+    }
+}
@@ -0,0 +1,81 @@
+package org.commonmark.test;
+
+import org.commonmark.node.Node;
+import org.commonmark.parser.IncludeSourceSpans;
+import org.commonmark.parser.Parser;
+import org.commonmark.testutil.TestResources;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares parsing with the different {@link IncludeSourceSpans} settings. Before running the benchmarks, the
+ * {@code main} method prints the memory that a parsed document retains for each setting (use {@code -prof gc} for
+ * the allocation rate while parsing).
+ */
+@State(Scope.Benchmark)
+@Fork(5)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class SourceSpansBenchmark {
+
+    private static final String SPEC = TestResources.readAsString(TestResources.getSpec());
+
+    @Param({"NONE", "BLOCKS", "BLOCKS_AND_INLINES"})
+    public IncludeSourceSpans includeSourceSpans;
+
+    private Parser parser;
+
+    public static void main(String[] args) throws Exception {
+        for (IncludeSourceSpans includeSourceSpans : IncludeSourceSpans.values()) {
+            System.out.println(includeSourceSpans + ": " + retainedBytesPerDocument(includeSourceSpans) + " bytes retained per document");
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SourceSpansBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        parser = Parser.builder().includeSourceSpans(includeSourceSpans).build();
+    }
+
+    @Benchmark
+    public Node parseWholeSpec() {
+        return parser.parse(SPEC);
+    }
+
+    private static long retainedBytesPerDocument(IncludeSourceSpans includeSourceSpans) throws InterruptedException {
+        Parser parser = Parser.builder().includeSourceSpans(includeSourceSpans).build();
+        for (int i = 0; i < 10; i++) {
+            parser.parse(SPEC);
+        }
+
+        int count = 100;
+        Node[] documents = new Node[count];
+        long before = usedMemory();
+        for (int i = 0; i < count; i++) {
+            documents[i] = parser.parse(SPEC);
+        }
+        long after = usedMemory();
+        // Keep the documents reachable until after the measurement
+        if (documents[count - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return (after - before) / count;
+    }
+
+    private static long usedMemory() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -6,8 +6,11 @@ import org.commonmark.parser.Parser;
 import org.junit.Test;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 
@@ -284,6 +287,56 @@ public class SourceSpansTest {
         return SourceSpanRenderer.render(document, source);
     }
 
+    @Test
+    public void nodeSourceSpans() {
+        Paragraph paragraph = new Paragraph();
+        assertEquals(Collections.<SourceSpan>emptyList(), paragraph.getSourceSpans());
+
+        List<SourceSpan> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            SourceSpan sourceSpan = SourceSpan.of(i, i % 3, 80 - i);
+            paragraph.addSourceSpan(sourceSpan);
+            expected.add(sourceSpan);
+        }
+        assertEquals(expected, paragraph.getSourceSpans());
+        assertEquals(SourceSpan.of(42, 0, 38), paragraph.getSourceSpans().get(42));
+
+        Text text = new Text("text");
+        text.setSourceSpans(paragraph.getSourceSpans());
+        assertEquals(expected, text.getSourceSpans());
+        text.setSourceSpans(Arrays.asList(SourceSpan.of(1, 2, 3)));
+        assertEquals(Arrays.asList(SourceSpan.of(1, 2, 3)), text.getSourceSpans());
+        // The other node still has its own spans
+        assertEquals(expected, paragraph.getSourceSpans());
+
+        text.setSourceSpans(Collections.<SourceSpan>emptyList());
+        assertEquals(Collections.<SourceSpan>emptyList(), text.getSourceSpans());
+    }
+
+    @Test
+    public void nullSourceSpansAreIgnored() {
+        Paragraph paragraph = new Paragraph();
+        paragraph.addSourceSpan(null);
+        assertEquals(Collections.<SourceSpan>emptyList(), paragraph.getSourceSpans());
+
+        paragraph.addSourceSpan(SourceSpan.of(0, 0, 3));
+        paragraph.addSourceSpan(null);
+        paragraph.addSourceSpan(SourceSpan.of(1, 0, 4));
+        assertEquals(Arrays.asList(SourceSpan.of(0, 0, 3), SourceSpan.of(1, 0, 4)), paragraph.getSourceSpans());
+
+        paragraph.setSourceSpans(Arrays.asList(null, SourceSpan.of(2, 0, 5)));
+        assertEquals(Arrays.asList(SourceSpan.of(2, 0, 5)), paragraph.getSourceSpans());
+        paragraph.setSourceSpans(Collections.<SourceSpan>singletonList(null));
+        assertEquals(Collections.<SourceSpan>emptyList(), paragraph.getSourceSpans());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void nodeSourceSpansAreReadOnly() {
+        Text text = new Text("text");
+        text.addSourceSpan(SourceSpan.of(0, 0, 4));
+        text.getSourceSpans().add(SourceSpan.of(1, 0, 4));
+    }
+
     private static void assertSpans(String input, Class<? extends Node> nodeClass, SourceSpan... expectedSourceSpans) {
         assertSpans(PARSER.parse(input), nodeClass, expectedSourceSpans);
     }
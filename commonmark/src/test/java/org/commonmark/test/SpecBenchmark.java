@@ -1,6 +1,8 @@
 package org.commonmark.test;
 
+import org.commonmark.node.Heading;
 import org.commonmark.node.Node;
+import org.commonmark.node.Text;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.commonmark.testutil.TestResources;
@@ -11,6 +13,7 @@ import org.openjdk.jmh.runner.options.CommandLineOptions;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,6 +26,8 @@ public class SpecBenchmark {
     private static final String SPEC = TestResources.readAsString(TestResources.getSpec());
     private static final List<String> SPEC_EXAMPLES = ExampleReader.readExampleSources(TestResources.getSpec());
     private static final Parser PARSER = Parser.builder().build();
+    private static final Parser SLICE_LITERALS_PARSER = Parser.builder().sliceLiterals(true).build();
+    private static final Parser LAZY_INLINES_PARSER = Parser.builder().lazyInlines(true).build();
     private static final HtmlRenderer RENDERER = HtmlRenderer.builder().build();
 
     private static final Node SPEC_NODE = PARSER.parse(SPEC);
@@ -40,6 +45,26 @@ public class SpecBenchmark {
         return parse(Collections.singletonList(SPEC));
     }
 
+    @Benchmark
+    public Node parseWholeSpecWithSliceLiterals() {
+        return SLICE_LITERALS_PARSER.parse(SPEC);
+    }
+
+    @Benchmark
+    public Node parseWholeSpecWithLazyInlines() {
+        return LAZY_INLINES_PARSER.parse(SPEC);
+    }
+
+    @Benchmark
+    public List<String> headingsOfWholeSpec() {
+        return headings(PARSER.parse(SPEC));
+    }
+
+    @Benchmark
+    public List<String> headingsOfWholeSpecWithLazyInlines() {
+        return headings(LAZY_INLINES_PARSER.parse(SPEC));
+    }
+
     @Benchmark
     public long parseExamples() {
         return parse(SPEC_EXAMPLES);
@@ -69,6 +94,23 @@ public class SpecBenchmark {
         return length;
     }
 
+    private static List<String> headings(Node document) {
+        // Only the inline content of the headings is needed
+        List<String> headings = new ArrayList<>();
+        for (Node block = document.getFirstChild(); block != null; block = block.getNext()) {
+            if (block instanceof Heading) {
+                StringBuilder sb = new StringBuilder();
+                for (Node child = block.getFirstChild(); child != null; child = child.getNext()) {
+                    if (child instanceof Text) {
+                        sb.append(((Text) child).getLiteralSequence());
+                    }
+                }
+                headings.add(sb.toString());
+            }
+        }
+        return headings;
+    }
+
     private static long parse(List<String> examples) {
         long length = 0;
         for (String example : examples) {
@@ -0,0 +1,25 @@
+package org.commonmark.test;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.commonmark.testutil.SpecTestCase;
+import org.commonmark.testutil.example.Example;
+
+/**
+ * Same as {@link SpecCoreTest} but with literals that are slices of the input.
+ */
+public class SpecSliceLiteralsCoreTest extends SpecTestCase {
+
+    private static final Parser PARSER = Parser.builder().sliceLiterals(true).build();
+    // The spec says URL-escaping is optional, but the examples assume that it's enabled.
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder().percentEncodeUrls(true).build();
+
+    public SpecSliceLiteralsCoreTest(Example example) {
+        super(example);
+    }
+
+    @Override
+    protected String render(String source) {
+        return RENDERER.render(PARSER.parse(source));
+    }
+}
@@ -0,0 +1,125 @@
+package org.commonmark.test;
+
+import org.commonmark.internal.util.Escaping;
+import org.commonmark.internal.util.Html5Entities;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link Escaping#unescapeString} with the previous regex-based implementation, on the link destinations and
+ * titles of a link-dense document. Also includes parsing the whole document.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class UnescapeBenchmark {
+
+    private static final List<String> DESTINATIONS_AND_TITLES = createDestinationsAndTitles();
+    private static final String LINKS = createDocument();
+    private static final Parser PARSER = Parser.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(UnescapeBenchmark.class.getName() + ".*")
+                .build();
+        new Runner(options).run();
+    }
+
+    @Benchmark
+    public long unescape() {
+        long length = 0;
+        for (String s : DESTINATIONS_AND_TITLES) {
+            length += Escaping.unescapeString(s).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long unescapeRegex() {
+        long length = 0;
+        for (String s : DESTINATIONS_AND_TITLES) {
+            length += RegexUnescaper.unescapeString(s).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public Node parseLinks() {
+        return PARSER.parse(LINKS);
+    }
+
+    private static List<String> createDestinationsAndTitles() {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add("https://example.com/page/" + i);
+            list.add("Title " + i);
+            list.add("/search?q=" + i + "&amp;page=2");
+            list.add("Title with \\\"quotes\\\" &amp; entities &#169; &#x2014; " + i);
+            list.add("/path\\(with\\)parens/" + i);
+            list.add("R&D department &copy; " + i);
+        }
+        return list;
+    }
+
+    private static String createDocument() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append("See [link ").append(i).append("](https://example.com/page/").append(i).append(" \"Title ").append(i).append("\"), ");
+            sb.append("[search](/search?q=").append(i).append("&amp;page=2 'Title with \\'quotes\\' &amp; &#169;') and ");
+            sb.append("[ref ").append(i).append("] or ![image](/path\\(with\\)parens/").append(i).append(".png).\n\n");
+            sb.append("[ref ").append(i).append("]: /reference/").append(i).append(" \"R&D &copy; ").append(i).append("\"\n\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The previous implementation of {@link Escaping#unescapeString}, for comparison.
+     */
+    private static class RegexUnescaper {
+
+        private static final Pattern BACKSLASH_OR_AMP = Pattern.compile("[\\\\&]");
+
+        private static final Pattern ENTITY_OR_ESCAPED_CHAR =
+                Pattern.compile("\\\\" + Escaping.ESCAPABLE + '|' + Escaping.ENTITY, Pattern.CASE_INSENSITIVE);
+
+        static String unescapeString(String s) {
+            if (!BACKSLASH_OR_AMP.matcher(s).find()) {
+                return s;
+            }
+            Matcher matcher = ENTITY_OR_ESCAPED_CHAR.matcher(s);
+            if (!matcher.find()) {
+                return s;
+            }
+
+            StringBuilder sb = new StringBuilder(s.length() + 16);
+            int lastEnd = 0;
+            do {
+                sb.append(s, lastEnd, matcher.start());
+                String input = matcher.group();
+                if (input.charAt(0) == '\\') {
+                    sb.append(input, 1, input.length());
+                } else {
+                    sb.append(Html5Entities.entityToString(input));
+                }
+                lastEnd = matcher.end();
+            } while (matcher.find());
+
+            if (lastEnd != s.length()) {
+                sb.append(s, lastEnd, s.length());
+            }
+            return sb.toString();
+        }
+    }
+}